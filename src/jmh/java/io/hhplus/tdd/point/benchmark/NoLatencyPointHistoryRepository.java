@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PointHistoryTable의 지연(throttle) 없이 동작하는 벤치마크용 PointHistoryRepository
+ * - 측정 대상은 쓰기 경로이므로 내역은 보관하지 않고 id만 발급한다.
+ */
+public class NoLatencyPointHistoryRepository implements PointHistoryRepository {
+
+    private final AtomicLong cursor = new AtomicLong(1);
+
+    @Override
+    public PointHistory insert(PointHistory pointHistory) {
+        return new PointHistory(cursor.getAndIncrement(), pointHistory.userId(),
+            pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<PointHistory> selectByUserId(long userId, PointHistoryQuery query) {
+        return Collections.emptyList();
+    }
+}
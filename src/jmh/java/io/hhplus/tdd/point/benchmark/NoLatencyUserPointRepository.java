@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.repository.ConditionalUserPointRepository;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UserPointTable의 지연(throttle) 없이 동작하는 벤치마크용 UserPointRepository
+ */
+public class NoLatencyUserPointRepository implements ConditionalUserPointRepository {
+
+    private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<UserPoint> selectById(long id) {
+        return Optional.ofNullable(table.get(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(UserPoint userPoint) {
+        UserPoint saved = new UserPoint(userPoint.id(), userPoint.point(), System.currentTimeMillis());
+        table.put(saved.id(), saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<UserPoint> compareAndSet(UserPoint expected, UserPoint updated) {
+        UserPoint saved = new UserPoint(updated.id(), updated.point(), System.currentTimeMillis());
+        UserPoint result = table.compute(saved.id(),
+            (id, current) -> Objects.equals(current, expected) ? saved : current);
+        return result == saved ? Optional.of(saved) : Optional.empty();
+    }
+}
@@ -0,0 +1,254 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.repository.PointHistoryInMemoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryIndex;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointInMemoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointWriteBehindRepository;
+import io.hhplus.tdd.point.repository.WriteBehindProperties;
+import io.hhplus.tdd.point.service.AdmissionProperties;
+import io.hhplus.tdd.point.service.BatchProperties;
+import io.hhplus.tdd.point.service.CombiningProperties;
+import io.hhplus.tdd.point.service.ExecutionProperties;
+import io.hhplus.tdd.point.service.IdempotencyProperties;
+import io.hhplus.tdd.point.service.IdempotencyStore;
+import io.hhplus.tdd.point.service.LockProperties;
+import io.hhplus.tdd.point.service.LockingMutationExecutor;
+import io.hhplus.tdd.point.service.MailboxMutationExecutor;
+import io.hhplus.tdd.point.service.OptimisticMutationExecutor;
+import io.hhplus.tdd.point.service.OptimisticProperties;
+import io.hhplus.tdd.point.service.PointBatchExecutor;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.service.PointAdmissionControl;
+import io.hhplus.tdd.point.service.PointMutationExecutor;
+import io.hhplus.tdd.point.service.PointOperationCombiner;
+import io.hhplus.tdd.point.service.PointReadCache;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointWriteExecutor;
+import io.hhplus.tdd.point.service.ReadCacheProperties;
+import io.hhplus.tdd.point.service.RefCountedUserLockProvider;
+import io.hhplus.tdd.point.service.StripedUserLockProvider;
+import io.hhplus.tdd.point.service.WriteProperties;
+import io.hhplus.tdd.point.service.concurrency.ConcurrencyControlPointService;
+import io.hhplus.tdd.point.service.concurrency.PointServiceWithReentrantLock;
+import io.hhplus.tdd.point.service.concurrency.PointServiceWithSelectiveLock;
+import io.hhplus.tdd.point.service.concurrency.PointServiceWithSynchronized;
+import io.hhplus.tdd.point.validator.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 동시성 제어 방식별 PointService 처리량 비교
+ * - strategy : 비교 대상 (test 소스의 PointServiceWith* 및 운영 PointService 구성, service-optimistic은 락 없는 CAS 재시도,
+ *   service-parallel-write는 ref-counted 락 안에서 잔액/내역을 동시에 저장, service-combining은 같은 유저의 대기 요청을
+ *   락 한 번으로 모아서 적용)
+ * - distribution : hot-user(모든 스레드가 한 유저), many-users(스레드마다 서로 다른 유저 다수)
+ * - latency : zero(지연 없는 저장소), table(UserPointTable/PointHistoryTable의 throttle 포함)
+ * 스레드 수는 chargeAndUse_*threads 메서드별로 나누어 측정한다.
+ *
+ * 실행 : ./gradlew jmh
+ *       table 지연을 포함한 측정은 매우 오래 걸리므로 기본값에서 제외했다.
+ *       필요하면 build.gradle.kts의 jmh { benchmarkParameters } 로 latency=table을 지정해 따로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointServiceBenchmark {
+
+    private static final int MANY_USERS_COUNT = 10_000;
+
+    // 처리량 제한 없이 실행기/락 자체의 처리량을 측정한다.
+    private static final AdmissionProperties NO_ADMISSION_LIMIT =
+        new AdmissionProperties(0, 0, 0, 0, 0, Duration.ZERO);
+
+    @Param({"synchronized", "reentrant-lock", "selective-lock",
+        "service-ref-counted", "service-striped", "service-mailbox", "service-optimistic",
+        "service-parallel-write", "service-combining"})
+    public String strategy;
+
+    @Param({"hot-user", "many-users"})
+    public String distribution;
+
+    @Param({"zero"})
+    public String latency;
+
+    private PointOperations operations;
+    private PointBatchExecutor batchExecutor;
+    private PointWriteExecutor writeExecutor;
+    private MailboxMutationExecutor mailboxExecutor;
+    private PointMetrics pointMetrics;
+    private UserPointWriteBehindRepository writeBehindRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UserPointRepository userPointRepository = userPointRepository();
+        PointHistoryRepository pointHistoryRepository = "table".equals(latency)
+            ? new PointHistoryInMemoryRepository(new PointHistoryTable(), new PointHistoryIndex())
+            : new NoLatencyPointHistoryRepository();
+        PointValidator pointValidator = new PointValidator();
+        pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
+        operations = switch (strategy) {
+            case "synchronized" -> of(new PointServiceWithSynchronized(
+                userPointRepository, pointHistoryRepository, pointValidator));
+            case "reentrant-lock" -> of(new PointServiceWithReentrantLock(
+                userPointRepository, pointHistoryRepository, pointValidator));
+            case "selective-lock" -> of(new PointServiceWithSelectiveLock(
+                userPointRepository, pointHistoryRepository, pointValidator));
+            case "service-ref-counted", "service-parallel-write", "service-combining" -> of(pointService(userPointRepository,
+                pointHistoryRepository, pointValidator,
+                new LockingMutationExecutor(new RefCountedUserLockProvider(), pointMetrics,
+                    NO_ADMISSION_LIMIT)));
+            case "service-striped" -> of(pointService(userPointRepository,
+                pointHistoryRepository, pointValidator,
+                new LockingMutationExecutor(new StripedUserLockProvider(new LockProperties(1024)),
+                    pointMetrics, NO_ADMISSION_LIMIT)));
+            case "service-mailbox" -> {
+                mailboxExecutor = new MailboxMutationExecutor(
+                    new ExecutionProperties(Runtime.getRuntime().availableProcessors(), 100_000),
+                    false);
+                yield of(pointService(userPointRepository, pointHistoryRepository,
+                    pointValidator, mailboxExecutor));
+            }
+            case "service-optimistic" -> of(pointService(userPointRepository,
+                pointHistoryRepository, pointValidator,
+                new OptimisticMutationExecutor(userPointRepository,
+                    new OptimisticProperties(16, Duration.ofMillis(1)), pointMetrics)));
+            default -> throw new IllegalArgumentException("unknown strategy: " + strategy);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        if (batchExecutor != null) {
+            batchExecutor.shutdown();
+        }
+        if (writeExecutor != null) {
+            writeExecutor.shutdown();
+        }
+        if (mailboxExecutor != null) {
+            mailboxExecutor.shutdown();
+        }
+        if (writeBehindRepository != null) {
+            writeBehindRepository.shutdown();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void chargeAndUse_1thread() {
+        chargeAndUse();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void chargeAndUse_4threads() {
+        chargeAndUse();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void chargeAndUse_16threads() {
+        chargeAndUse();
+    }
+
+    /**
+     * 충전 후 같은 금액을 사용해 잔액이 최대 금액을 넘거나 부족해지지 않도록 한다.
+     */
+    private void chargeAndUse() {
+        long userId = "hot-user".equals(distribution)
+            ? 1L
+            : ThreadLocalRandom.current().nextInt(MANY_USERS_COUNT);
+        operations.charge(userId, 1L);
+        operations.use(userId, 1L);
+    }
+
+    /**
+     * optimistic은 compareAndSet이 필요하므로 table 지연을 포함할 때는 UserPointTable 앞에 write-behind 캐시를 둔다.
+     */
+    private UserPointRepository userPointRepository() {
+        if (!"table".equals(latency)) {
+            return new NoLatencyUserPointRepository();
+        }
+        if ("service-optimistic".equals(strategy)) {
+            writeBehindRepository = new UserPointWriteBehindRepository(new UserPointTable(),
+                new WriteBehindProperties(Duration.ofMillis(100), Duration.ofSeconds(1),
+                    Duration.ofMinutes(10)));
+            return writeBehindRepository;
+        }
+        return new UserPointInMemoryRepository(new UserPointTable());
+    }
+
+    private PointService pointService(UserPointRepository userPointRepository,
+        PointHistoryRepository pointHistoryRepository, PointValidator pointValidator,
+        PointMutationExecutor mutationExecutor) {
+        batchExecutor = new PointBatchExecutor(new BatchProperties(1));
+        writeExecutor = new PointWriteExecutor(
+            new WriteProperties("service-parallel-write".equals(strategy), 64), pointMetrics, false);
+        return new PointService(userPointRepository, pointHistoryRepository, pointValidator,
+            mutationExecutor, batchExecutor, writeExecutor,
+            new PointOperationCombiner(
+                new CombiningProperties("service-combining".equals(strategy), 64), pointMetrics),
+            new PointAdmissionControl(NO_ADMISSION_LIMIT, pointMetrics, new SimpleMeterRegistry()),
+            pointMetrics,
+            new PointReadCache(new ReadCacheProperties(true, 100_000L, 10_000L, Duration.ofSeconds(10)),
+                new SimpleMeterRegistry()),
+            new IdempotencyStore(new IdempotencyProperties(100_000L, Duration.ofMinutes(10)),
+                new SimpleMeterRegistry()));
+    }
+
+    private static PointOperations of(ConcurrencyControlPointService service) {
+        return new PointOperations() {
+            @Override
+            public void charge(long id, long amount) {
+                service.charge(id, amount);
+            }
+
+            @Override
+            public void use(long id, long amount) {
+                service.use(id, amount);
+            }
+        };
+    }
+
+    private static PointOperations of(PointService service) {
+        return new PointOperations() {
+            @Override
+            public void charge(long id, long amount) {
+                service.charge(id, amount);
+            }
+
+            @Override
+            public void use(long id, long amount) {
+                service.use(id, amount);
+            }
+        };
+    }
+
+    private interface PointOperations {
+        void charge(long id, long amount);
+        void use(long id, long amount);
+    }
+}
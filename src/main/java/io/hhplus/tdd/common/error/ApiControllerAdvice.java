@@ -1,5 +1,6 @@
 package io.hhplus.tdd.common.error;
 
+import io.hhplus.tdd.common.exception.ApplicationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -7,8 +8,28 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    @ExceptionHandler(value = ApplicationException.class)
+    public ResponseEntity<ErrorResponse> handleApplicationException(ApplicationException e) {
+        ErrorResponse errorResponse = e.getErrorCode().toErrorResponse();
+        return ResponseEntity.status(statusOf(errorResponse.code())).body(errorResponse);
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
     }
+
+    /**
+     * 에러 코드는 "{HTTP 상태 코드}_{순번}" 형식이므로 앞부분을 응답 상태 코드로 쓴다.
+     * 형식이 다르면 500으로 응답한다.
+     */
+    private static int statusOf(String code) {
+        int separator = code.indexOf('_');
+        try {
+            int status = Integer.parseInt(separator < 0 ? code : code.substring(0, separator));
+            return status >= 400 && status < 600 ? status : 500;
+        } catch (NumberFormatException e) {
+            return 500;
+        }
+    }
 }
@@ -1,17 +1,30 @@
 package io.hhplus.tdd.point.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hhplus.tdd.common.response.ApiResponse;
+import io.hhplus.tdd.point.dto.PointDto.BatchRequest;
+import io.hhplus.tdd.point.dto.PointDto.BatchResult;
 import io.hhplus.tdd.point.dto.PointDto.ChargeRequest;
 import io.hhplus.tdd.point.dto.PointDto.PointDetail;
 import io.hhplus.tdd.point.dto.PointDto.PointHistoryDetail;
+import io.hhplus.tdd.point.dto.PointDto.PointHistoryPage;
 import io.hhplus.tdd.point.dto.PointDto.UseRequest;
+import io.hhplus.tdd.point.model.TransactionType;
 import io.hhplus.tdd.point.service.PointService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @RequiredArgsConstructor
 @RestController
@@ -20,7 +33,16 @@ public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    // 페이지 조건 중 limit만 빠진 내역 조회의 페이지 크기
+    private static final int DEFAULT_HISTORY_LIMIT = 100;
+
+    // 같은 key로 재시도한 충전/사용은 다시 적용하지 않고 처음 결과를 돌려준다.
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final PointService pointService;
+    private final ObjectMapper objectMapper;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -35,36 +57,102 @@ public class PointController {
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * - 페이지 조건(cursor, limit, from, to)이 하나도 없으면 기존과 같이 전체 내역 목록을 응답한다.
+     * - 하나라도 있으면 PointHistoryPage(histories, nextCursor)로 응답하며, limit이 없으면 100건씩 나눈다.
      */
     @GetMapping("{id}/histories")
-    public ApiResponse<List<PointHistoryDetail>> history(
-            @PathVariable long id
+    public ApiResponse<?> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
     ) {
-        List<PointHistoryDetail> results = pointService.getUserPointHistories(id);
-        return ApiResponse.defaultOk(results);
+        if (cursor == null && limit == null && from == null && to == null) {
+            List<PointHistoryDetail> result = pointService.getUserPointHistories(id);
+            return ApiResponse.defaultOk(result);
+        }
+
+        PointHistoryPage result = pointService.getUserPointHistories(id, cursor,
+            limit != null ? limit : DEFAULT_HISTORY_LIMIT, from, to);
+        return ApiResponse.defaultOk(result);
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/이용 내역을 한 줄에 하나씩 JSON(NDJSON)으로 내려준다.
+     * 내역을 모아두지 않고 조회하는 대로 응답 스트림에 바로 쓴다.
+     * 조회 조건은 200 응답이 나가기 전에 확인해, 잘못된 조건이면 에러 응답을 내려준다.
+     */
+    @GetMapping(value = "histories/export", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportHistories(
+            @RequestParam Set<Long> userIds,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        pointService.checkExportQuery(from, to);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // 줄 사이에는 writeLine의 줄바꿈만 두고, 기본 root value 구분자(공백)는 쓰지 않는다.
+                generator.setRootValueSeparator(null);
+                pointService.exportHistories(userIds, type, from, to,
+                    history -> writeLine(generator, history));
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+            .body(body);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * - future를 반환하지만 요청 스레드가 풀려나는 것은 mailbox 모드뿐이다.
+     *   lock, optimistic 모드와 combining(point.execution.combining.enabled=true)에서는 요청 스레드가 충전을 마친 뒤
+     *   이미 완료된 future를 반환한다. (combining은 요청 스레드가 결합에 참여해야 한다)
      */
     @PatchMapping("{id}/charge")
-    public ApiResponse<PointDetail> charge(
+    public CompletableFuture<ApiResponse<PointDetail>> charge(
             @PathVariable long id,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody ChargeRequest request
     ) {
-        PointDetail result = pointService.charge(id, request.getAmount());
-        return ApiResponse.defaultOk(result);
+        return pointService.chargeAsync(id, request.getAmount(), idempotencyKey)
+            .thenApply(ApiResponse::defaultOk);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * - 요청 스레드가 풀려나는 조건은 charge와 같다.
      */
     @PatchMapping("{id}/use")
-    public ApiResponse<PointDetail> use(
+    public CompletableFuture<ApiResponse<PointDetail>> use(
             @PathVariable long id,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody UseRequest request
     ) {
-        PointDetail result = pointService.use(id, request.getAmount());
-        return ApiResponse.defaultOk(result);
+        return pointService.useAsync(id, request.getAmount(), idempotencyKey)
+            .thenApply(ApiResponse::defaultOk);
+    }
+
+    /**
+     * 여러 유저에 대한 충전/사용 요청을 한 번에 처리하고, 요청 순서대로 건별 결과를 반환한다.
+     */
+    @PostMapping("batch")
+    public ApiResponse<List<BatchResult>> batch(
+            @RequestBody BatchRequest request
+    ) {
+        List<BatchResult> results = pointService.executeBatch(request.getOperations());
+        return ApiResponse.defaultOk(results);
+    }
+
+    private void writeLine(JsonGenerator generator, PointHistoryDetail history) {
+        try {
+            generator.writeObject(history);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
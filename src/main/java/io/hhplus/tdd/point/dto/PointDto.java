@@ -1,8 +1,10 @@
 package io.hhplus.tdd.point.dto;
 
+import io.hhplus.tdd.common.error.ErrorResponse;
 import io.hhplus.tdd.point.model.PointHistory;
 import io.hhplus.tdd.point.model.TransactionType;
 import io.hhplus.tdd.point.model.UserPoint;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -50,6 +52,30 @@ public class PointDto {
         }
     }
 
+    @Getter
+    public static class PointHistoryPage {
+        private final List<PointHistoryDetail> histories;
+        private final Long nextCursor; // 다음 페이지가 없으면 null
+
+        private PointHistoryPage(List<PointHistoryDetail> histories, Long nextCursor) {
+            this.histories = histories;
+            this.nextCursor = nextCursor;
+        }
+
+        /**
+         * limit보다 한 건 더 조회한 결과를 받아 다음 페이지 존재 여부를 판단한다.
+         */
+        public static PointHistoryPage of(List<PointHistory> pointHistories, int limit) {
+            boolean hasNext = pointHistories.size() > limit;
+            List<PointHistoryDetail> histories = pointHistories.stream()
+                .limit(limit)
+                .map(PointHistoryDetail::of)
+                .toList();
+            Long nextCursor = hasNext ? histories.get(histories.size() - 1).getId() : null;
+            return new PointHistoryPage(histories, nextCursor);
+        }
+    }
+
     @AllArgsConstructor
     @NoArgsConstructor
     @Getter
@@ -63,4 +89,46 @@ public class PointDto {
     public static class UseRequest {
         private long amount;
     }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    public static class BatchRequest {
+        private List<BatchOperation> operations;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    public static class BatchOperation {
+        private long userId;
+        private long amount;
+        private TransactionType type;
+    }
+
+    @Getter
+    public static class BatchResult {
+        private final int index; // 요청 operations 안에서의 순서
+        private final long userId;
+        private final boolean success;
+        private final PointDetail point; // 실패 시 null
+        private final ErrorResponse error; // 성공 시 null
+
+        private BatchResult(int index, long userId, boolean success, PointDetail point,
+            ErrorResponse error) {
+            this.index = index;
+            this.userId = userId;
+            this.success = success;
+            this.point = point;
+            this.error = error;
+        }
+
+        public static BatchResult success(int index, long userId, PointDetail point) {
+            return new BatchResult(index, userId, true, point, null);
+        }
+
+        public static BatchResult failure(int index, long userId, ErrorResponse error) {
+            return new BatchResult(index, userId, false, null, error);
+        }
+    }
 }
@@ -12,7 +12,20 @@ public enum PointErrorCode implements ApplicationErrorCode {
     INVALID_POINT_AMOUNT("400_1", "금액은 음수이거나 0이면 안됩니다."),
     INSUFFICIENT_POINT_BALANCE("400_2", "잔액이 부족합니다."),
     EXCEED_POINT_BALANCE("400_3", "잔액이 초과되었습니다."),
-    NOT_FOUND_USER_POINT("404_1", "UserPoint를 찾을 수 없습니다.");
+    INVALID_HISTORY_QUERY("400_4", "내역 조회 조건이 올바르지 않습니다."),
+    INVALID_BATCH_REQUEST("400_5", "일괄 처리 요청이 올바르지 않습니다."),
+    INVALID_IDEMPOTENCY_KEY("400_6", "Idempotency-Key가 올바르지 않습니다."),
+    MIXED_ROUTING_OWNERS("400_7", "서로 다른 노드가 담당하는 유저를 한 요청에 담을 수 없습니다."),
+    NOT_FOUND_USER_POINT("404_1", "UserPoint를 찾을 수 없습니다."),
+    CONFLICT_USER_POINT_UPDATE("409_1", "동시에 처리 중인 요청이 많아 포인트를 변경하지 못했습니다."),
+    LOCK_LEASE_EXPIRED("409_2", "유저 락 점유 시간이 만료되어 포인트를 변경하지 못했습니다."),
+    IDEMPOTENCY_KEY_REUSED("409_3", "같은 Idempotency-Key로 처리된 요청과 내용이 다릅니다."),
+    TOO_MANY_USER_REQUESTS("429_1", "해당 유저의 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    TOO_MANY_REQUESTS("429_2", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    ROUTING_FORWARD_FAILED("503_1", "유저를 담당하는 노드에 요청을 전달하지 못했습니다."),
+    TOO_MANY_IN_FLIGHT_REQUESTS("503_2", "처리 중인 요청이 많아 요청을 받을 수 없습니다."),
+    LOCK_WAIT_TIMEOUT("503_3", "유저 락을 기다리는 시간이 초과되었습니다."),
+    MAILBOX_FULL("503_4", "처리를 기다리는 요청이 많아 요청을 받을 수 없습니다.");
 
     private final String code;
     private final String message;
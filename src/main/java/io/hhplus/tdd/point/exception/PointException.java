@@ -4,6 +4,9 @@ import io.hhplus.tdd.common.exception.ApplicationException;
 
 public class PointException extends ApplicationException {
 
+    public static final PointException INVALID_IDEMPOTENCY_KEY =
+        new PointException(PointErrorCode.INVALID_IDEMPOTENCY_KEY);
+
     public static final PointException NOT_FOUND_USER_POINT =
         new PointException(PointErrorCode.NOT_FOUND_USER_POINT);
 
@@ -16,6 +19,36 @@ public class PointException extends ApplicationException {
     public static final PointException INVALID_POINT_AMOUNT =
         new PointException(PointErrorCode.INVALID_POINT_AMOUNT);
 
+    public static final PointException INVALID_HISTORY_QUERY =
+        new PointException(PointErrorCode.INVALID_HISTORY_QUERY);
+
+    public static final PointException INVALID_BATCH_REQUEST =
+        new PointException(PointErrorCode.INVALID_BATCH_REQUEST);
+
+    public static final PointException CONFLICT_USER_POINT_UPDATE =
+        new PointException(PointErrorCode.CONFLICT_USER_POINT_UPDATE);
+
+    public static final PointException LOCK_LEASE_EXPIRED =
+        new PointException(PointErrorCode.LOCK_LEASE_EXPIRED);
+
+    public static final PointException IDEMPOTENCY_KEY_REUSED =
+        new PointException(PointErrorCode.IDEMPOTENCY_KEY_REUSED);
+
+    public static final PointException TOO_MANY_USER_REQUESTS =
+        new PointException(PointErrorCode.TOO_MANY_USER_REQUESTS);
+
+    public static final PointException TOO_MANY_REQUESTS =
+        new PointException(PointErrorCode.TOO_MANY_REQUESTS);
+
+    public static final PointException TOO_MANY_IN_FLIGHT_REQUESTS =
+        new PointException(PointErrorCode.TOO_MANY_IN_FLIGHT_REQUESTS);
+
+    public static final PointException LOCK_WAIT_TIMEOUT =
+        new PointException(PointErrorCode.LOCK_WAIT_TIMEOUT);
+
+    public static final PointException MAILBOX_FULL =
+        new PointException(PointErrorCode.MAILBOX_FULL);
+
     public PointException(PointErrorCode pointErrorCode) {
         super(pointErrorCode);
     }
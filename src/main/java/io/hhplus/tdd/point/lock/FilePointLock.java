@@ -0,0 +1,177 @@
+package io.hhplus.tdd.point.lock;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * lease 파일로 여러 프로세스가 공유하는 PointLock
+ * - 같은 directory를 쓰는 프로세스끼리 락을 공유하므로, 로컬에서 여러 인스턴스를 띄워 분산 락 동작을 확인할 수 있다.
+ * - 유저마다 {id}.lock 파일에 현재 lease의 token과 만료 시각(epoch millis)을 기록한다.
+ *   파일을 읽고 고치는 동안에만 OS 파일 락을 잡으므로, 원격 저장소의 compare-and-set 한 번과 같은 역할을 한다.
+ * - 반납해도 token은 파일에 남겨 두어, 프로세스가 다시 떠도 lease token이 줄어들지 않는다.
+ * - 여러 프로세스가 시각을 비교하므로 만료 시각은 wall clock 기준이다.
+ */
+@ConditionalOnProperty(prefix = "point.lock.lease", name = "store", havingValue = "file")
+@Component
+public class FilePointLock implements PointLock {
+
+    private static final int RECORD_SIZE = 2 * Long.BYTES;
+
+    // 파일 락은 JVM 단위로 잡히고 같은 JVM에서 겹쳐 잡으면 OverlappingFileLockException이 발생하므로,
+    // 같은 JVM 안의 스레드(및 다른 FilePointLock 인스턴스)끼리는 먼저 이 락으로 순서를 정한다.
+    private static final int GUARDS = 64;
+    private static final ReentrantLock[] FILE_GUARDS = new ReentrantLock[GUARDS];
+
+    static {
+        for (int i = 0; i < GUARDS; ++i) {
+            FILE_GUARDS[i] = new ReentrantLock();
+        }
+    }
+
+    private final Path directory;
+    private final long retryIntervalNanos;
+
+    public FilePointLock(LeaseProperties properties) {
+        this.directory = Path.of(properties.directory());
+        this.retryIntervalNanos = properties.retryInterval().toNanos();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("lease 디렉터리를 만들 수 없습니다. directory=" + directory, e);
+        }
+    }
+
+    @Override
+    public Optional<PointLockLease> tryAcquire(long id, Duration ttl, Duration waitTimeout) {
+        boolean timed = !waitTimeout.isZero();
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        boolean interrupted = false;
+        try {
+            while (true) {
+                PointLockLease lease = update(id, record -> {
+                    long now = System.currentTimeMillis();
+                    if (!record.isExpired(now)) {
+                        return new Update<>(null, null);
+                    }
+                    LeaseRecord acquired = new LeaseRecord(record.token() + 1, now + ttl.toMillis());
+                    return new Update<>(acquired, new PointLockLease(id, acquired.token()));
+                });
+                if (lease != null) {
+                    return Optional.of(lease);
+                }
+                long sleepNanos = retryIntervalNanos;
+                if (timed) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        return Optional.empty();
+                    }
+                    sleepNanos = Math.min(sleepNanos, remainingNanos);
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean renew(PointLockLease lease, Duration ttl) {
+        return update(lease.id(), record -> {
+            long now = System.currentTimeMillis();
+            if (!record.isHeldBy(lease, now)) {
+                return new Update<>(null, false);
+            }
+            return new Update<>(new LeaseRecord(record.token(), now + ttl.toMillis()), true);
+        });
+    }
+
+    @Override
+    public boolean isValid(PointLockLease lease) {
+        return update(lease.id(),
+            record -> new Update<>(null, record.isHeldBy(lease, System.currentTimeMillis())));
+    }
+
+    @Override
+    public void release(PointLockLease lease) {
+        update(lease.id(), record -> record.token() == lease.token()
+            ? new Update<>(new LeaseRecord(record.token(), 0L), null)
+            : new Update<>(null, null));
+    }
+
+    /**
+     * id의 lease 파일을 잠근 상태에서 기록을 읽어 operation에 넘기고, 새 기록이 있으면 덮어쓴다.
+     */
+    private <T> T update(long id, Function<LeaseRecord, Update<T>> operation) {
+        Path path = directory.resolve(id + ".lock");
+        ReentrantLock guard = FILE_GUARDS[Long.hashCode(id) & (GUARDS - 1)];
+        guard.lock();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+            FileLock ignored = channel.lock()) {
+            Update<T> update = operation.apply(read(channel));
+            if (update.record() != null) {
+                ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE)
+                    .putLong(update.record().token())
+                    .putLong(update.record().expiresAtMillis())
+                    .flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer, buffer.position());
+                }
+                channel.force(false);
+            }
+            return update.result();
+        } catch (IOException e) {
+            throw new UncheckedIOException("lease 파일을 갱신하지 못했습니다. path=" + path, e);
+        } finally {
+            guard.unlock();
+        }
+    }
+
+    private static LeaseRecord read(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+            // 파일 끝에 닿거나 기록을 다 읽을 때까지 읽는다.
+        }
+        if (buffer.hasRemaining()) {
+            return new LeaseRecord(0L, 0L);
+        }
+        buffer.flip();
+        return new LeaseRecord(buffer.getLong(), buffer.getLong());
+    }
+
+    private record LeaseRecord(long token, long expiresAtMillis) {
+
+        private boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+
+        private boolean isHeldBy(PointLockLease lease, long now) {
+            return token == lease.token() && !isExpired(now);
+        }
+    }
+
+    /**
+     * record : 새로 기록할 lease (null이면 파일을 고치지 않는다), result : 호출자에게 돌려줄 값
+     */
+    private record Update<T>(LeaseRecord record, T result) {
+    }
+}
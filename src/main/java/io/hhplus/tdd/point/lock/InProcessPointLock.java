@@ -0,0 +1,143 @@
+package io.hhplus.tdd.point.lock;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한 JVM 안에서만 유효한 PointLock
+ * - 인스턴스가 하나일 때, 또는 테스트에서 lease 만료/연장/token 증가를 확인할 때 사용한다.
+ * - id를 고정 개수의 stripe로 나누고, stripe마다 현재 lease 소유자 map과 반납 대기 Condition을 둔다.
+ *   반납되면 같은 stripe의 대기자를 깨우고, 반납 없이 만료된 lease는 만료 시각까지 기다렸다가 이어받는다.
+ */
+@ConditionalOnProperty(prefix = "point.lock.lease", name = "store", havingValue = "in-process",
+    matchIfMissing = true)
+@Component
+public class InProcessPointLock implements PointLock {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicLong tokens = new AtomicLong();
+
+    public InProcessPointLock() {
+        for (int i = 0; i < STRIPES; ++i) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public Optional<PointLockLease> tryAcquire(long id, Duration ttl, Duration waitTimeout) {
+        Stripe stripe = stripe(id);
+        boolean timed = !waitTimeout.isZero();
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        boolean interrupted = false;
+        stripe.lock.lock();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                Holder holder = stripe.holders.get(id);
+                if (holder == null || holder.isExpired(now)) {
+                    long token = tokens.incrementAndGet();
+                    stripe.holders.put(id, new Holder(token, now + ttl.toNanos()));
+                    return Optional.of(new PointLockLease(id, token));
+                }
+                long waitNanos = holder.expiresAtNanos - now;
+                if (timed) {
+                    if (deadline - now <= 0) {
+                        return Optional.empty();
+                    }
+                    waitNanos = Math.min(waitNanos, deadline - now);
+                }
+                try {
+                    stripe.released.awaitNanos(waitNanos);
+                } catch (InterruptedException e) {
+                    // ReentrantLock.lock()과 같이 인터럽트로 대기를 멈추지 않고, 얻은 뒤에 인터럽트 상태를 되돌린다.
+                    interrupted = true;
+                }
+            }
+        } finally {
+            stripe.lock.unlock();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean renew(PointLockLease lease, Duration ttl) {
+        Stripe stripe = stripe(lease.id());
+        stripe.lock.lock();
+        try {
+            long now = System.nanoTime();
+            Holder holder = stripe.holders.get(lease.id());
+            if (!isHeldBy(holder, lease, now)) {
+                return false;
+            }
+            holder.expiresAtNanos = now + ttl.toNanos();
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isValid(PointLockLease lease) {
+        Stripe stripe = stripe(lease.id());
+        stripe.lock.lock();
+        try {
+            return isHeldBy(stripe.holders.get(lease.id()), lease, System.nanoTime());
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void release(PointLockLease lease) {
+        Stripe stripe = stripe(lease.id());
+        stripe.lock.lock();
+        try {
+            Holder holder = stripe.holders.get(lease.id());
+            if (holder != null && holder.token == lease.token()) {
+                stripe.holders.remove(lease.id());
+                stripe.released.signalAll();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private static boolean isHeldBy(Holder holder, PointLockLease lease, long now) {
+        return holder != null && holder.token == lease.token() && !holder.isExpired(now);
+    }
+
+    private Stripe stripe(long id) {
+        return stripes[Long.hashCode(id) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition released = lock.newCondition();
+        private final Map<Long, Holder> holders = new HashMap<>();
+    }
+
+    private static final class Holder {
+        private final long token;
+        private long expiresAtNanos;
+
+        private Holder(long token, long expiresAtNanos) {
+            this.token = token;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAtNanos - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.lock;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * lease 락 설정 (point.lock.type=lease)
+ * - ttl : lease 유지 시간, 락을 잡은 동안에는 ttl의 1/3마다 연장한다.
+ * - retryInterval : file 저장소에서 다른 소유자의 lease가 풀렸는지 다시 확인하는 간격
+ * - directory : file 저장소의 lease 파일 디렉터리, 같은 디렉터리를 쓰는 프로세스끼리 락을 공유한다.
+ */
+@ConfigurationProperties(prefix = "point.lock.lease")
+public record LeaseProperties(
+    @DefaultValue("10s") Duration ttl,
+    @DefaultValue("5ms") Duration retryInterval,
+    @DefaultValue("data/lock") String directory
+) {
+
+    public LeaseProperties {
+        if (ttl.isNegative() || ttl.toMillis() < 3) {
+            throw new IllegalArgumentException("ttl은 3ms 이상이어야 합니다.");
+        }
+        if (retryInterval.isNegative() || retryInterval.isZero()) {
+            throw new IllegalArgumentException("retryInterval은 0보다 커야 합니다.");
+        }
+        if (directory == null || directory.isBlank()) {
+            throw new IllegalArgumentException("directory는 비어 있을 수 없습니다.");
+        }
+    }
+}
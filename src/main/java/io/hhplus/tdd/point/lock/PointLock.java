@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.lock;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 여러 인스턴스가 함께 쓰는 유저 단위 lease 락
+ * - point.lock.lease.store 설정으로 구현체를 선택한다. (in-process, file)
+ * - lease는 ttl이 지나면 자동으로 만료되어, 락을 잡은 인스턴스가 죽어도 다른 인스턴스가 이어받을 수 있다.
+ *   계속 쓰려면 만료 전에 renew로 연장해야 한다.
+ * - 새로 발급되는 lease의 token은 같은 id에서 항상 이전 token보다 크다. FencedUserPointRepository는 마지막으로 받은
+ *   token보다 작은 token의 잔액 쓰기를 거절한다. (fencing, 내역 저장소는 token을 받지 않는다)
+ * - isValid는 확인한 순간의 상태일 뿐이므로, 확인 직후 lease가 만료되면 그 뒤의 늦은 쓰기는 막지 못한다.
+ */
+public interface PointLock {
+
+    /**
+     * id의 lease를 얻을 때까지 기다린다. 다른 소유자의 lease가 만료되면 이어받는다.
+     */
+    default PointLockLease acquire(long id, Duration ttl) {
+        return tryAcquire(id, ttl, Duration.ZERO).orElseThrow();
+    }
+
+    /**
+     * acquire와 같지만 waitTimeout 안에 얻지 못하면 Optional.empty()를 반환한다. waitTimeout이 0이면 얻을 때까지 기다린다.
+     */
+    Optional<PointLockLease> tryAcquire(long id, Duration ttl, Duration waitTimeout);
+
+    /**
+     * lease가 아직 유효하면 지금부터 ttl 뒤로 만료 시각을 늦춘다.
+     * @return 이미 만료되었거나 다른 소유자에게 넘어갔으면 false
+     */
+    boolean renew(PointLockLease lease, Duration ttl);
+
+    /**
+     * lease가 만료되지 않았고 그 뒤로 다른 lease가 발급되지 않았으면 true
+     */
+    boolean isValid(PointLockLease lease);
+
+    /**
+     * lease를 반납한다. 이미 다른 소유자에게 넘어간 lease면 아무것도 하지 않는다.
+     */
+    void release(PointLockLease lease);
+}
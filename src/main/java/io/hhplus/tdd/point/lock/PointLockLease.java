@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.lock;
+
+/**
+ * PointLock에서 얻은 lease
+ * - token : 같은 id에서 나중에 발급된 lease일수록 크다. (FencedUserPointRepository가 늦은 쓰기를 거절하는 fencing token)
+ */
+public record PointLockLease(
+    long id,
+    long token
+) {
+}
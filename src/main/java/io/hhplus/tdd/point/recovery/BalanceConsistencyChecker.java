@@ -0,0 +1,155 @@
+package io.hhplus.tdd.point.recovery;
+
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.ReplayablePointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내역으로부터 잔액을 다시 계산해 UserPointRepository의 잔액과 비교한다.
+ * - 잔액은 내역의 합이므로 내역 id 범위를 나누어 병렬로 더한 뒤 합친다.
+ * - 검사 중에도 요청이 처리되고 있다면, 그 사이 변경된 유저가 차이로 보고될 수 있다.
+ * - consistencyCheckInterval이 0보다 크면 기동(복구)이 끝난 뒤부터 그 주기로 검사한다.
+ * - point.recovery.drift : 마지막 검사에서 차이가 난 유저 수
+ */
+@ConditionalOnProperty(prefix = "point.recovery", name = "enabled", havingValue = "true")
+@Component
+public class BalanceConsistencyChecker {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceConsistencyChecker.class);
+
+    private final UserPointRepository userPointRepository;
+    private final ReplayablePointHistoryRepository pointHistoryRepository;
+    private final int parallelism;
+    private final long checkIntervalMillis;
+
+    private final ScheduledExecutorService scheduler;
+    private final AtomicInteger lastDriftCount = new AtomicInteger();
+
+    public BalanceConsistencyChecker(UserPointRepository userPointRepository,
+        PointHistoryRepository pointHistoryRepository, RecoveryProperties properties,
+        MeterRegistry meterRegistry) {
+        if (!(pointHistoryRepository instanceof ReplayablePointHistoryRepository replayableRepository)) {
+            throw new IllegalStateException(
+                "point.recovery.enabled=true는 내역을 다시 읽을 수 있는 PointHistoryRepository가 필요합니다. "
+                    + "(point.repository.point-history=wal)");
+        }
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = replayableRepository;
+        this.parallelism = properties.checkerParallelism();
+        this.checkIntervalMillis = properties.consistencyCheckInterval().toMillis();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "balance-consistency-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("point.recovery.drift", lastDriftCount, AtomicInteger::get)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 복구(BalanceRecoveryManager)가 끝나기 전에 검사하면 모든 유저가 차이로 보고되므로, 기동이 끝난 뒤에 시작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleChecks() {
+        if (checkIntervalMillis > 0) {
+            scheduler.scheduleWithFixedDelay(this::checkSafely,
+                checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public ConsistencyReport check() {
+        long lastHistoryId = pointHistoryRepository.lastHistoryId();
+        Map<Long, UserPoint> expected = computeBalances(lastHistoryId);
+
+        List<Drift> drifts = new ArrayList<>();
+        for (UserPoint userPoint : expected.values()) {
+            long actual = userPointRepository.selectById(userPoint.id())
+                .map(UserPoint::point)
+                .orElse(0L);
+            if (actual != userPoint.point()) {
+                drifts.add(new Drift(userPoint.id(), userPoint.point(), actual));
+            }
+        }
+
+        ConsistencyReport report = new ConsistencyReport(lastHistoryId, expected.size(), drifts);
+        lastDriftCount.set(drifts.size());
+        if (drifts.isEmpty()) {
+            log.info("잔액 정합성 검사 완료. 마지막 내역={}, 유저={}명, 차이 없음",
+                lastHistoryId, expected.size());
+        } else {
+            log.warn("잔액 정합성 검사 완료. 마지막 내역={}, 유저={}명, 차이={}건 {}",
+                lastHistoryId, expected.size(), drifts.size(),
+                drifts.subList(0, Math.min(10, drifts.size())));
+        }
+        return report;
+    }
+
+    private void checkSafely() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.error("잔액 정합성 검사에 실패했습니다.", e);
+        }
+    }
+
+    private Map<Long, UserPoint> computeBalances(long lastHistoryId) {
+        long rangeSize = Math.max(1L, (lastHistoryId + parallelism - 1) / parallelism);
+
+        List<CompletableFuture<Map<Long, UserPoint>>> partials = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            for (long afterId = 0; afterId < lastHistoryId; afterId += rangeSize) {
+                long from = afterId;
+                long to = Math.min(lastHistoryId, afterId + rangeSize);
+                partials.add(CompletableFuture.supplyAsync(() -> {
+                    Map<Long, UserPoint> partial = new HashMap<>();
+                    pointHistoryRepository.forEachBetween(from, to,
+                        pointHistory -> BalanceSnapshot.apply(partial, pointHistory));
+                    return partial;
+                }, executor));
+            }
+
+            Map<Long, UserPoint> balances = new HashMap<>();
+            for (CompletableFuture<Map<Long, UserPoint>> partial : partials) {
+                partial.join().forEach((userId, userPoint) ->
+                    balances.merge(userId, userPoint, BalanceSnapshot::combine));
+            }
+            return balances;
+        }
+    }
+
+    public record Drift(long userId, long expectedPoint, long actualPoint) {
+    }
+
+    public record ConsistencyReport(long lastHistoryId, int checkedUsers, List<Drift> drifts) {
+
+        public boolean isConsistent() {
+            return drifts.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.hhplus.tdd.point.recovery;
+
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.ReplayablePointHistoryRepository;
+import io.hhplus.tdd.point.repository.RestorableUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * PointHistory로부터 잔액을 복구하고, 주기적으로 잔액 snapshot을 남긴다.
+ * - 기동 시 가장 최근 snapshot을 읽고 그 이후의 내역만 다시 반영해 UserPointRepository에 저장한다.
+ *   UserPointTable 등 잔액 저장소의 상태에 의존하지 않는다.
+ * - snapshot은 잔액 저장소가 아니라 내역을 이어서 반영해 만들기 때문에, 요청을 멈추지 않아도 특정 내역 id 시점과 정확히 일치한다.
+ * - 재시작 후에도 내역이 남는 PointHistoryRepository(point.repository.point-history=wal)가 필요하다.
+ * - 복구한 잔액은 restoreAll로 한 번에 메모리에 올린다. UserPointTable에 유저마다 쓰는 저장소(user-point=table)는 지원하지 않는다.
+ */
+@ConditionalOnProperty(prefix = "point.recovery", name = "enabled", havingValue = "true")
+@Component
+public class BalanceRecoveryManager implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceRecoveryManager.class);
+
+    private final RestorableUserPointRepository userPointRepository;
+    private final ReplayablePointHistoryRepository pointHistoryRepository;
+    private final BalanceSnapshotStore snapshotStore;
+    private final long snapshotIntervalMillis;
+
+    private final ScheduledExecutorService snapshotter;
+    // 마지막으로 만든(또는 복구한) snapshot, takeSnapshot은 여기서부터 이어서 반영한다.
+    private BalanceSnapshot latest = BalanceSnapshot.empty();
+    // 파일로 저장된 가장 최근 snapshot의 마지막 내역 id
+    private long savedHistoryId;
+
+    public BalanceRecoveryManager(UserPointRepository userPointRepository,
+        PointHistoryRepository pointHistoryRepository, BalanceSnapshotStore snapshotStore,
+        RecoveryProperties properties) {
+        if (!(pointHistoryRepository instanceof ReplayablePointHistoryRepository replayableRepository)) {
+            throw new IllegalStateException(
+                "point.recovery.enabled=true는 내역을 다시 읽을 수 있는 PointHistoryRepository가 필요합니다. "
+                    + "(point.repository.point-history=wal)");
+        }
+        if (!(userPointRepository instanceof RestorableUserPointRepository restorableRepository)) {
+            throw new IllegalStateException(
+                "point.recovery.enabled=true는 잔액을 메모리에 바로 복구할 수 있는 UserPointRepository가 필요합니다. "
+                    + "(point.repository.user-point=write-behind, primitive, mapped-file, projection)");
+        }
+        this.userPointRepository = restorableRepository;
+        this.pointHistoryRepository = replayableRepository;
+        this.snapshotStore = snapshotStore;
+        this.snapshotIntervalMillis = properties.snapshotInterval().toMillis();
+
+        this.snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "balance-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 모든 빈이 만들어진 뒤, 웹 서버가 요청을 받기 전에 복구를 마친다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        recover();
+        snapshotter.scheduleWithFixedDelay(this::takeSnapshotSafely,
+            snapshotIntervalMillis, snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return 복구한 유저 수
+     */
+    public synchronized int recover() {
+        long start = System.nanoTime();
+        BalanceSnapshot snapshot = snapshotStore.loadLatest().orElse(BalanceSnapshot.empty());
+
+        BalanceSnapshot recovered = replay(snapshot);
+        userPointRepository.restoreAll(recovered.balances().values());
+        latest = recovered;
+        savedHistoryId = snapshot.lastHistoryId();
+
+        log.info("잔액을 복구했습니다. snapshot={}, 마지막 내역={}, 다시 반영한 내역={}건, 유저={}명, {}ms",
+            snapshot.lastHistoryId(), recovered.lastHistoryId(),
+            recovered.lastHistoryId() - snapshot.lastHistoryId(), recovered.balances().size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return recovered.balances().size();
+    }
+
+    /**
+     * 직전 snapshot 이후의 내역을 반영해 새 snapshot을 저장한다. 저장된 snapshot 이후 새 내역이 없으면 저장하지 않는다.
+     */
+    public synchronized BalanceSnapshot takeSnapshot() {
+        latest = replay(latest);
+        if (latest.lastHistoryId() != savedHistoryId) {
+            snapshotStore.save(latest);
+            savedHistoryId = latest.lastHistoryId();
+        }
+        return latest;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshotter.shutdown();
+        try {
+            snapshotter.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        takeSnapshotSafely();
+    }
+
+    private BalanceSnapshot replay(BalanceSnapshot base) {
+        long toHistoryId = pointHistoryRepository.lastHistoryId();
+        if (toHistoryId <= base.lastHistoryId()) {
+            return base;
+        }
+
+        Map<Long, UserPoint> balances = new HashMap<>(base.balances());
+        pointHistoryRepository.forEachBetween(base.lastHistoryId(), toHistoryId,
+            pointHistory -> BalanceSnapshot.apply(balances, pointHistory));
+        return new BalanceSnapshot(toHistoryId, balances);
+    }
+
+    private void takeSnapshotSafely() {
+        try {
+            takeSnapshot();
+        } catch (RuntimeException e) {
+            log.error("잔액 snapshot을 만들지 못했습니다.", e);
+        }
+    }
+}
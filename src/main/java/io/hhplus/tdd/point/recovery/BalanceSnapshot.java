@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.recovery;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import io.hhplus.tdd.point.model.UserPoint;
+import java.util.Map;
+
+/**
+ * lastHistoryId까지의 내역을 모두 반영한 시점의 유저별 잔액
+ */
+public record BalanceSnapshot(
+    long lastHistoryId,
+    Map<Long, UserPoint> balances
+) {
+
+    public static BalanceSnapshot empty() {
+        return new BalanceSnapshot(0L, Map.of());
+    }
+
+    /**
+     * 내역 하나를 잔액에 반영한다. 잔액은 내역의 합이므로 반영 순서와 무관하게 같은 결과가 나온다.
+     */
+    public static void apply(Map<Long, UserPoint> balances, PointHistory pointHistory) {
+        long delta = pointHistory.type() == TransactionType.CHARGE
+            ? pointHistory.amount()
+            : -pointHistory.amount();
+        balances.merge(pointHistory.userId(),
+            new UserPoint(pointHistory.userId(), delta, pointHistory.updateMillis()),
+            BalanceSnapshot::combine);
+    }
+
+    /**
+     * 같은 유저의 두 부분 합을 더한다.
+     */
+    public static UserPoint combine(UserPoint before, UserPoint after) {
+        return new UserPoint(before.id(), before.point() + after.point(),
+            Math.max(before.updateMillis(), after.updateMillis()));
+    }
+
+}
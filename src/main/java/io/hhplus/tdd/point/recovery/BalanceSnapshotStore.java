@@ -0,0 +1,189 @@
+package io.hhplus.tdd.point.recovery;
+
+import io.hhplus.tdd.point.model.UserPoint;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * BalanceSnapshot을 파일로 저장하고 읽는다.
+ * - 파일 : magic | version | lastHistoryId | count | (userId, point, updateMillis) * count | crc32c
+ * - 임시 파일에 모두 쓰고 fsync한 뒤 이름을 바꾸므로, 쓰는 도중 죽어도 이전 snapshot은 온전하다.
+ *   이름을 바꾼 뒤에는 디렉터리도 fsync하고, 저장에 실패하면 임시 파일을 지운다.
+ * - 가장 최근 파일이 깨져 있으면 그 이전 파일을 사용한다.
+ */
+@ConditionalOnProperty(prefix = "point.recovery", name = "enabled", havingValue = "true")
+@Component
+public class BalanceSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceSnapshotStore.class);
+
+    private static final long MAGIC = 0x4848_534E_4150_5348L;
+    private static final int VERSION = 1;
+    private static final String FILE_PREFIX = "snapshot-";
+    private static final String FILE_SUFFIX = ".bin";
+    private static final boolean WINDOWS =
+        System.getProperty("os.name", "").toLowerCase().startsWith("windows");
+
+    private final Path directory;
+    private final int retainedSnapshots;
+
+    public BalanceSnapshotStore(RecoveryProperties properties) {
+        this.directory = Path.of(properties.snapshotDirectory());
+        this.retainedSnapshots = properties.retainedSnapshots();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("snapshot 디렉터리를 만들 수 없습니다. directory=" + directory, e);
+        }
+    }
+
+    public void save(BalanceSnapshot snapshot) {
+        Path target = directory.resolve(fileName(snapshot.lastHistoryId()));
+        Path temp = directory.resolve(fileName(snapshot.lastHistoryId()) + ".tmp");
+        try {
+            write(temp, snapshot);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+            // 이름 바꾸기는 디렉터리의 변경이므로, 디렉터리까지 fsync해야 OS crash 뒤에도 남는다.
+            forceDirectory();
+            prune();
+        } catch (IOException e) {
+            throw new UncheckedIOException("snapshot을 저장하지 못했습니다. path=" + target, e);
+        } finally {
+            // 쓰기나 이름 바꾸기에 실패하면 임시 파일이 남으므로 지운다. 이름을 바꾼 뒤에는 남아 있지 않다.
+            deleteTemp(temp);
+        }
+    }
+
+    /**
+     * 읽을 수 있는 가장 최근 snapshot
+     */
+    public Optional<BalanceSnapshot> loadLatest() {
+        for (Path path : listNewestFirst()) {
+            try {
+                return Optional.of(read(path));
+            } catch (IOException | IllegalStateException e) {
+                log.warn("snapshot을 읽지 못해 이전 snapshot을 사용합니다. path={}", path, e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private BalanceSnapshot read(Path path) throws IOException {
+        long size = Files.size(path);
+        try (InputStream file = Files.newInputStream(path)) {
+            CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(file), new CRC32C());
+            DataInputStream in = new DataInputStream(checked);
+            if (in.readLong() != MAGIC || in.readInt() != VERSION) {
+                throw new IllegalStateException("snapshot 파일 형식이 올바르지 않습니다.");
+            }
+            long lastHistoryId = in.readLong();
+            int count = in.readInt();
+            // header(24) + entry(24) * count + checksum(8)
+            if (count < 0 || size != 24L + 24L * count + 8L) {
+                throw new IllegalStateException("snapshot 파일 크기가 올바르지 않습니다.");
+            }
+
+            Map<Long, UserPoint> balances = new HashMap<>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; ++i) {
+                UserPoint userPoint = new UserPoint(in.readLong(), in.readLong(), in.readLong());
+                balances.put(userPoint.id(), userPoint);
+            }
+
+            long expected = checked.getChecksum().getValue();
+            if (new DataInputStream(checked).readLong() != expected) {
+                throw new IllegalStateException("snapshot checksum이 일치하지 않습니다.");
+            }
+            return new BalanceSnapshot(lastHistoryId, balances);
+        }
+    }
+
+    private static void write(Path path, BalanceSnapshot snapshot) throws IOException {
+        try (FileOutputStream file = new FileOutputStream(path.toFile())) {
+            CheckedOutputStream checked = new CheckedOutputStream(file, new CRC32C());
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checked));
+            out.writeLong(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(snapshot.lastHistoryId());
+            out.writeInt(snapshot.balances().size());
+            for (UserPoint userPoint : snapshot.balances().values()) {
+                out.writeLong(userPoint.id());
+                out.writeLong(userPoint.point());
+                out.writeLong(userPoint.updateMillis());
+            }
+            out.flush();
+
+            // checksum은 checksum 자신을 제외한 내용으로 계산한다.
+            new DataOutputStream(file).writeLong(checked.getChecksum().getValue());
+            file.getChannel().force(true);
+        }
+    }
+
+    /**
+     * Windows는 디렉터리를 FileChannel로 열 수 없으므로 건너뛴다.
+     */
+    private void forceDirectory() throws IOException {
+        if (WINDOWS) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private static void deleteTemp(Path temp) {
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("snapshot 임시 파일을 지우지 못했습니다. path={}", temp, e);
+        }
+    }
+
+    private void prune() throws IOException {
+        List<Path> paths = listNewestFirst();
+        for (Path path : paths.subList(Math.min(retainedSnapshots, paths.size()), paths.size())) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private List<Path> listNewestFirst() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> path.getFileName().toString().startsWith(FILE_PREFIX))
+                .filter(path -> path.getFileName().toString().endsWith(FILE_SUFFIX))
+                .sorted(Comparator.comparing(Path::getFileName).reversed())
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("snapshot 목록을 읽지 못했습니다. directory=" + directory, e);
+        }
+    }
+
+    private static String fileName(long lastHistoryId) {
+        return String.format("%s%020d%s", FILE_PREFIX, lastHistoryId, FILE_SUFFIX);
+    }
+}
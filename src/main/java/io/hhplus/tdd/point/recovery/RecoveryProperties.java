@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point.recovery;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔액 snapshot / 복구 설정 (point.recovery.enabled=true일 때 사용)
+ * - snapshotDirectory : snapshot 파일을 저장할 디렉터리
+ * - snapshotInterval : snapshot을 만드는 주기
+ * - retainedSnapshots : 남겨 둘 snapshot 파일 수 (최신 파일이 깨졌을 때 이전 파일로 복구한다)
+ * - checkerParallelism : 정합성 검사 시 내역을 나누어 읽는 작업 수
+ * - consistencyCheckInterval : 정합성 검사를 주기적으로 실행하는 간격 (0이면 실행하지 않는다)
+ */
+@ConfigurationProperties(prefix = "point.recovery")
+public record RecoveryProperties(
+    @DefaultValue("data/snapshot") String snapshotDirectory,
+    @DefaultValue("1m") Duration snapshotInterval,
+    @DefaultValue("2") int retainedSnapshots,
+    @DefaultValue("4") int checkerParallelism,
+    @DefaultValue("0s") Duration consistencyCheckInterval
+) {
+
+    public RecoveryProperties {
+        if (snapshotDirectory == null || snapshotDirectory.isBlank()) {
+            throw new IllegalArgumentException("snapshotDirectory는 비어 있을 수 없습니다.");
+        }
+        if (snapshotInterval.isNegative() || snapshotInterval.isZero()) {
+            throw new IllegalArgumentException("snapshotInterval은 0보다 커야 합니다.");
+        }
+        if (retainedSnapshots <= 0 || checkerParallelism <= 0) {
+            throw new IllegalArgumentException("retainedSnapshots, checkerParallelism은 0보다 커야 합니다.");
+        }
+        if (consistencyCheckInterval.isNegative()) {
+            throw new IllegalArgumentException("consistencyCheckInterval은 0 이상이어야 합니다.");
+        }
+    }
+}
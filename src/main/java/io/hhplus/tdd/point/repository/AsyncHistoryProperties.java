@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비동기 PointHistory 저장 설정
+ * - queueCapacity : 전체 대기열 크기 (worker 수만큼 나누어 사용), 가득 차면 insert 호출이 대기한다.
+ * - workerCount : 대기열을 비우는 전용 worker 스레드 수 (PointHistoryTable에는 한 번에 한 worker만 쓴다)
+ * - batchSize : worker가 한 번에 꺼내 처리하는 최대 건수
+ */
+@ConfigurationProperties(prefix = "point.repository.async-history")
+public record AsyncHistoryProperties(
+    @DefaultValue("10000") int queueCapacity,
+    @DefaultValue("4") int workerCount,
+    @DefaultValue("100") int batchSize
+) {
+
+    public AsyncHistoryProperties {
+        if (workerCount <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("workerCount, batchSize는 0보다 커야 합니다.");
+        }
+        if (queueCapacity < workerCount) {
+            throw new IllegalArgumentException("queueCapacity는 workerCount보다 작을 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.model.UserPoint;
+
+/**
+ * 잔액 검사와 변경을 저장소 안에서 원자적으로 처리하는 UserPointRepository
+ * - PointService는 selectById/insertOrUpdate 대신 chargeAtomically/useAtomically를 사용한다.
+ */
+public interface AtomicUserPointRepository extends UserPointRepository {
+
+    /**
+     * 잔액 검사와 충전을 저장소 안에서 원자적으로 처리한다.
+     * @throws io.hhplus.tdd.point.exception.PointException 충전 후 잔액이 maxAmount를 넘는 경우
+     */
+    UserPoint chargeAtomically(long id, long amount, long maxAmount);
+
+    /**
+     * 잔액 검사와 사용을 저장소 안에서 원자적으로 처리한다.
+     * @throws io.hhplus.tdd.point.exception.PointException UserPoint가 없거나 잔액이 부족한 경우
+     */
+    UserPoint useAtomically(long id, long amount);
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.model.UserPoint;
+import java.util.Optional;
+
+/**
+ * 조건부 저장(compareAndSet)을 지원하는 UserPointRepository (point.execution.mode=optimistic에 필요)
+ */
+public interface ConditionalUserPointRepository extends UserPointRepository {
+
+    /**
+     * 현재 저장된 값이 expected와 같을 때만 updated로 변경한다.
+     * expected가 null이면 아직 저장된 값이 없을 때만 저장한다.
+     * @return 저장된 UserPoint, 그 사이 다른 변경이 먼저 반영되었다면 Optional.empty()
+     */
+    Optional<UserPoint> compareAndSet(UserPoint expected, UserPoint updated);
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.model.UserPoint;
+
+/**
+ * lease 락의 fencing token으로 늦은 쓰기를 거절하는 UserPointRepository (point.lock.type=lease)
+ * - 유저마다 마지막으로 쓴 token을 함께 저장하고, 그보다 작은 token의 쓰기는 값을 바꾸지 않고 거절한다.
+ * - token 검사와 쓰기가 저장소 안에서 한 번에 일어나므로, 검사 직후 lease를 잃고 멈췄던 이전 소유자의 쓰기도 막는다.
+ * - token이 NO_FENCING_TOKEN이면 검사하지 않는다. (lease가 아닌 락, 기동 시 복구)
+ */
+public interface FencedUserPointRepository extends AtomicUserPointRepository {
+
+    long NO_FENCING_TOKEN = 0L;
+
+    /**
+     * chargeAtomically와 같지만, fencingToken이 마지막으로 쓴 token보다 작으면 충전하지 않는다.
+     * @throws io.hhplus.tdd.point.exception.PointException 잃은 lease의 쓰기(LOCK_LEASE_EXPIRED) 또는 한도 초과
+     */
+    UserPoint chargeAtomically(long id, long amount, long maxAmount, long fencingToken);
+
+    /**
+     * useAtomically와 같지만, fencingToken이 마지막으로 쓴 token보다 작으면 사용하지 않는다.
+     * @throws io.hhplus.tdd.point.exception.PointException 잃은 lease의 쓰기(LOCK_LEASE_EXPIRED), UserPoint 없음 또는 잔액 부족
+     */
+    UserPoint useAtomically(long id, long amount, long fencingToken);
+}
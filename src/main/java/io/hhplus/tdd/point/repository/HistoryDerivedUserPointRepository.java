@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.UserPoint;
+
+/**
+ * 잔액이 PointHistory로부터 계산되는 projection인 UserPointRepository
+ * - PointService는 잔액을 따로 저장하지 않고 appendHistory로 내역 한 건만 저장한다.
+ */
+public interface HistoryDerivedUserPointRepository extends UserPointRepository {
+
+    /**
+     * 내역 한 건을 저장하고, 그 내역을 반영한 잔액을 반환한다.
+     * @return pointHistory까지 반영된 UserPoint
+     */
+    UserPoint appendHistory(PointHistory pointHistory);
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * PointHistory write-ahead log 설정
+ * - directory : segment 파일을 저장할 디렉터리
+ * - segmentSize : segment 하나의 최대 크기, 넘으면 새 segment로 넘어간다.
+ * - fsync : true면 insert는 내역이 디스크에 반영(fsync)된 뒤에 반환된다. 동시에 들어온 요청은 한 번의 fsync로 묶인다.
+ */
+@ConfigurationProperties(prefix = "point.repository.history-wal")
+public record HistoryWalProperties(
+    @DefaultValue("data/point-history") String directory,
+    @DefaultValue("64MB") DataSize segmentSize,
+    @DefaultValue("true") boolean fsync
+) {
+
+    public HistoryWalProperties {
+        if (directory == null || directory.isBlank()) {
+            throw new IllegalArgumentException("directory는 비어 있을 수 없습니다.");
+        }
+        if (segmentSize.toBytes() < PointHistoryWalRepository.RECORD_SIZE) {
+            throw new IllegalArgumentException("segmentSize는 내역 한 건의 크기보다 작을 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * memory-mapped 파일 저장소 설정
+ * - path : 잔액을 저장할 파일 경로
+ * - capacity : 저장할 수 있는 최대 유저 수, 2의 거듭제곱으로 올림된다. 이미 만들어진 파일과 같아야 한다.
+ *   (파일은 그 2배의 슬롯으로 잡는다)
+ */
+@ConfigurationProperties(prefix = "point.repository.mapped-file")
+public record MappedFileProperties(
+    @DefaultValue("data/user-point.dat") String path,
+    @DefaultValue("1048576") int capacity
+) {
+
+    private static final int MAX_CAPACITY = 1 << 29;
+
+    public MappedFileProperties {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("path는 비어 있을 수 없습니다.");
+        }
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity는 1 이상 " + MAX_CAPACITY + " 이하여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.model.PointHistory;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PointHistory를 대기열에 넣고 전용 worker가 PointHistoryTable에 저장하는 비동기 Repository
+ * - 같은 유저의 내역은 항상 같은 worker로 보내 저장 순서를 유지한다.
+ * - PointHistoryTable은 thread-safe하지 않으므로 worker들은 tableLock으로 한 번에 하나씩만 테이블에 쓴다.
+ *   (한 worker가 실패한 내역을 backoff하며 기다리는 동안에도 다른 worker의 내역은 저장된다)
+ * - 대기열이 가득 차면 insert 호출이 자리가 날 때까지 대기한다. (backpressure)
+ * - insert가 반환하는 PointHistory는 아직 저장 전이므로 id가 0L이다.
+ * - 저장에 실패한 내역은 버리지 않고 backoff를 늘려 가며 성공할 때까지 다시 시도한다.
+ *   그동안 같은 worker의 다음 내역은 순서를 지키기 위해 기다리고, 대기열이 차면 insert 호출이 대기한다.
+ * - 저장된 내역이 인덱스에 들어가 조회 가능해지면 등록된 listener(조회 캐시 무효화)에 유저 id를 알린다.
+ */
+@ConditionalOnProperty(prefix = "point.repository", name = "point-history", havingValue = "async")
+@Repository
+public class PointHistoryAsyncRepository implements PointHistoryRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryAsyncRepository.class);
+
+    private static final long INITIAL_RETRY_BACKOFF_MILLIS = 10;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 1_000;
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final int batchSize;
+
+    private final List<BlockingQueue<Entry>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+    private final List<LongConsumer> storedListeners = new CopyOnWriteArrayList<>();
+
+    private final ReentrantLock tableLock = new ReentrantLock();
+
+    // insert 순서대로 붙인 번호 중 아직 저장되지 않은 것 (worker마다 끝나는 순서가 달라 번호 단위로 추적한다)
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentSkipListSet<Long> pendingSequences = new ConcurrentSkipListSet<>();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final ReentrantLock completionLock = new ReentrantLock();
+    private final Condition completed = completionLock.newCondition();
+
+    public PointHistoryAsyncRepository(PointHistoryTable pointHistoryTable,
+        PointHistoryIndex pointHistoryIndex, AsyncHistoryProperties properties) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.batchSize = properties.batchSize();
+
+        int capacityPerWorker = properties.queueCapacity() / properties.workerCount();
+        for (int i = 0; i < properties.workerCount(); ++i) {
+            BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(capacityPerWorker);
+            Thread worker = new Thread(() -> drain(queue), "point-history-writer-" + i);
+            worker.setDaemon(true);
+            queues.add(queue);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    @Override
+    public PointHistory insert(PointHistory pointHistory) {
+        if (!running) {
+            throw new IllegalStateException("PointHistory writer가 종료되었습니다.");
+        }
+
+        BlockingQueue<Entry> queue = queues.get(indexOf(pointHistory.userId()));
+        long entrySequence = sequence.incrementAndGet();
+        pendingSequences.add(entrySequence);
+        try {
+            queue.put(new Entry(entrySequence, pointHistory));
+        } catch (InterruptedException e) {
+            pendingSequences.remove(entrySequence);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("PointHistory 대기열 적재 중 인터럽트가 발생했습니다.", e);
+        }
+        return pointHistory;
+    }
+
+    /**
+     * 저장이 끝난 내역만 조회된다. 직전에 insert한 내역까지 보려면 awaitFlushed()를 먼저 호출한다.
+     */
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return pointHistoryIndex.findAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserId(long userId, PointHistoryQuery query) {
+        return pointHistoryIndex.findByUserId(userId, query);
+    }
+
+    @Override
+    public void addStoredListener(LongConsumer listener) {
+        storedListeners.add(listener);
+    }
+
+    /**
+     * 대기 중인 내역 수 (backpressure 지표)
+     */
+    public long pendingCount() {
+        return pendingSequences.size();
+    }
+
+    /**
+     * 저장에 실패해 다시 시도한 횟수
+     */
+    public long failedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * 호출 시점까지 insert된 내역이 모두 처리될 때까지 대기한다.
+     * - 그 뒤에 insert된 내역이 먼저 끝나도, 호출 시점까지의 내역이 하나라도 남아 있으면 계속 기다린다.
+     * @return timeout 안에 모두 처리되었으면 true
+     */
+    public boolean awaitFlushed(Duration timeout) throws InterruptedException {
+        long target = sequence.get();
+        long remainingNanos = timeout.toNanos();
+
+        completionLock.lock();
+        try {
+            while (hasPendingUpTo(target)) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = completed.awaitNanos(remainingNanos);
+            }
+            return true;
+        } finally {
+            completionLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        if (pendingCount() > 0) {
+            log.warn("종료 시점에 저장되지 못한 PointHistory가 {}건 있습니다.", pendingCount());
+        }
+    }
+
+    private boolean hasPendingUpTo(long target) {
+        Long oldest = pendingSequences.ceiling(0L);
+        return oldest != null && oldest <= target;
+    }
+
+    private int indexOf(long userId) {
+        int hash = Long.hashCode(userId);
+        return Math.floorMod(hash ^ (hash >>> 16), queues.size());
+    }
+
+    private void drain(BlockingQueue<Entry> queue) {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                for (Entry entry : batch) {
+                    write(entry.pointHistory());
+                    markCompleted(entry.sequence());
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 잔액은 이미 반영되었으므로 내역을 버리면 잔액과 내역이 어긋난다. 저장될 때까지 다시 시도한다.
+     * 대기 중 인터럽트(종료)되면 저장하지 못한 내역은 pendingCount에 남는다.
+     */
+    private void write(PointHistory pointHistory) throws InterruptedException {
+        long backoffMillis = INITIAL_RETRY_BACKOFF_MILLIS;
+        for (int attempt = 1; ; ++attempt) {
+            try {
+                PointHistory savedPointHistory;
+                tableLock.lock();
+                try {
+                    savedPointHistory = pointHistoryTable.insert(pointHistory.userId(),
+                        pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+                } finally {
+                    tableLock.unlock();
+                }
+                pointHistoryIndex.add(savedPointHistory);
+                notifyStored(savedPointHistory.userId());
+                return;
+            } catch (RuntimeException e) {
+                failedCount.incrementAndGet();
+                log.error("PointHistory 저장에 실패했습니다. {}ms 후 다시 시도합니다. attempt={}, {}",
+                    backoffMillis, attempt, pointHistory, e);
+            }
+            TimeUnit.MILLISECONDS.sleep(backoffMillis);
+            backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+        }
+    }
+
+    private void notifyStored(long userId) {
+        for (LongConsumer listener : storedListeners) {
+            try {
+                listener.accept(userId);
+            } catch (RuntimeException e) {
+                log.error("PointHistory 저장 listener 실행에 실패했습니다. userId={}", userId, e);
+            }
+        }
+    }
+
+    private void markCompleted(long entrySequence) {
+        pendingSequences.remove(entrySequence);
+        completionLock.lock();
+        try {
+            completed.signalAll();
+        } finally {
+            completionLock.unlock();
+        }
+    }
+
+    private record Entry(long sequence, PointHistory pointHistory) {
+    }
+}
@@ -4,22 +4,33 @@ import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.point.model.PointHistory;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+@ConditionalOnProperty(prefix = "point.repository", name = "point-history",
+    havingValue = "table", matchIfMissing = true)
 @RequiredArgsConstructor
 @Repository
 public class PointHistoryInMemoryRepository implements PointHistoryRepository{
 
     private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryIndex pointHistoryIndex;
 
     @Override
     public PointHistory insert(PointHistory pointHistory) {
-        return pointHistoryTable.insert(pointHistory.userId(), pointHistory.amount(),
-            pointHistory.type(), pointHistory.updateMillis());
+        PointHistory savedPointHistory = pointHistoryTable.insert(pointHistory.userId(),
+            pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+        pointHistoryIndex.add(savedPointHistory);
+        return savedPointHistory;
     }
 
     @Override
     public List<PointHistory> selectAllByUserId(long userId) {
-        return pointHistoryTable.selectAllByUserId(userId);
+        return pointHistoryIndex.findAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserId(long userId, PointHistoryQuery query) {
+        return pointHistoryIndex.findByUserId(userId, query);
     }
 }
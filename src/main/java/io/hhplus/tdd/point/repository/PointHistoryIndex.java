@@ -0,0 +1,102 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * userId -> 해당 유저의 PointHistory 목록 보조 인덱스
+ * - PointHistoryTable.selectAllByUserId는 전체 내역을 훑기 때문에 내역이 쌓일수록 느려진다.
+ * - 저장된 PointHistory 객체를 그대로 참조하므로 추가 메모리는 참조 크기만큼만 든다.
+ * - 유저별 목록은 id 오름차순으로 유지된다.
+ */
+@Component
+public class PointHistoryIndex {
+
+    private final ConcurrentHashMap<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public void add(PointHistory pointHistory) {
+        buckets.computeIfAbsent(pointHistory.userId(), key -> new Bucket())
+            .add(pointHistory);
+    }
+
+    public List<PointHistory> findAllByUserId(long userId) {
+        Bucket bucket = buckets.get(userId);
+        return bucket == null ? Collections.emptyList() : bucket.snapshot();
+    }
+
+    /**
+     * cursor(afterId) 위치는 이진 탐색으로 찾고, 그 뒤로는 조건에 맞는 내역을 limit 건까지만 모은다.
+     */
+    public List<PointHistory> findByUserId(long userId, PointHistoryQuery query) {
+        Bucket bucket = buckets.get(userId);
+        return bucket == null ? Collections.emptyList() : bucket.find(query);
+    }
+
+    public void clear() {
+        buckets.clear();
+    }
+
+    private static final class Bucket {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final ArrayList<PointHistory> histories = new ArrayList<>();
+
+        void add(PointHistory pointHistory) {
+            lock.writeLock().lock();
+            try {
+                int index = histories.size();
+                // 대부분 id 순서대로 들어오므로 뒤에서부터 자리를 찾는다.
+                while (index > 0 && histories.get(index - 1).id() > pointHistory.id()) {
+                    --index;
+                }
+                histories.add(index, pointHistory);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<PointHistory> find(PointHistoryQuery query) {
+            lock.readLock().lock();
+            try {
+                List<PointHistory> results = new ArrayList<>(Math.min(query.limit(), histories.size()));
+                int index = query.afterId() == null ? 0 : firstIndexAfter(query.afterId());
+                for (; index < histories.size() && results.size() < query.limit(); ++index) {
+                    PointHistory pointHistory = histories.get(index);
+                    if (query.matches(pointHistory)) {
+                        results.add(pointHistory);
+                    }
+                }
+                return results;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private int firstIndexAfter(long afterId) {
+            int low = 0;
+            int high = histories.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (histories.get(mid).id() <= afterId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        List<PointHistory> snapshot() {
+            lock.readLock().lock();
+            try {
+                return List.copyOf(histories);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+
+/**
+ * 유저 PointHistory 조회 조건
+ * - afterId : 이 id보다 큰 내역부터 조회 (cursor), null이면 처음부터
+ * - fromMillis, toMillis : updateMillis 범위 (양 끝 포함), null이면 제한 없음
+ * - type : 내역 종류, null이면 전체
+ * - limit : 최대 조회 건수
+ */
+public record PointHistoryQuery(
+    Long afterId,
+    Long fromMillis,
+    Long toMillis,
+    TransactionType type,
+    int limit
+) {
+
+    public PointHistoryQuery(Long afterId, Long fromMillis, Long toMillis, int limit) {
+        this(afterId, fromMillis, toMillis, null, limit);
+    }
+
+    public static PointHistoryQuery firstPage(int limit) {
+        return new PointHistoryQuery(null, null, null, null, limit);
+    }
+
+    public PointHistoryQuery withLimit(int limit) {
+        return new PointHistoryQuery(afterId, fromMillis, toMillis, type, limit);
+    }
+
+    public PointHistoryQuery after(long afterId) {
+        return new PointHistoryQuery(afterId, fromMillis, toMillis, type, limit);
+    }
+
+    public boolean matches(PointHistory pointHistory) {
+        long updateMillis = pointHistory.updateMillis();
+        return (fromMillis == null || fromMillis <= updateMillis)
+            && (toMillis == null || updateMillis <= toMillis)
+            && (type == null || type == pointHistory.type());
+    }
+}
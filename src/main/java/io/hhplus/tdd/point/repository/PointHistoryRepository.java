@@ -2,9 +2,18 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.point.model.PointHistory;
 import java.util.List;
+import java.util.function.LongConsumer;
 
 public interface PointHistoryRepository {
 
     PointHistory insert(PointHistory pointHistory);
     List<PointHistory> selectAllByUserId(long userId);
+    List<PointHistory> selectByUserId(long userId, PointHistoryQuery query);
+
+    /**
+     * insert가 반환된 뒤에야 조회에 보이는 저장소(비동기 저장)는 내역이 조회 가능해질 때마다 listener에 유저 id를 넘긴다.
+     * insert가 반환될 때 이미 조회할 수 있는 저장소는 아무것도 하지 않는다.
+     */
+    default void addStoredListener(LongConsumer listener) {
+    }
 }
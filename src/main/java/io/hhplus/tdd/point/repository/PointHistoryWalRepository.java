@@ -0,0 +1,500 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PointHistory를 고정 크기 바이너리 레코드로 segment 파일에 이어 쓰는 write-ahead log Repository
+ * - 레코드(37 byte) : id | userId | amount | type | updateMillis | crc32c
+ * - segment 파일명은 첫 레코드의 id이며, 레코드 크기가 고정이라 id만으로 파일 위치를 계산한다.
+ * - heap에는 유저별 id 목록만 두고, 내역 자체는 조회 시 파일에서 읽는다.
+ * - fsync는 group commit으로 처리한다. 먼저 도착한 요청이 leader가 되어 그때까지 쓰인 내역을 한 번에 fsync하고,
+ *   그동안 도착한 요청은 다음 fsync를 기다린다.
+ * - 기동 시 segment를 순서대로 읽어 id cursor와 유저별 인덱스를 복구한다.
+ *   마지막 segment의 마지막 레코드가 깨져 있으면(쓰는 도중 종료) 잘라낸다.
+ *   깨진 레코드 뒤에 다른 레코드가 이어지거나 중간 segment가 깨져 있으면, fsync까지 끝난 내역을 잃지 않도록 기동하지 않는다.
+ */
+@ConditionalOnProperty(prefix = "point.repository", name = "point-history", havingValue = "wal")
+@Repository
+public class PointHistoryWalRepository implements ReplayablePointHistoryRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryWalRepository.class);
+
+    static final int RECORD_SIZE = 37;
+    private static final int CHECKSUM_OFFSET = RECORD_SIZE - Integer.BYTES;
+    private static final int RECOVERY_READ_RECORDS = 4096;
+
+    private static final String SEGMENT_PREFIX = "history-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean fsync;
+
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, UserHistoryIds> index = new ConcurrentHashMap<>();
+
+    // 아래 필드는 appendLock으로 보호된다.
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Condition durableCondition = appendLock.newCondition();
+    private final ByteBuffer appendBuffer = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32C appendChecksum = new CRC32C();
+    private Segment current;
+    private long lastId;
+    private long durableId;
+    private boolean forcing;
+    private boolean running = true;
+
+    public PointHistoryWalRepository(HistoryWalProperties properties) {
+        this.directory = Path.of(properties.directory());
+        this.segmentBytes = properties.segmentSize().toBytes() / RECORD_SIZE * RECORD_SIZE;
+        this.fsync = properties.fsync();
+
+        try {
+            Files.createDirectories(directory);
+            recover();
+            if (segments.isEmpty()) {
+                current = openSegment(lastId + 1);
+            } else {
+                current = segments.lastEntry().getValue();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("PointHistory log를 열 수 없습니다. directory=" + directory, e);
+        }
+        durableId = lastId;
+    }
+
+    @Override
+    public PointHistory insert(PointHistory pointHistory) {
+        long id;
+        appendLock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("PointHistory log가 종료되었습니다.");
+            }
+
+            id = lastId + 1;
+            if (current.size + RECORD_SIZE > segmentBytes) {
+                roll(id);
+            }
+            appendBuffer.clear();
+            encode(appendBuffer, appendChecksum, id, pointHistory);
+            writeFully(current.channel, appendBuffer, current.size);
+
+            current.size += RECORD_SIZE;
+            lastId = id;
+            index.computeIfAbsent(pointHistory.userId(), key -> new UserHistoryIds()).add(id);
+        } catch (IOException e) {
+            throw new UncheckedIOException("PointHistory를 기록하지 못했습니다.", e);
+        } finally {
+            appendLock.unlock();
+        }
+
+        if (fsync) {
+            awaitDurable(id);
+        }
+        return new PointHistory(id, pointHistory.userId(), pointHistory.amount(),
+            pointHistory.type(), pointHistory.updateMillis());
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistoryIds ids = index.get(userId);
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+
+        long[] snapshot = ids.snapshot();
+        List<PointHistory> results = new ArrayList<>(snapshot.length);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        for (long id : snapshot) {
+            results.add(read(id, buffer));
+        }
+        return results;
+    }
+
+    /**
+     * cursor(afterId) 위치는 id 목록에서 이진 탐색으로 찾고, 그 뒤로는 레코드를 읽으며 조건에 맞는 내역을 limit 건까지만 모은다.
+     */
+    @Override
+    public List<PointHistory> selectByUserId(long userId, PointHistoryQuery query) {
+        UserHistoryIds ids = index.get(userId);
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+
+        int from = query.afterId() == null ? 0 : ids.indexAfter(query.afterId());
+        List<PointHistory> results = new ArrayList<>(Math.min(query.limit(), 64));
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        while (results.size() < query.limit()) {
+            // id 목록은 뒤에만 추가되므로, 필요한 만큼씩 잘라 읽어도 위치가 어긋나지 않는다.
+            long[] range = ids.range(from, query.limit() - results.size());
+            if (range.length == 0) {
+                break;
+            }
+            for (long id : range) {
+                PointHistory pointHistory = read(id, buffer);
+                if (query.matches(pointHistory)) {
+                    results.add(pointHistory);
+                }
+            }
+            from += range.length;
+        }
+        return results;
+    }
+
+    @Override
+    public long lastHistoryId() {
+        appendLock.lock();
+        try {
+            return lastId;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * segment를 순서대로 크게 나누어 읽는다. toId 이하의 레코드는 모두 기록이 끝난 상태다.
+     */
+    @Override
+    public void forEachBetween(long afterId, long toId, Consumer<PointHistory> consumer) {
+        long id = Math.max(afterId + 1, 1L);
+        if (id > toId) {
+            return;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * RECOVERY_READ_RECORDS);
+        while (id <= toId) {
+            Map.Entry<Long, Segment> entry = segments.floorEntry(id);
+            if (entry == null) {
+                throw new IllegalStateException("PointHistory가 있는 segment를 찾을 수 없습니다. id=" + id);
+            }
+            Segment segment = entry.getValue();
+
+            buffer.clear();
+            long count = Math.min(RECOVERY_READ_RECORDS, toId - id + 1);
+            buffer.limit((int) count * RECORD_SIZE);
+            try {
+                int read = segment.channel.read(buffer, (id - segment.firstId) * RECORD_SIZE);
+                if (read < RECORD_SIZE) {
+                    // 현재 segment를 다 읽었다면 다음 segment로 넘어간다.
+                    if (segments.higherKey(segment.firstId) == null) {
+                        throw new IllegalStateException("PointHistory 레코드가 없습니다. id=" + id);
+                    }
+                    id = segments.higherKey(segment.firstId);
+                    continue;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("PointHistory를 읽지 못했습니다. id=" + id, e);
+            }
+            buffer.flip();
+
+            for (int offset = 0; offset + RECORD_SIZE <= buffer.limit(); offset += RECORD_SIZE) {
+                consumer.accept(decode(buffer, offset));
+                ++id;
+            }
+        }
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+            current.channel.force(false);
+            for (Segment segment : segments.values()) {
+                segment.channel.close();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * id까지의 내역이 fsync될 때까지 기다린다. fsync 중인 요청이 없으면 직접 leader가 되어 fsync한다.
+     */
+    private void awaitDurable(long id) {
+        appendLock.lock();
+        try {
+            while (durableId < id) {
+                if (forcing) {
+                    durableCondition.awaitUninterruptibly();
+                    continue;
+                }
+
+                forcing = true;
+                long target = lastId;
+                Segment segment = current;
+                appendLock.unlock();
+                try {
+                    segment.channel.force(false);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("PointHistory log를 fsync하지 못했습니다.", e);
+                } finally {
+                    appendLock.lock();
+                    forcing = false;
+                    durableCondition.signalAll();
+                }
+                durableId = Math.max(durableId, target);
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 segment를 fsync한 뒤 새 segment로 넘어간다. appendLock을 잡은 상태에서 호출되어야 한다.
+     */
+    private void roll(long nextId) throws IOException {
+        current.channel.force(false);
+        durableId = Math.max(durableId, lastId);
+        current = openSegment(nextId);
+    }
+
+    private Segment openSegment(long firstId) throws IOException {
+        Path path = directory.resolve(
+            String.format("%s%020d%s", SEGMENT_PREFIX, firstId, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Segment segment = new Segment(firstId, channel);
+        segments.put(firstId, segment);
+        return segment;
+    }
+
+    private PointHistory read(long id, ByteBuffer buffer) {
+        Map.Entry<Long, Segment> entry = segments.floorEntry(id);
+        if (entry == null) {
+            throw new IllegalStateException("PointHistory가 있는 segment를 찾을 수 없습니다. id=" + id);
+        }
+
+        Segment segment = entry.getValue();
+        buffer.clear();
+        try {
+            long position = (id - segment.firstId) * RECORD_SIZE;
+            while (buffer.hasRemaining()) {
+                if (segment.channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IllegalStateException("PointHistory 레코드가 잘려 있습니다. id=" + id);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("PointHistory를 읽지 못했습니다. id=" + id, e);
+        }
+        buffer.flip();
+        return decode(buffer, 0);
+    }
+
+    private void recover() throws IOException {
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files
+                .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .sorted()
+                .toList();
+        }
+
+        CRC32C checksum = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * RECOVERY_READ_RECORDS);
+        for (int i = 0; i < paths.size(); ++i) {
+            Path path = paths.get(i);
+            long firstId = firstIdOf(path);
+            if (firstId != lastId + 1) {
+                throw new IllegalStateException("PointHistory segment가 이어지지 않습니다. path=" + path);
+            }
+
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+            Segment segment = new Segment(firstId, channel);
+            long validSize = scan(segment, buffer, checksum);
+
+            if (validSize < channel.size()) {
+                // 파일 끝이 깨진 레코드 안에 있을 때만 쓰는 도중 종료된 것으로 본다.
+                if (i != paths.size() - 1 || channel.size() - validSize > RECORD_SIZE) {
+                    channel.close();
+                    throw new IllegalStateException("PointHistory segment가 손상되었습니다. path=" + path
+                        + ", offset=" + validSize);
+                }
+                log.warn("PointHistory log 끝의 불완전한 레코드를 잘라냅니다. path={}, {} -> {} bytes",
+                    path, channel.size(), validSize);
+                channel.truncate(validSize);
+                channel.force(true);
+            }
+            segment.size = validSize;
+            segments.put(firstId, segment);
+        }
+    }
+
+    /**
+     * segment를 처음부터 읽어 인덱스를 채우고, 온전한 레코드까지의 크기를 반환한다.
+     */
+    private long scan(Segment segment, ByteBuffer buffer, CRC32C checksum) throws IOException {
+        long position = 0;
+        long expectedId = segment.firstId;
+        while (true) {
+            buffer.clear();
+            int read = segment.channel.read(buffer, position);
+            if (read < RECORD_SIZE) {
+                return position;
+            }
+            buffer.flip();
+
+            for (int offset = 0; offset + RECORD_SIZE <= buffer.limit(); offset += RECORD_SIZE) {
+                if (!verify(buffer, offset, checksum) || buffer.getLong(offset) != expectedId) {
+                    return position;
+                }
+                PointHistory pointHistory = decode(buffer, offset);
+                index.computeIfAbsent(pointHistory.userId(), key -> new UserHistoryIds())
+                    .add(pointHistory.id());
+                lastId = expectedId++;
+                position += RECORD_SIZE;
+            }
+        }
+    }
+
+    private static long firstIdOf(Path path) {
+        String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(),
+            fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static void encode(ByteBuffer buffer, CRC32C checksum, long id, PointHistory pointHistory) {
+        buffer.putLong(id)
+            .putLong(pointHistory.userId())
+            .putLong(pointHistory.amount())
+            .put(typeCode(pointHistory.type()))
+            .putLong(pointHistory.updateMillis());
+
+        checksum.reset();
+        checksum.update(buffer.array(), 0, CHECKSUM_OFFSET);
+        buffer.putInt((int) checksum.getValue());
+        buffer.flip();
+    }
+
+    private static boolean verify(ByteBuffer buffer, int offset, CRC32C checksum) {
+        checksum.reset();
+        checksum.update(buffer.array(), offset, CHECKSUM_OFFSET);
+        return buffer.getInt(offset + CHECKSUM_OFFSET) == (int) checksum.getValue();
+    }
+
+    private static PointHistory decode(ByteBuffer buffer, int offset) {
+        return new PointHistory(
+            buffer.getLong(offset),
+            buffer.getLong(offset + 8),
+            buffer.getLong(offset + 16),
+            typeOf(buffer.get(offset + 24)),
+            buffer.getLong(offset + 25));
+    }
+
+    private static byte typeCode(TransactionType type) {
+        return switch (type) {
+            case CHARGE -> 1;
+            case USE -> 2;
+        };
+    }
+
+    private static TransactionType typeOf(byte code) {
+        return switch (code) {
+            case 1 -> TransactionType.CHARGE;
+            case 2 -> TransactionType.USE;
+            default -> throw new IllegalStateException("알 수 없는 내역 종류입니다. code=" + code);
+        };
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+        throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static final class Segment {
+        private final long firstId;
+        private final FileChannel channel;
+        private long size; // appendLock으로 보호된다.
+
+        Segment(long firstId, FileChannel channel) {
+            this.firstId = firstId;
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * 유저 한 명의 내역 id 목록 (오름차순)
+     */
+    private static final class UserHistoryIds {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            lock.writeLock().lock();
+            try {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                }
+                ids[size++] = id;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        long[] snapshot() {
+            return range(0, Integer.MAX_VALUE);
+        }
+
+        long[] range(int from, int maxCount) {
+            lock.readLock().lock();
+            try {
+                int to = (int) Math.min(size, (long) from + maxCount);
+                return from >= to ? new long[0] : Arrays.copyOfRange(ids, from, to);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * afterId보다 큰 첫 id의 위치
+         */
+        int indexAfter(long afterId) {
+            lock.readLock().lock();
+            try {
+                int found = Arrays.binarySearch(ids, 0, size, afterId);
+                return found >= 0 ? found + 1 : -(found + 1);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
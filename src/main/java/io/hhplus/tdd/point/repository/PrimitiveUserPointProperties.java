@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * primitive 저장소 설정
+ * - capacity : 저장할 수 있는 최대 유저 수, 2의 거듭제곱으로 올림된다. (배열은 그 2배 크기로 잡는다)
+ */
+@ConfigurationProperties(prefix = "point.repository.primitive")
+public record PrimitiveUserPointProperties(
+    @DefaultValue("1048576") int capacity
+) {
+
+    private static final int MAX_CAPACITY = 1 << 29;
+
+    public PrimitiveUserPointProperties {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity는 1 이상 " + MAX_CAPACITY + " 이하여야 합니다.");
+        }
+    }
+}
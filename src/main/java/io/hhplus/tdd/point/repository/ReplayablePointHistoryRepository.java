@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import java.util.function.Consumer;
+
+/**
+ * 저장된 내역을 처음부터 다시 읽을 수 있는 PointHistoryRepository (재시작 후에도 유지되는 저장소)
+ * - 복구(point.recovery)와 잔액 projection(user-point=projection)이 전체 내역을 다시 읽을 때 사용한다.
+ */
+public interface ReplayablePointHistoryRepository extends PointHistoryRepository {
+
+    /**
+     * 지금까지 저장이 끝난 마지막 내역의 id
+     */
+    long lastHistoryId();
+
+    /**
+     * afterId보다 크고 toId 이하인 모든 유저의 내역을 id 순서대로 consumer에 넘긴다.
+     */
+    void forEachBetween(long afterId, long toId, Consumer<PointHistory> consumer);
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.model.UserPoint;
+import java.util.Collection;
+
+/**
+ * 내역으로 복구한 잔액을 한 번에 올릴 수 있는 UserPointRepository (point.recovery에 필요)
+ * - 유저마다 느린 저장소(UserPointTable)를 거치는 저장소는 구현하지 않는다.
+ */
+public interface RestorableUserPointRepository extends UserPointRepository {
+
+    /**
+     * 내역으로 복구한 잔액을 한 번에 저장한다.
+     * 기본 구현은 유저마다 insertOrUpdate를 호출하므로, 메모리에 바로 반영되는 저장소만 그대로 사용한다.
+     */
+    default void restoreAll(Collection<UserPoint> userPoints) {
+        for (UserPoint userPoint : userPoints) {
+            insertOrUpdate(userPoint);
+        }
+    }
+}
@@ -4,8 +4,16 @@ import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.model.UserPoint;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+/**
+ * UserPointTable에 잔액을 저장하는 기본 Repository
+ * - UserPointTable은 쓰기 한 번에 최대 300ms가 걸리고 동시 쓰기도 안전하지 않아, 유저 수만큼 순서대로 기다려야 하므로
+ *   복구(RestorableUserPointRepository)를 지원하지 않는다.
+ */
+@ConditionalOnProperty(prefix = "point.repository", name = "user-point",
+    havingValue = "table", matchIfMissing = true)
 @RequiredArgsConstructor
 @Repository
 public class UserPointInMemoryRepository implements UserPointRepository{
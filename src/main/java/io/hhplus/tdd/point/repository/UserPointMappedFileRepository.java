@@ -0,0 +1,430 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.model.UserPoint;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 잔액을 memory-mapped 파일의 고정 크기 슬롯에 저장하는 Repository
+ * - 여러 프로세스가 같은 파일을 매핑해 함께 쓸 수 있는 유일한 저장소이므로, lease 락의 fencing token을 검사한다.
+ * - 파일 자체가 open addressing 해시 인덱스이므로, 재시작 시 파일을 다시 매핑하기만 하면 된다.
+ * - 데이터가 heap 밖(page cache)에 있어 유저 수가 늘어도 GC 부담이 없다.
+ * - 슬롯은 한 번 할당되면 해제되지 않으며, capacity를 넘는 유저는 저장할 수 없다.
+ *   슬롯 수는 capacity의 2배로 잡아, 가득 찬 상태에서도 탐색 길이가 짧게 유지되도록 한다. (load factor 0.5 이하)
+ *   할당된 슬롯 수는 헤더에 남겨 재시작 후에도 capacity를 지킨다.
+ *
+ * 슬롯(64 byte) : key | seq | copy0(point, updateMillis) | copy1(point, updateMillis) | fencingToken | padding
+ * - 쓰기는 seq가 가리키지 않는 copy에 값을 먼저 쓰고, 마지막에 seq를 증가시켜 새 copy를 가리키게 한다.
+ *   seq가 바뀌기 전에 프로세스가 죽어도 이전 copy가 그대로 남아 있어 값이 깨지지 않는다.
+ * - 읽기는 seq → copy → seq 순으로 읽어 seq가 그대로일 때만 값을 사용한다. (seqlock, 락 없음)
+ * - 쓰기끼리는 seq의 최상위 bit를 CAS로 선점해 직렬화한다.
+ *   fencing token도 쓰기 bit를 잡은 상태에서 비교/기록하므로, 늦게 도착한 이전 lease의 쓰기는 값을 바꾸지 못한다.
+ * - 프로세스 crash에는 안전하지만, OS crash까지 견디려면 force()로 디스크에 내려야 한다.
+ *   정상 종료 시에는 force() 후 clean 표시를 남기고, clean 표시가 없으면 기동 시 남은 쓰기 bit를 정리한다.
+ */
+@ConditionalOnProperty(prefix = "point.repository", name = "user-point", havingValue = "mapped-file")
+@Repository
+public class UserPointMappedFileRepository implements FencedUserPointRepository, ConditionalUserPointRepository,
+    RestorableUserPointRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPointMappedFileRepository.class);
+
+    private static final VarHandle LONGS =
+        MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private static final long MAGIC = 0x4848_5054_5553_4552L;
+    private static final long VERSION = 2L;
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 16;
+    private static final int CLEAN_OFFSET = 24;
+    private static final int SIZE_OFFSET = 32;
+
+    private static final int SLOT_SHIFT = 6;
+    private static final int KEY_OFFSET = 0;
+    private static final int SEQ_OFFSET = 8;
+    private static final int COPY0_OFFSET = 16;
+    private static final int COPY1_OFFSET = 32;
+    private static final int FENCING_TOKEN_OFFSET = 48;
+    private static final int POINT_OFFSET = 0;
+    private static final int MILLIS_OFFSET = 8;
+
+    // 매핑 하나는 2GB를 넘을 수 없으므로 1GB(2^24 슬롯) 단위로 나누어 매핑한다.
+    private static final int SLOTS_PER_CHUNK_SHIFT = 24;
+    private static final int SLOTS_PER_CHUNK_MASK = (1 << SLOTS_PER_CHUNK_SHIFT) - 1;
+
+    private static final long EMPTY_KEY = 0L;
+    private static final long WRITE_LOCK = Long.MIN_VALUE;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] chunks;
+    private final int mask;
+    private final int capacity;
+
+    public UserPointMappedFileRepository(MappedFileProperties properties) {
+        int capacity = Math.max(Integer.highestOneBit(properties.capacity() - 1) << 1, 1);
+        int tableSize = capacity * 2;
+        this.capacity = capacity;
+        Path path = Path.of(properties.path());
+        try {
+            if (path.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean created = channel.size() == 0;
+
+            this.header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+            this.header.order(ByteOrder.nativeOrder());
+            if (created) {
+                header.putLong(VERSION_OFFSET, VERSION);
+                header.putLong(CAPACITY_OFFSET, capacity);
+                header.putLong(CLEAN_OFFSET, 1L);
+                // magic을 마지막에 써서, 초기화 도중 죽은 파일은 다음 기동 시 잘못된 파일로 판별되게 한다.
+                header.putLong(MAGIC_OFFSET, MAGIC);
+            } else {
+                checkHeader(path, capacity);
+            }
+
+            this.mask = tableSize - 1;
+            int chunkCount = ((tableSize - 1) >>> SLOTS_PER_CHUNK_SHIFT) + 1;
+            this.chunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; ++i) {
+                long slots = Math.min(tableSize - ((long) i << SLOTS_PER_CHUNK_SHIFT),
+                    1L << SLOTS_PER_CHUNK_SHIFT);
+                chunks[i] = channel.map(MapMode.READ_WRITE,
+                    HEADER_SIZE + ((long) i << (SLOTS_PER_CHUNK_SHIFT + SLOT_SHIFT)),
+                    slots << SLOT_SHIFT);
+            }
+
+            if (header.getLong(CLEAN_OFFSET) != 1L) {
+                recover(path);
+            }
+            header.putLong(CLEAN_OFFSET, 0L);
+            header.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("UserPoint 파일을 열 수 없습니다. path=" + path, e);
+        }
+    }
+
+    @Override
+    public Optional<UserPoint> selectById(long id) {
+        int slot = findSlot(id);
+        if (slot < 0) {
+            return Optional.empty();
+        }
+
+        MappedByteBuffer chunk = chunkOf(slot);
+        int base = offsetOf(slot);
+        while (true) {
+            long seq = (long) LONGS.getAcquire(chunk, base + SEQ_OFFSET) & ~WRITE_LOCK;
+            if (seq == 0L) {
+                return Optional.empty();
+            }
+
+            int copy = base + copyOffset(seq);
+            long point = (long) LONGS.getOpaque(chunk, copy + POINT_OFFSET);
+            long updateMillis = (long) LONGS.getOpaque(chunk, copy + MILLIS_OFFSET);
+
+            VarHandle.acquireFence();
+            if (((long) LONGS.getOpaque(chunk, base + SEQ_OFFSET) & ~WRITE_LOCK) == seq) {
+                return Optional.of(new UserPoint(id, point, updateMillis));
+            }
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(UserPoint userPoint) {
+        int slot = claimSlot(userPoint.id());
+        long seq = lockSlot(slot);
+        return publish(slot, seq, userPoint.id(), userPoint.point());
+    }
+
+    @Override
+    public Optional<UserPoint> compareAndSet(UserPoint expected, UserPoint updated) {
+        // 기대값이 있는데 슬롯이 없다면 어차피 실패하므로 슬롯을 새로 잡지 않는다.
+        int slot = expected == null ? claimSlot(updated.id()) : findSlot(updated.id());
+        if (slot < 0) {
+            return Optional.empty();
+        }
+        long seq = lockSlot(slot);
+
+        boolean matched = expected == null
+            ? seq == 0L
+            : seq != 0L && pointOf(slot, seq) == expected.point()
+                && updateMillisOf(slot, seq) == expected.updateMillis();
+        if (!matched) {
+            unlockSlot(slot, seq);
+            return Optional.empty();
+        }
+        return Optional.of(publish(slot, seq, updated.id(), updated.point()));
+    }
+
+    @Override
+    public UserPoint chargeAtomically(long id, long amount, long maxAmount) {
+        return chargeAtomically(id, amount, maxAmount, NO_FENCING_TOKEN);
+    }
+
+    @Override
+    public UserPoint chargeAtomically(long id, long amount, long maxAmount, long fencingToken) {
+        int slot = findSlot(id);
+        if (slot < 0) {
+            // 처음 충전하는 유저는 한도를 먼저 확인해, 거절된 충전이 슬롯을 차지하지 않게 한다.
+            if (amount > maxAmount) {
+                throw PointException.EXCEED_POINT_BALANCE;
+            }
+            slot = claimSlot(id);
+        }
+        long seq = lockSlot(slot);
+        checkFencingToken(slot, seq, fencingToken);
+
+        long point = seq == 0L ? 0L : pointOf(slot, seq);
+        if (amount > maxAmount - point) {
+            unlockSlot(slot, seq);
+            throw PointException.EXCEED_POINT_BALANCE;
+        }
+        return publish(slot, seq, id, point + amount);
+    }
+
+    @Override
+    public UserPoint useAtomically(long id, long amount) {
+        return useAtomically(id, amount, NO_FENCING_TOKEN);
+    }
+
+    @Override
+    public UserPoint useAtomically(long id, long amount, long fencingToken) {
+        int slot = findSlot(id);
+        if (slot < 0) {
+            throw PointException.NOT_FOUND_USER_POINT;
+        }
+        long seq = lockSlot(slot);
+
+        checkFencingToken(slot, seq, fencingToken);
+        if (seq == 0L) {
+            unlockSlot(slot, seq);
+            throw PointException.NOT_FOUND_USER_POINT;
+        }
+        long point = pointOf(slot, seq);
+        if (point < amount) {
+            unlockSlot(slot, seq);
+            throw PointException.INSUFFICIENT_POINT_BALANCE;
+        }
+        return publish(slot, seq, id, point - amount);
+    }
+
+    /**
+     * 매핑된 내용을 디스크에 반영한다.
+     */
+    public void force() {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+        header.force();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        force();
+        header.putLong(CLEAN_OFFSET, 1L);
+        header.force();
+        channel.close();
+    }
+
+    private void checkHeader(Path path, int capacity) {
+        if (header.getLong(MAGIC_OFFSET) != MAGIC || header.getLong(VERSION_OFFSET) != VERSION) {
+            throw new IllegalStateException("UserPoint 파일 형식이 올바르지 않습니다. path=" + path);
+        }
+        if (header.getLong(CAPACITY_OFFSET) != capacity) {
+            throw new IllegalStateException("UserPoint 파일의 capacity(" + header.getLong(CAPACITY_OFFSET)
+                + ")가 설정값(" + capacity + ")과 다릅니다. path=" + path);
+        }
+    }
+
+    /**
+     * 정상 종료되지 않은 파일에서 쓰는 도중 죽은 슬롯의 쓰기 bit를 해제한다.
+     * seq는 마지막으로 완료된 copy를 가리키고 있으므로 값은 그대로 둔다.
+     * 슬롯 수를 늘린 뒤 key를 쓰기 전에 죽었을 수 있으므로, 할당된 슬롯 수도 key로 다시 센다.
+     */
+    private void recover(Path path) {
+        int recovered = 0;
+        long size = 0;
+        for (int slot = 0; slot <= mask; ++slot) {
+            MappedByteBuffer chunk = chunkOf(slot);
+            int base = offsetOf(slot);
+            if ((long) LONGS.getVolatile(chunk, base + KEY_OFFSET) != EMPTY_KEY) {
+                ++size;
+            }
+            long seq = (long) LONGS.getVolatile(chunk, base + SEQ_OFFSET);
+            if ((seq & WRITE_LOCK) != 0L) {
+                LONGS.setVolatile(chunk, base + SEQ_OFFSET, seq & ~WRITE_LOCK);
+                ++recovered;
+            }
+        }
+        LONGS.setVolatile(header, SIZE_OFFSET, size);
+        log.warn("UserPoint 파일이 정상 종료되지 않아 복구했습니다. path={}, 복구한 슬롯 수={}", path, recovered);
+    }
+
+    /**
+     * 쓰기 bit를 선점하고, 선점 전의 seq를 반환한다.
+     */
+    private long lockSlot(int slot) {
+        MappedByteBuffer chunk = chunkOf(slot);
+        int seqOffset = offsetOf(slot) + SEQ_OFFSET;
+        while (true) {
+            long seq = (long) LONGS.getVolatile(chunk, seqOffset);
+            if ((seq & WRITE_LOCK) == 0L
+                && LONGS.compareAndSet(chunk, seqOffset, seq, seq | WRITE_LOCK)) {
+                return seq;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 쓰기 bit를 잡은 상태에서 호출한다.
+     * fencingToken이 슬롯에 기록된 token보다 작으면 쓰기 bit를 해제하고 LOCK_LEASE_EXPIRED를 던지며,
+     * 더 크면 새 token을 기록해 그 뒤로는 이전 lease의 쓰기를 거절한다.
+     */
+    private void checkFencingToken(int slot, long seq, long fencingToken) {
+        if (fencingToken == NO_FENCING_TOKEN) {
+            return;
+        }
+        MappedByteBuffer chunk = chunkOf(slot);
+        int tokenOffset = offsetOf(slot) + FENCING_TOKEN_OFFSET;
+        long lastToken = (long) LONGS.getOpaque(chunk, tokenOffset);
+        if (fencingToken < lastToken) {
+            unlockSlot(slot, seq);
+            throw PointException.LOCK_LEASE_EXPIRED;
+        }
+        if (fencingToken > lastToken) {
+            LONGS.setOpaque(chunk, tokenOffset, fencingToken);
+        }
+    }
+
+    private void unlockSlot(int slot, long seq) {
+        LONGS.setRelease(chunkOf(slot), offsetOf(slot) + SEQ_OFFSET, seq);
+    }
+
+    /**
+     * 현재 seq가 가리키지 않는 copy에 값을 쓴 뒤 seq를 증가시켜 공개하고, 쓰기 bit를 해제한다.
+     */
+    private UserPoint publish(int slot, long seq, long id, long point) {
+        long nextSeq = seq + 1;
+        long updateMillis = System.currentTimeMillis();
+
+        MappedByteBuffer chunk = chunkOf(slot);
+        int copy = offsetOf(slot) + copyOffset(nextSeq);
+        LONGS.setOpaque(chunk, copy + POINT_OFFSET, point);
+        LONGS.setOpaque(chunk, copy + MILLIS_OFFSET, updateMillis);
+        LONGS.setRelease(chunk, offsetOf(slot) + SEQ_OFFSET, nextSeq);
+
+        return new UserPoint(id, point, updateMillis);
+    }
+
+    private long pointOf(int slot, long seq) {
+        return (long) LONGS.getOpaque(chunkOf(slot), offsetOf(slot) + copyOffset(seq) + POINT_OFFSET);
+    }
+
+    private long updateMillisOf(int slot, long seq) {
+        return (long) LONGS.getOpaque(chunkOf(slot), offsetOf(slot) + copyOffset(seq) + MILLIS_OFFSET);
+    }
+
+    /**
+     * @return id가 저장된 슬롯, 없으면 -1
+     */
+    private int findSlot(long id) {
+        long key = encodeKey(id);
+        int slot = hash(id);
+        for (int probe = 0; probe <= mask; ++probe) {
+            long stored = (long) LONGS.getAcquire(chunkOf(slot), offsetOf(slot) + KEY_OFFSET);
+            if (stored == key) {
+                return slot;
+            }
+            if (stored == EMPTY_KEY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * id가 저장된 슬롯을 찾고, 없으면 빈 슬롯을 CAS로 선점한다.
+     * 새 슬롯은 할당된 슬롯 수가 capacity보다 적을 때만 선점한다.
+     */
+    private int claimSlot(long id) {
+        long key = encodeKey(id);
+        int slot = hash(id);
+        for (int probe = 0; probe <= mask; ++probe) {
+            MappedByteBuffer chunk = chunkOf(slot);
+            int keyOffset = offsetOf(slot) + KEY_OFFSET;
+            long stored = (long) LONGS.getAcquire(chunk, keyOffset);
+            if (stored == key) {
+                return slot;
+            }
+            if (stored == EMPTY_KEY) {
+                if ((long) LONGS.getAndAdd(header, SIZE_OFFSET, 1L) >= capacity) {
+                    LONGS.getAndAdd(header, SIZE_OFFSET, -1L);
+                    throw full();
+                }
+                if (LONGS.compareAndSet(chunk, keyOffset, EMPTY_KEY, key)) {
+                    return slot;
+                }
+                // 다른 스레드가 먼저 선점했다면 같은 슬롯을 다시 확인한다. (같은 id일 수 있다)
+                LONGS.getAndAdd(header, SIZE_OFFSET, -1L);
+                continue;
+            }
+            slot = (slot + 1) & mask;
+        }
+        throw full();
+    }
+
+    private IllegalStateException full() {
+        return new IllegalStateException("UserPoint 저장 공간이 가득 찼습니다. capacity=" + capacity);
+    }
+
+    /**
+     * 새 파일은 0으로 채워져 있으므로 0을 빈 슬롯으로 쓰고, id는 최상위 bit를 뒤집어 저장한다.
+     */
+    private static long encodeKey(long id) {
+        if (id == Long.MIN_VALUE) {
+            throw new IllegalArgumentException("사용할 수 없는 id입니다. id=" + id);
+        }
+        return id ^ Long.MIN_VALUE;
+    }
+
+    private int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private MappedByteBuffer chunkOf(int slot) {
+        return chunks[slot >>> SLOTS_PER_CHUNK_SHIFT];
+    }
+
+    private static int offsetOf(int slot) {
+        return (slot & SLOTS_PER_CHUNK_MASK) << SLOT_SHIFT;
+    }
+
+    private static int copyOffset(long seq) {
+        return (seq & 1L) == 0L ? COPY0_OFFSET : COPY1_OFFSET;
+    }
+}
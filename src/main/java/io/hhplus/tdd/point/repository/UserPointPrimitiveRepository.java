@@ -0,0 +1,206 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.model.UserPoint;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * long 배열 기반 open addressing 해시 테이블에 잔액을 저장하는 메모리 Repository
+ * - key는 boxing 없이 keys 배열에, 잔액과 변경 시각은 하나의 long으로 묶어 values 배열에 저장한다.
+ *   (상위 47bit : updateMillis, 하위 17bit : point)
+ * - 충전/사용은 슬롯 하나에 대한 CAS 반복으로 처리되어 락이 없고, 저장소 내부에서는 객체를 만들지 않는다.
+ * - 슬롯은 한 번 할당되면 해제되지 않으며, capacity를 넘는 유저는 저장할 수 없다.
+ *   배열은 capacity의 2배로 잡아, 가득 찬 상태에서도 탐색 길이가 짧게 유지되도록 한다. (load factor 0.5 이하)
+ * - UserPointTable에 반영하지 않으므로 재시작하면 잔액이 사라진다.
+ */
+@ConditionalOnProperty(prefix = "point.repository", name = "user-point", havingValue = "primitive")
+@Repository
+public class UserPointPrimitiveRepository implements AtomicUserPointRepository, ConditionalUserPointRepository,
+    RestorableUserPointRepository {
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final long ABSENT = 0L;
+
+    private static final int POINT_BITS = 17;
+    private static final long POINT_MASK = (1L << POINT_BITS) - 1;
+    static final long MAX_STORABLE_POINT = POINT_MASK;
+
+    private final AtomicLongArray keys;
+    private final AtomicLongArray values;
+    private final int mask;
+    private final int capacity;
+    private final AtomicInteger size = new AtomicInteger();
+
+    public UserPointPrimitiveRepository(PrimitiveUserPointProperties properties) {
+        int capacity = Integer.highestOneBit(properties.capacity() - 1) << 1;
+        this.capacity = Math.max(capacity, 1);
+        int tableSize = this.capacity * 2;
+
+        this.keys = new AtomicLongArray(tableSize);
+        this.values = new AtomicLongArray(tableSize);
+        this.mask = tableSize - 1;
+        for (int i = 0; i < tableSize; ++i) {
+            keys.set(i, EMPTY_KEY);
+        }
+    }
+
+    @Override
+    public Optional<UserPoint> selectById(long id) {
+        int slot = findSlot(id);
+        if (slot < 0) {
+            return Optional.empty();
+        }
+
+        long value = values.get(slot);
+        return value == ABSENT ? Optional.empty() : Optional.of(toUserPoint(id, value));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(UserPoint userPoint) {
+        long value = pack(userPoint.point(), System.currentTimeMillis());
+        values.set(claimSlot(userPoint.id()), value);
+        return toUserPoint(userPoint.id(), value);
+    }
+
+    @Override
+    public Optional<UserPoint> compareAndSet(UserPoint expected, UserPoint updated) {
+        long expectedValue = expected == null
+            ? ABSENT
+            : pack(expected.point(), expected.updateMillis());
+        long updatedValue = pack(updated.point(), System.currentTimeMillis());
+
+        // 기대값이 있는데 슬롯이 없다면 어차피 실패하므로 슬롯을 새로 잡지 않는다.
+        int slot = expected == null ? claimSlot(updated.id()) : findSlot(updated.id());
+        if (slot < 0 || !values.compareAndSet(slot, expectedValue, updatedValue)) {
+            return Optional.empty();
+        }
+        return Optional.of(toUserPoint(updated.id(), updatedValue));
+    }
+
+    @Override
+    public UserPoint chargeAtomically(long id, long amount, long maxAmount) {
+        int slot = findSlot(id);
+        if (slot < 0) {
+            // 처음 충전하는 유저는 한도를 먼저 확인해, 거절된 충전이 슬롯을 차지하지 않게 한다.
+            if (amount > maxAmount) {
+                throw PointException.EXCEED_POINT_BALANCE;
+            }
+            slot = claimSlot(id);
+        }
+        while (true) {
+            long current = values.get(slot);
+            long point = pointOf(current);
+            if (amount > maxAmount - point) {
+                throw PointException.EXCEED_POINT_BALANCE;
+            }
+
+            long updated = pack(point + amount, System.currentTimeMillis());
+            if (values.compareAndSet(slot, current, updated)) {
+                return toUserPoint(id, updated);
+            }
+        }
+    }
+
+    @Override
+    public UserPoint useAtomically(long id, long amount) {
+        int slot = findSlot(id);
+        while (true) {
+            long current = slot < 0 ? ABSENT : values.get(slot);
+            if (current == ABSENT) {
+                throw PointException.NOT_FOUND_USER_POINT;
+            }
+
+            long point = pointOf(current);
+            if (point < amount) {
+                throw PointException.INSUFFICIENT_POINT_BALANCE;
+            }
+
+            long updated = pack(point - amount, System.currentTimeMillis());
+            if (values.compareAndSet(slot, current, updated)) {
+                return toUserPoint(id, updated);
+            }
+        }
+    }
+
+    /**
+     * @return id가 저장된 슬롯, 없으면 -1
+     */
+    private int findSlot(long id) {
+        checkId(id);
+        int slot = hash(id);
+        for (int probe = 0; probe <= mask; ++probe) {
+            long key = keys.get(slot);
+            if (key == id) {
+                return slot;
+            }
+            if (key == EMPTY_KEY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * id가 저장된 슬롯을 찾고, 없으면 빈 슬롯을 CAS로 선점한다.
+     * 새 슬롯은 저장된 유저 수가 capacity보다 적을 때만 선점한다.
+     */
+    private int claimSlot(long id) {
+        checkId(id);
+        int slot = hash(id);
+        for (int probe = 0; probe <= mask; ++probe) {
+            long key = keys.get(slot);
+            if (key == id) {
+                return slot;
+            }
+            if (key == EMPTY_KEY) {
+                if (size.incrementAndGet() > capacity) {
+                    size.decrementAndGet();
+                    throw full();
+                }
+                if (keys.compareAndSet(slot, EMPTY_KEY, id)) {
+                    return slot;
+                }
+                // 다른 스레드가 먼저 선점했다면 같은 슬롯을 다시 확인한다. (같은 id일 수 있다)
+                size.decrementAndGet();
+                continue;
+            }
+            slot = (slot + 1) & mask;
+        }
+        throw full();
+    }
+
+    private IllegalStateException full() {
+        return new IllegalStateException("UserPoint 저장 공간이 가득 찼습니다. capacity=" + capacity);
+    }
+
+    private int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static void checkId(long id) {
+        if (id == EMPTY_KEY) {
+            throw new IllegalArgumentException("사용할 수 없는 id입니다. id=" + id);
+        }
+    }
+
+    private static long pack(long point, long updateMillis) {
+        if (point < 0 || point > MAX_STORABLE_POINT) {
+            throw new IllegalArgumentException("저장할 수 없는 포인트입니다. point=" + point);
+        }
+        return (updateMillis << POINT_BITS) | point;
+    }
+
+    private static long pointOf(long value) {
+        return value & POINT_MASK;
+    }
+
+    private static UserPoint toUserPoint(long id, long value) {
+        return new UserPoint(id, value & POINT_MASK, value >>> POINT_BITS);
+    }
+}
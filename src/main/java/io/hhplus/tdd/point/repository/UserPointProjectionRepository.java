@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import io.hhplus.tdd.point.model.UserPoint;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PointHistory를 원본으로 하고, 잔액은 내역을 누적한 메모리 projection으로만 유지하는 Repository
+ * - 충전/사용은 내역 한 건의 저장(appendHistory)으로 끝나며, 잔액을 따로 저장하지 않는다.
+ *   내역 저장에 실패하면 projection도 바뀌지 않으므로 잔액과 내역이 어긋나는 구간이 없다.
+ * - 기동 시 PointHistoryRepository가 내역을 다시 읽을 수 있으면(point-history=wal) 전체 내역으로 projection을 만든다.
+ * - 같은 유저의 appendHistory는 순서대로 호출되어야 한다. (execution.mode=lock, mailbox)
+ */
+@ConditionalOnProperty(prefix = "point.repository", name = "user-point", havingValue = "projection")
+@Repository
+public class UserPointProjectionRepository implements HistoryDerivedUserPointRepository,
+    RestorableUserPointRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPointProjectionRepository.class);
+
+    private final PointHistoryRepository pointHistoryRepository;
+
+    private final ConcurrentHashMap<Long, UserPoint> projections = new ConcurrentHashMap<>();
+
+    public UserPointProjectionRepository(PointHistoryRepository pointHistoryRepository) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        if (pointHistoryRepository instanceof ReplayablePointHistoryRepository replayableRepository) {
+            rebuild(replayableRepository);
+        }
+    }
+
+    @Override
+    public Optional<UserPoint> selectById(long id) {
+        return Optional.ofNullable(projections.get(id));
+    }
+
+    /**
+     * 내역 없이 projection만 바꾼다. 복구(point.recovery)처럼 내역과 같은 값을 다시 채울 때만 사용한다.
+     */
+    @Override
+    public UserPoint insertOrUpdate(UserPoint userPoint) {
+        UserPoint saved = new UserPoint(userPoint.id(), userPoint.point(), System.currentTimeMillis());
+        projections.put(saved.id(), saved);
+        return saved;
+    }
+
+    @Override
+    public UserPoint appendHistory(PointHistory pointHistory) {
+        pointHistoryRepository.insert(pointHistory);
+        return projections.compute(pointHistory.userId(),
+            (id, current) -> project(current, pointHistory));
+    }
+
+    private void rebuild(ReplayablePointHistoryRepository replayableRepository) {
+        long start = System.nanoTime();
+        long lastHistoryId = replayableRepository.lastHistoryId();
+        replayableRepository.forEachBetween(0L, lastHistoryId,
+            pointHistory -> projections.compute(pointHistory.userId(),
+                (id, current) -> project(current, pointHistory)));
+
+        log.info("내역으로 잔액 projection을 만들었습니다. 내역={}건, 유저={}명, {}ms",
+            lastHistoryId, projections.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static UserPoint project(UserPoint current, PointHistory pointHistory) {
+        long point = current != null ? current.point() : 0L;
+        long delta = pointHistory.type() == TransactionType.CHARGE
+            ? pointHistory.amount()
+            : -pointHistory.amount();
+        return new UserPoint(pointHistory.userId(), point + delta, pointHistory.updateMillis());
+    }
+}
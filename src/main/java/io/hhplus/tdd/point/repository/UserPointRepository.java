@@ -3,6 +3,12 @@ package io.hhplus.tdd.point.repository;
 import io.hhplus.tdd.point.model.UserPoint;
 import java.util.Optional;
 
+/**
+ * 잔액 저장소
+ * - 저장소마다 다른 기능은 별도 인터페이스로 구현하고, 사용하는 쪽에서 instanceof로 확인한다.
+ *   (ConditionalUserPointRepository, AtomicUserPointRepository, FencedUserPointRepository,
+ *   HistoryDerivedUserPointRepository, RestorableUserPointRepository)
+ */
 public interface UserPointRepository {
     Optional<UserPoint> selectById(long id);
     UserPoint insertOrUpdate(UserPoint userPoint);
@@ -0,0 +1,203 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.model.UserPoint;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * UserPointTable 앞단의 write-behind 캐시
+ * - 조회/변경은 메모리에서 처리하고, 변경된(dirty) 엔트리는 백그라운드 flusher가 UserPointTable에 반영한다.
+ * - 같은 유저에 대한 여러 번의 변경은 마지막 값 하나로 합쳐져(coalesce) 한 번만 insertOrUpdate 된다.
+ * - 캐시가 최신 값을 들고 있으므로 compareAndSet을 지원한다. (point.execution.mode=optimistic)
+ * - 반영이 끝난(clean) 엔트리는 expireAfterAccess 동안 조회/변경이 없으면 flusher가 캐시에서 제거한다.
+ *   dirty 엔트리는 제거하지 않으므로, 캐시에는 아직 반영되지 않은 값과 최근에 쓰인 값만 남는다.
+ */
+@ConditionalOnProperty(prefix = "point.repository", name = "user-point", havingValue = "write-behind")
+@Repository
+public class UserPointWriteBehindRepository implements ConditionalUserPointRepository,
+    RestorableUserPointRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPointWriteBehindRepository.class);
+
+    private final UserPointTable userPointTable;
+    private final long maxDirtyAgeMillis;
+    private final long flushIntervalMillis;
+    private final long expireAfterAccessMillis;
+
+    private final ConcurrentHashMap<Long, CachedPoint> cache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, DirtyEntry> dirtyEntries = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flusher;
+    // 주기 flush와 수동 flush가 겹쳐 테이블 반영 순서가 뒤바뀌지 않도록 한다.
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public UserPointWriteBehindRepository(UserPointTable userPointTable,
+        WriteBehindProperties properties) {
+        this.userPointTable = userPointTable;
+        this.maxDirtyAgeMillis = properties.maxDirtyAge().toMillis();
+        this.flushIntervalMillis = properties.flushInterval().toMillis();
+        this.expireAfterAccessMillis = properties.expireAfterAccess().toMillis();
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-point-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushExpired,
+            flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<UserPoint> selectById(long id) {
+        CachedPoint cached = cache.get(id);
+        if (cached != null) {
+            cached.lastAccessMillis = System.currentTimeMillis();
+            return Optional.of(cached.userPoint);
+        }
+
+        // UserPointTable은 저장된 값이 없으면 잔액 0인 UserPoint를 반환한다.
+        CachedPoint loaded = new CachedPoint(userPointTable.selectById(id), System.currentTimeMillis());
+
+        // 테이블을 읽는 동안 다른 쓰기가 먼저 캐시에 들어갔다면 그 값을 우선한다.
+        CachedPoint previous = cache.putIfAbsent(id, loaded);
+        return Optional.of(previous != null ? previous.userPoint : loaded.userPoint);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(UserPoint userPoint) {
+        long now = System.currentTimeMillis();
+        UserPoint saved = new UserPoint(userPoint.id(), userPoint.point(), now);
+
+        // 제거(evictIdle)와 같은 key 단위로 순서가 정해지도록 dirty 표시까지 compute 안에서 끝낸다.
+        cache.compute(saved.id(), (id, current) -> {
+            markDirty(saved, now);
+            return new CachedPoint(saved, now);
+        });
+
+        return saved;
+    }
+
+    /**
+     * 캐시의 현재 값과 expected를 값(point, updateMillis)으로 비교한다.
+     * 잔액은 이전 값만으로 계산되므로, 값이 같다면 그 사이 다른 변경이 있었더라도 결과는 같다.
+     */
+    @Override
+    public Optional<UserPoint> compareAndSet(UserPoint expected, UserPoint updated) {
+        long now = System.currentTimeMillis();
+        UserPoint saved = new UserPoint(updated.id(), updated.point(), now);
+        if (!cache.containsKey(saved.id())) {
+            // 캐시에서 제거된 유저는 테이블의 값을 다시 읽어 와 비교한다.
+            selectById(saved.id());
+        }
+
+        // compute 안에서 dirty 표시까지 끝내야 같은 유저의 성공한 변경이 dirty 엔트리에 순서대로 반영된다.
+        CachedPoint result = cache.compute(saved.id(), (id, current) -> {
+            if (!Objects.equals(current == null ? null : current.userPoint, expected)) {
+                return current;
+            }
+            markDirty(saved, now);
+            return new CachedPoint(saved, now);
+        });
+        return result != null && result.userPoint == saved ? Optional.of(saved) : Optional.empty();
+    }
+
+    public int dirtyCount() {
+        return dirtyEntries.size();
+    }
+
+    public int cachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * 모든 dirty 엔트리를 즉시 UserPointTable에 반영한다.
+     */
+    public void flush() {
+        flush(Long.MAX_VALUE);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(flushIntervalMillis * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void markDirty(UserPoint userPoint, long now) {
+        // 이미 dirty 상태라면 최초 dirty 시각은 유지해야 maxDirtyAge가 보장된다.
+        dirtyEntries.merge(userPoint.id(), new DirtyEntry(userPoint, now),
+            (before, after) -> new DirtyEntry(after.userPoint(), before.dirtySince()));
+    }
+
+    private void flushExpired() {
+        try {
+            // 다음 주기까지 기다리면 maxDirtyAge를 넘기게 되는 엔트리까지 이번 주기에 반영한다.
+            flush(System.currentTimeMillis() + flushIntervalMillis - maxDirtyAgeMillis);
+            evictIdle(System.currentTimeMillis() - expireAfterAccessMillis);
+        } catch (RuntimeException e) {
+            log.error("write-behind flush에 실패했습니다.", e);
+        }
+    }
+
+    private void flush(long dirtyBefore) {
+        flushLock.lock();
+        try {
+            for (Map.Entry<Long, DirtyEntry> entry : dirtyEntries.entrySet()) {
+                DirtyEntry dirtyEntry = entry.getValue();
+                if (dirtyEntry.dirtySince() > dirtyBefore) {
+                    continue;
+                }
+
+                UserPoint userPoint = dirtyEntry.userPoint();
+                userPointTable.insertOrUpdate(userPoint.id(), userPoint.point());
+
+                // flush하는 사이에 새로운 변경이 들어왔다면 dirty 상태를 유지해 다음 주기에 반영한다.
+                dirtyEntries.remove(entry.getKey(), dirtyEntry);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * accessedBefore 이후로 조회/변경이 없었고 UserPointTable에 반영까지 끝난 엔트리를 캐시에서 제거한다.
+     * 쓰기와 같은 key의 compute 안에서 확인하므로, 아직 반영되지 않은 값이 제거되는 일은 없다.
+     */
+    void evictIdle(long accessedBefore) {
+        for (Long id : cache.keySet()) {
+            cache.computeIfPresent(id, (key, cached) ->
+                cached.lastAccessMillis < accessedBefore && !dirtyEntries.containsKey(key)
+                    ? null
+                    : cached);
+        }
+    }
+
+    private static final class CachedPoint {
+        private final UserPoint userPoint;
+        private volatile long lastAccessMillis;
+
+        private CachedPoint(UserPoint userPoint, long lastAccessMillis) {
+            this.userPoint = userPoint;
+            this.lastAccessMillis = lastAccessMillis;
+        }
+    }
+
+    private record DirtyEntry(UserPoint userPoint, long dirtySince) {
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.repository;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * write-behind 캐시 설정
+ * - flushInterval : flusher가 dirty 엔트리를 검사하는 주기
+ * - maxDirtyAge : 엔트리가 UserPointTable에 반영되지 않은 채로 머물 수 있는 최대 시간
+ * - expireAfterAccess : 반영이 끝난(clean) 엔트리를 조회/변경 없이 캐시에 남겨 두는 시간
+ */
+@ConfigurationProperties(prefix = "point.repository.write-behind")
+public record WriteBehindProperties(
+    @DefaultValue("100ms") Duration flushInterval,
+    @DefaultValue("1s") Duration maxDirtyAge,
+    @DefaultValue("10m") Duration expireAfterAccess
+) {
+
+    public WriteBehindProperties {
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("flushInterval은 0보다 커야 합니다.");
+        }
+        if (maxDirtyAge.compareTo(flushInterval) < 0) {
+            throw new IllegalArgumentException("maxDirtyAge는 flushInterval보다 작을 수 없습니다.");
+        }
+        if (expireAfterAccess.compareTo(maxDirtyAge) < 0) {
+            throw new IllegalArgumentException("expireAfterAccess는 maxDirtyAge보다 작을 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.routing;
+
+import java.util.List;
+
+/**
+ * 유저를 나누어 맡을 노드 목록의 출처
+ * - point.routing.membership 설정으로 구현체를 선택한다. (static)
+ * - nodes()가 이전과 다른 목록을 반환하면 라우팅 ring을 다시 만든다.
+ */
+public interface ClusterMembership {
+
+    /**
+     * 현재 인스턴스
+     */
+    ClusterNode self();
+
+    /**
+     * self를 포함한 모든 노드
+     */
+    List<ClusterNode> nodes();
+}
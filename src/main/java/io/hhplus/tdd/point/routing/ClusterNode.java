@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.routing;
+
+/**
+ * 포인트 서비스 인스턴스 하나
+ * - id : 노드 식별자 (consistent hash 위치 계산에 사용되므로 노드마다 고정되어야 한다)
+ * - url : 다른 노드가 요청을 전달/redirect할 base url (예 : http://10.0.0.1:8080)
+ */
+public record ClusterNode(
+    String id,
+    String url
+) {
+
+    public ClusterNode {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("id는 비어 있을 수 없습니다.");
+        }
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("url은 비어 있을 수 없습니다.");
+        }
+        url = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
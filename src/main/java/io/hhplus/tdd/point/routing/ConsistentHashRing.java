@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.routing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 유저 id를 담당 노드에 대응시키는 consistent hash ring
+ * - 노드마다 virtualNodes개의 위치를 ring에 두고, 유저 id의 hash에서 시계 방향으로 처음 만나는 위치의 노드가 담당한다.
+ * - 노드가 추가/제거되면 그 노드와 인접한 구간의 유저만 담당이 바뀐다. (전체의 약 1/노드 수)
+ * - 위치는 정렬된 long 배열에 두고 이진 탐색으로 찾는다. 만든 뒤에는 바뀌지 않으므로 여러 스레드가 함께 읽는다.
+ */
+public class ConsistentHashRing {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] positions;
+    private final ClusterNode[] owners;
+
+    public ConsistentHashRing(List<ClusterNode> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("nodes는 비어 있을 수 없습니다.");
+        }
+
+        int size = nodes.size() * virtualNodes;
+        long[][] entries = new long[size][];
+        for (int n = 0; n < nodes.size(); ++n) {
+            for (int v = 0; v < virtualNodes; ++v) {
+                long position = hash(nodes.get(n).id() + "#" + v);
+                entries[n * virtualNodes + v] = new long[] {position, n};
+            }
+        }
+        // 위치가 겹치면 노드 순서와 상관없이 같은 결과가 나오도록 노드 id로 순서를 정한다.
+        Arrays.sort(entries, (a, b) -> a[0] != b[0]
+            ? Long.compare(a[0], b[0])
+            : nodes.get((int) a[1]).id().compareTo(nodes.get((int) b[1]).id()));
+
+        this.positions = new long[size];
+        this.owners = new ClusterNode[size];
+        for (int i = 0; i < size; ++i) {
+            positions[i] = entries[i][0];
+            owners[i] = nodes.get((int) entries[i][1]);
+        }
+    }
+
+    public ClusterNode ownerOf(long userId) {
+        int index = Arrays.binarySearch(positions, mix(userId));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == positions.length ? 0 : index];
+    }
+
+    private static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * 연속된 유저 id도 ring 전체에 고르게 흩어지도록 비트를 섞는다. (SplitMix64 finalizer)
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
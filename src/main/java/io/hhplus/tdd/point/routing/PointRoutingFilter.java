@@ -0,0 +1,529 @@
+package io.hhplus.tdd.point.routing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.hhplus.tdd.common.error.ErrorResponse;
+import io.hhplus.tdd.common.response.ApiResponse;
+import io.hhplus.tdd.point.dto.PointDto.BatchResult;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.validator.PointValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * /point/{id} 요청을 유저의 담당 노드에서만 처리하도록 PointController 앞에서 라우팅하는 필터
+ * - 담당 노드는 ClusterMembership의 노드 목록으로 만든 ConsistentHashRing으로 정한다.
+ * - 담당이 아니면 설정(point.routing.mode)에 따라 307로 redirect하거나, 담당 노드에 전달(forward)한 응답을 돌려준다.
+ *   전달한 응답은 모아두지 않고 받는 대로 내려보내, export(NDJSON) 응답도 일정한 메모리로 전달한다.
+ * - 전달한 요청에는 X-Point-Forwarded-By(보낸 노드 id)와 X-Point-Forward-Secret(forwardSecret) 헤더를 붙인다.
+ *   두 헤더가 membership의 노드 id, forwardSecret과 맞는 요청만 다시 전달하지 않고 바로 처리한다.
+ *   (노드마다 membership이 잠시 달라도 요청이 노드 사이를 오가지 않는다.)
+ *   클라이언트가 X-Point-Forwarded-By만 붙인 요청은 다른 요청과 같이 라우팅하므로, 담당이 아닌 노드에서 처리되지 않는다.
+ * - 여러 유저를 한 번에 다루는 batch(본문의 userId), histories/export(userIds 파라미터) 요청은 담긴 유저가 모두
+ *   같은 노드의 담당이면 그 노드로 라우팅한다.
+ *   유저 id를 읽을 수 없는 요청은 라우팅하지 않고 그대로 처리해, 컨트롤러가 잘못된 요청으로 응답하게 한다.
+ * - 여러 노드에 걸친 batch는 담당 노드별로 나누어, 다른 노드의 몫은 동시에 전달하고 현재 노드의 몫은 바로 처리한 뒤
+ *   요청 순서대로 결과를 합쳐 돌려준다. 전달하지 못한 몫은 건별 503_1 실패로 담는다.
+ *   노드끼리 전달해야 하므로 forwardSecret이 있어야 하며, 없으면(redirect 모드) 400_7 에러로 거절한다.
+ *   크기 제한을 넘는 batch는 나누지 않고 그대로 처리해, 컨트롤러가 잘못된 요청으로 응답하게 한다.
+ * - 여러 노드에 걸친 export는 400_7 에러로 거절한다. (노드별로 나누어 보내야 한다)
+ * - point.routing : 라우팅 결과 (outcome 태그 - local, redirect, forward, forward-failed, split, rejected)
+ */
+@ConditionalOnProperty(prefix = "point.routing", name = "enabled", havingValue = "true")
+@Component
+public class PointRoutingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointRoutingFilter.class);
+
+    static final String FORWARDED_BY_HEADER = "X-Point-Forwarded-By";
+    static final String FORWARD_SECRET_HEADER = "X-Point-Forward-Secret";
+
+    private static final Pattern USER_PATH = Pattern.compile("^/point/(-?\\d+)(/.*)?$");
+    private static final String BATCH_PATH = "/point/batch";
+    private static final String EXPORT_PATH = "/point/histories/export";
+
+    // HttpClient가 직접 정하는 헤더와 hop-by-hop 헤더, 노드끼리만 쓰는 전달 헤더는 전달하지 않는다.
+    private static final Set<String> EXCLUDED_HEADERS = Set.of("host", "connection", "content-length",
+        "expect", "upgrade", "keep-alive", "transfer-encoding", "te", "trailer",
+        "proxy-authorization", "proxy-connection",
+        FORWARDED_BY_HEADER.toLowerCase(), FORWARD_SECRET_HEADER.toLowerCase());
+
+    private final ClusterMembership membership;
+    private final RoutingMode mode;
+    private final int virtualNodes;
+    private final Duration forwardTimeout;
+    private final byte[] forwardSecret;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    private final Counter local;
+    private final Counter redirect;
+    private final Counter forward;
+    private final Counter forwardFailed;
+    private final Counter split;
+    private final Counter rejected;
+
+    private volatile Ring ring;
+
+    public PointRoutingFilter(RoutingProperties properties, ClusterMembership membership,
+        ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        if (membership.self() == null) {
+            throw new IllegalArgumentException("현재 인스턴스가 membership에 없습니다. selfId=" + properties.selfId());
+        }
+        this.membership = membership;
+        this.mode = properties.mode();
+        this.virtualNodes = properties.virtualNodes();
+        this.forwardTimeout = properties.forwardTimeout();
+        this.forwardSecret = properties.forwardSecret() == null || properties.forwardSecret().isBlank()
+            ? null
+            : properties.forwardSecret().getBytes(StandardCharsets.UTF_8);
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(forwardTimeout)
+            .build();
+
+        this.local = routingCounter(meterRegistry, "local");
+        this.redirect = routingCounter(meterRegistry, "redirect");
+        this.forward = routingCounter(meterRegistry, "forward");
+        this.forwardFailed = routingCounter(meterRegistry, "forward-failed");
+        this.split = routingCounter(meterRegistry, "split");
+        this.rejected = routingCounter(meterRegistry, "rejected");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        if (isForwardedByMember(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String path = pathOf(request);
+        HttpServletRequest routed = request;
+        JsonNode operations = null;
+        List<Long> userIds;
+        if (path.equals(BATCH_PATH)) {
+            // 본문을 읽어 유저 id를 확인하므로, 이후 컨트롤러나 전달 요청이 같은 본문을 다시 읽을 수 있게 감싼다.
+            byte[] body = request.getInputStream().readAllBytes();
+            routed = new CachedBodyRequest(request, body);
+            operations = batchOperations(body);
+            userIds = batchUserIds(operations);
+        } else if (path.equals(EXPORT_PATH)) {
+            userIds = exportUserIds(request);
+        } else {
+            userIds = pathUserId(path);
+        }
+
+        Set<ClusterNode> owners = ownersOf(userIds);
+        if (owners.isEmpty()) {
+            filterChain.doFilter(routed, response);
+            return;
+        }
+        if (owners.size() > 1 && operations != null && forwardSecret != null) {
+            split.increment();
+            splitBatch(routed, response, filterChain, operations, userIds);
+            return;
+        }
+        if (owners.size() > 1) {
+            rejected.increment();
+            writeError(response, HttpStatus.BAD_REQUEST, PointErrorCode.MIXED_ROUTING_OWNERS);
+            return;
+        }
+
+        ClusterNode owner = owners.iterator().next();
+        if (owner.equals(membership.self())) {
+            local.increment();
+            filterChain.doFilter(routed, response);
+        } else if (mode == RoutingMode.REDIRECT) {
+            redirect.increment();
+            response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+            response.setHeader("Location", targetUri(owner, routed).toString());
+        } else {
+            forward(owner, routed, response);
+        }
+    }
+
+    /**
+     * forwardSecret이 없으면(redirect 모드) 노드끼리 전달하는 요청이 없으므로 전달 헤더를 믿지 않는다.
+     */
+    private boolean isForwardedByMember(HttpServletRequest request) {
+        String forwardedBy = request.getHeader(FORWARDED_BY_HEADER);
+        String secret = request.getHeader(FORWARD_SECRET_HEADER);
+        if (forwardedBy == null || secret == null || forwardSecret == null) {
+            return false;
+        }
+        // 비교 시간으로 secret을 추측할 수 없도록 길이만큼 모두 비교한다.
+        return MessageDigest.isEqual(forwardSecret, secret.getBytes(StandardCharsets.UTF_8))
+            && membership.nodes().stream().anyMatch(node -> node.id().equals(forwardedBy));
+    }
+
+    private Set<ClusterNode> ownersOf(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        ConsistentHashRing current = currentRing();
+        Set<ClusterNode> owners = new HashSet<>();
+        for (long userId : userIds) {
+            owners.add(current.ownerOf(userId));
+        }
+        return owners;
+    }
+
+    private ConsistentHashRing currentRing() {
+        List<ClusterNode> nodes = membership.nodes();
+        Ring current = ring;
+        if (current == null || !current.nodes().equals(nodes)) {
+            current = new Ring(List.copyOf(nodes), new ConsistentHashRing(nodes, virtualNodes));
+            ring = current;
+        }
+        return current.ring();
+    }
+
+    /**
+     * batch를 담당 노드별로 나누어 처리하고, 요청 순서대로 건별 결과를 합쳐 200으로 응답한다.
+     * - 다른 노드의 몫은 먼저 비동기로 보내 두고, 그동안 현재 노드의 몫을 요청 스레드에서 처리한다.
+     * - 각 몫의 결과 index는 나눈 요청 안에서의 순서이므로 원래 요청의 index로 바꾼다.
+     */
+    private void splitBatch(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+        JsonNode operations, List<Long> userIds) throws IOException, ServletException {
+        ConsistentHashRing current = currentRing();
+        Map<ClusterNode, List<Integer>> indexesByOwner = new LinkedHashMap<>();
+        for (int index = 0; index < userIds.size(); ++index) {
+            indexesByOwner.computeIfAbsent(current.ownerOf(userIds.get(index)), key -> new ArrayList<>())
+                .add(index);
+        }
+        List<Integer> localIndexes = indexesByOwner.remove(membership.self());
+
+        Map<ClusterNode, CompletableFuture<HttpResponse<byte[]>>> remoteParts = new LinkedHashMap<>();
+        indexesByOwner.forEach((owner, indexes) -> remoteParts.put(owner, httpClient.sendAsync(
+            forwardRequest(owner, request, partBody(operations, indexes)),
+            HttpResponse.BodyHandlers.ofByteArray())));
+
+        JsonNode[] results = new JsonNode[userIds.size()];
+        if (localIndexes != null) {
+            ContentCachingResponseWrapper localResponse = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(new CachedBodyRequest(request, partBody(operations, localIndexes)),
+                localResponse);
+            mergePart(results, localIndexes, userIds, localResponse.getStatus(),
+                localResponse.getContentAsByteArray());
+        }
+        for (Map.Entry<ClusterNode, CompletableFuture<HttpResponse<byte[]>>> part : remoteParts.entrySet()) {
+            List<Integer> indexes = indexesByOwner.get(part.getKey());
+            try {
+                HttpResponse<byte[]> forwarded = part.getValue().join();
+                forward.increment();
+                mergePart(results, indexes, userIds, forwarded.statusCode(), forwarded.body());
+            } catch (CompletionException e) {
+                forwardFailed.increment();
+                log.warn("담당 노드에 batch 일부를 전달하지 못했습니다. owner={}, count={}", part.getKey().id(),
+                    indexes.size(), e.getCause());
+                fillFailures(results, indexes, userIds, PointErrorCode.ROUTING_FORWARD_FAILED.toErrorResponse());
+            }
+        }
+
+        response.resetBuffer();
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.defaultOk(List.of(results)));
+    }
+
+    private byte[] partBody(JsonNode operations, List<Integer> indexes) {
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode partOperations = root.putArray("operations");
+        for (int index : indexes) {
+            partOperations.add(operations.get(index));
+        }
+        try {
+            return objectMapper.writeValueAsBytes(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 한 몫의 응답에서 건별 결과를 꺼내 원래 index 자리에 담는다.
+     * 몫 전체가 실패했거나 결과를 읽을 수 없으면, 받은 에러(없으면 503_1)로 그 몫의 모든 요청을 실패 처리한다.
+     */
+    private void mergePart(JsonNode[] results, List<Integer> indexes, List<Long> userIds, int status,
+        byte[] body) {
+        ErrorResponse error = PointErrorCode.ROUTING_FORWARD_FAILED.toErrorResponse();
+        JsonNode[] partResults = new JsonNode[indexes.size()];
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            if (status == HttpStatus.OK.value() && root.path("data").size() == indexes.size()) {
+                for (JsonNode result : root.path("data")) {
+                    int partIndex = result.path("index").asInt(-1);
+                    if (partIndex < 0 || partIndex >= partResults.length || !result.isObject()) {
+                        break;
+                    }
+                    partResults[partIndex] = ((ObjectNode) result).put("index", indexes.get(partIndex));
+                }
+            } else if (root.hasNonNull("code")) {
+                error = new ErrorResponse(root.path("code").asText(), root.path("message").asText());
+            }
+        } catch (IOException e) {
+            log.warn("batch 일부의 응답을 읽을 수 없습니다. status={}", status, e);
+        }
+
+        if (List.of(partResults).contains(null)) {
+            fillFailures(results, indexes, userIds, error);
+            return;
+        }
+        for (int i = 0; i < indexes.size(); ++i) {
+            results[indexes.get(i)] = partResults[i];
+        }
+    }
+
+    private void fillFailures(JsonNode[] results, List<Integer> indexes, List<Long> userIds,
+        ErrorResponse error) {
+        for (int index : indexes) {
+            results[index] = objectMapper.valueToTree(BatchResult.failure(index, userIds.get(index), error));
+        }
+    }
+
+    /**
+     * 유저 한 명을 대상으로 하는 경로가 아니면 빈 목록을 반환한다.
+     * id가 long 범위를 넘는 경로도 라우팅하지 않고 그대로 처리해, 컨트롤러가 잘못된 요청으로 응답하게 한다.
+     */
+    private static List<Long> pathUserId(String path) {
+        Matcher matcher = USER_PATH.matcher(path);
+        if (!matcher.matches()) {
+            return List.of();
+        }
+        try {
+            return List.of(Long.parseLong(matcher.group(1)));
+        } catch (NumberFormatException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * batch 요청 본문({"operations": [{"userId": ...}, ...]})의 operations, 읽을 수 없는 본문이면 null
+     */
+    private JsonNode batchOperations(byte[] body) {
+        try {
+            JsonNode operations = objectMapper.readTree(body).path("operations");
+            return operations.isArray() ? operations : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * batch operations의 유저 id, 읽을 수 없는 값이 있거나 크기 제한을 넘으면 빈 목록
+     */
+    private static List<Long> batchUserIds(JsonNode operations) {
+        if (operations == null || operations.size() > PointValidator.MAX_BATCH_SIZE) {
+            return List.of();
+        }
+
+        List<Long> userIds = new ArrayList<>(operations.size());
+        for (JsonNode operation : operations) {
+            JsonNode userId = operation.path("userId");
+            if (!userId.canConvertToLong()) {
+                return List.of();
+            }
+            userIds.add(userId.asLong());
+        }
+        return userIds;
+    }
+
+    /**
+     * userIds=1,2 또는 userIds=1&userIds=2 형식의 유저 id, 읽을 수 없는 값이 있으면 빈 목록
+     */
+    private static List<Long> exportUserIds(HttpServletRequest request) {
+        String[] values = request.getParameterValues("userIds");
+        if (values == null) {
+            return List.of();
+        }
+
+        List<Long> userIds = new ArrayList<>();
+        try {
+            for (String value : values) {
+                for (String userId : value.split(",")) {
+                    userIds.add(Long.parseLong(userId.trim()));
+                }
+            }
+        } catch (NumberFormatException e) {
+            return List.of();
+        }
+        return userIds;
+    }
+
+    private void forward(ClusterNode owner, HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+        HttpRequest forwardRequest = forwardRequest(owner, request, request.getInputStream().readAllBytes());
+
+        HttpResponse<InputStream> forwarded;
+        try {
+            forwarded = httpClient.send(forwardRequest, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            forwardFailed.increment();
+            log.warn("담당 노드에 요청을 전달하지 못했습니다. owner={}, uri={}", owner.id(),
+                request.getRequestURI(), e);
+            writeError(response, HttpStatus.SERVICE_UNAVAILABLE, PointErrorCode.ROUTING_FORWARD_FAILED);
+            return;
+        }
+
+        forward.increment();
+        response.setStatus(forwarded.statusCode());
+        forwarded.headers().map().forEach((name, values) -> {
+            if (!EXCLUDED_HEADERS.contains(name.toLowerCase())) {
+                values.forEach(value -> response.addHeader(name, value));
+            }
+        });
+        try (InputStream body = forwarded.body()) {
+            body.transferTo(response.getOutputStream());
+        }
+    }
+
+    private HttpRequest forwardRequest(ClusterNode owner, HttpServletRequest request, byte[] body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(targetUri(owner, request))
+            .timeout(forwardTimeout)
+            .method(request.getMethod(), body.length == 0
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(body))
+            .header(FORWARDED_BY_HEADER, membership.self().id())
+            .header(FORWARD_SECRET_HEADER, new String(forwardSecret, StandardCharsets.UTF_8));
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (!EXCLUDED_HEADERS.contains(name.toLowerCase())) {
+                for (String value : Collections.list(request.getHeaders(name))) {
+                    builder.header(name, value);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, PointErrorCode errorCode)
+        throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorCode.toErrorResponse());
+    }
+
+    private static URI targetUri(ClusterNode owner, HttpServletRequest request) {
+        String query = request.getQueryString();
+        return URI.create(owner.url() + request.getRequestURI() + (query == null ? "" : "?" + query));
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("point.routing")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private record Ring(List<ClusterNode> nodes, ConsistentHashRing ring) {
+    }
+
+    /**
+     * 이미 읽은 본문을 getInputStream/getReader로 다시 읽을 수 있게 하는 요청
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                encoding != null ? encoding : "UTF-8"));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.routing;
+
+/**
+ * 다른 노드가 맡은 유저의 요청을 받았을 때의 처리 방식
+ * - REDIRECT : 307 응답으로 담당 노드의 주소를 알려 클라이언트가 다시 요청하게 한다. (method, body 유지)
+ * - FORWARD : 담당 노드에 요청을 대신 보내고 받은 응답을 그대로 돌려준다.
+ */
+public enum RoutingMode {
+    REDIRECT,
+    FORWARD
+}
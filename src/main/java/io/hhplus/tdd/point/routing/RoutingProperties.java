@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.routing;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 단위 노드 라우팅 설정
+ * - enabled : true면 /point/{id} 요청을 consistent hash로 정한 담당 노드에서만 처리한다. (batch, histories/export 포함)
+ * - mode : 담당이 아닌 요청의 처리 방식 (redirect, forward)
+ * - selfId : nodes 중 현재 인스턴스의 id
+ * - nodes : static membership의 노드 목록
+ * - virtualNodes : 노드 하나가 ring에 차지하는 위치 수, 클수록 유저가 고르게 나뉜다.
+ * - forwardTimeout : forward 모드에서 담당 노드의 응답을 기다리는 최대 시간
+ * - forwardSecret : 노드끼리 전달한 요청임을 확인하는 공유 값, 모든 노드가 같은 값을 써야 한다. (forward 모드에서 필수)
+ *   여러 노드에 걸친 batch를 나누어 전달할 때도 쓰이므로, redirect 모드에서 없으면 그런 batch는 거절된다.
+ */
+@ConfigurationProperties(prefix = "point.routing")
+public record RoutingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("redirect") RoutingMode mode,
+    String selfId,
+    @DefaultValue List<ClusterNode> nodes,
+    @DefaultValue("128") int virtualNodes,
+    @DefaultValue("5s") Duration forwardTimeout,
+    String forwardSecret
+) {
+
+    public RoutingProperties {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("virtualNodes는 0보다 커야 합니다.");
+        }
+        if (forwardTimeout.isNegative() || forwardTimeout.isZero()) {
+            throw new IllegalArgumentException("forwardTimeout은 0보다 커야 합니다.");
+        }
+        if (enabled && mode == RoutingMode.FORWARD && (forwardSecret == null || forwardSecret.isBlank())) {
+            throw new IllegalArgumentException("forward 모드에서는 forwardSecret이 비어 있을 수 없습니다.");
+        }
+        if (enabled && nodes.stream().noneMatch(node -> node.id().equals(selfId))) {
+            throw new IllegalArgumentException("selfId에 해당하는 노드가 nodes에 없습니다. selfId=" + selfId);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.routing;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정(point.routing.nodes)에 고정된 노드 목록 (로컬에서 여러 인스턴스를 띄워 확인할 때 사용)
+ */
+@ConditionalOnProperty(prefix = "point.routing", name = "membership", havingValue = "static",
+    matchIfMissing = true)
+@Component
+public class StaticClusterMembership implements ClusterMembership {
+
+    private final List<ClusterNode> nodes;
+    private final ClusterNode self;
+
+    public StaticClusterMembership(RoutingProperties properties) {
+        this.nodes = List.copyOf(properties.nodes());
+        this.self = nodes.stream()
+            .filter(node -> node.id().equals(properties.selfId()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    @Override
+    public ClusterNode self() {
+        return self;
+    }
+
+    @Override
+    public List<ClusterNode> nodes() {
+        return nodes;
+    }
+}
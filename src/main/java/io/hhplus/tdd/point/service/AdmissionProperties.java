@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 요청의 처리량 제한 및 부하 차단 설정 (0이면 해당 제한을 두지 않는다)
+ * - userRate, userBurst : 유저 한 명이 초당 보낼 수 있는 요청 수와 한 번에 몰아서 보낼 수 있는 최대 요청 수
+ * - globalRate, globalBurst : 모든 유저를 합친 초당 요청 수와 최대 요청 수
+ * - 일괄 요청은 유저 묶음의 요청 수만큼 센다. (burst보다 큰 묶음은 거절된다)
+ * - maxInFlight : 동시에 처리 중(락 대기 포함)인 요청 수의 상한, 넘으면 바로 거절한다.
+ * - lockWaitTimeout : 유저 락을 기다리는 최대 시간 (point.execution.mode=lock)
+ */
+@ConfigurationProperties(prefix = "point.admission")
+public record AdmissionProperties(
+    @DefaultValue("0") int userRate,
+    @DefaultValue("0") int userBurst,
+    @DefaultValue("0") int globalRate,
+    @DefaultValue("0") int globalBurst,
+    @DefaultValue("0") int maxInFlight,
+    @DefaultValue("0ms") Duration lockWaitTimeout
+) {
+
+    public AdmissionProperties {
+        if (userRate < 0 || globalRate < 0 || maxInFlight < 0) {
+            throw new IllegalArgumentException("userRate, globalRate, maxInFlight는 0 이상이어야 합니다.");
+        }
+        if ((userRate > 0 && userBurst <= 0) || (globalRate > 0 && globalBurst <= 0)) {
+            throw new IllegalArgumentException("rate를 지정하면 burst는 0보다 커야 합니다.");
+        }
+        if (lockWaitTimeout.isNegative()) {
+            throw new IllegalArgumentException("lockWaitTimeout은 0 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 일괄 충전/사용 설정
+ * - parallelism : 서로 다른 유저의 작업을 동시에 처리할 최대 스레드 수
+ */
+@ConfigurationProperties(prefix = "point.batch")
+public record BatchProperties(
+    @DefaultValue("32") int parallelism
+) {
+
+    public BatchProperties {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism은 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 같은 유저의 충전/사용을 모아서 처리하는 설정 (flat combining)
+ * - enabled : true면 charge/use 요청을 유저별 대기열에 넣고, 유저 락을 잡은 스레드가 대기 중인 요청을 한 번에 적용한다.
+ * - max-batch-size : 한 번에 모아서 적용할 최대 요청 수
+ */
+@ConfigurationProperties(prefix = "point.execution.combining")
+public record CombiningProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("64") int maxBatchSize
+) {
+
+    public CombiningProperties {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize는 0보다 커야 합니다.");
+        }
+    }
+}
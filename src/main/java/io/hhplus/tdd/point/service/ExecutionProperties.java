@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 변경 실행 설정
+ * - mailboxCount : mailbox 모드에서 유저 id를 나누어 담는 단일 스레드 mailbox 수
+ * - mailboxCapacity : mailbox 하나에 쌓일 수 있는 최대 작업 수
+ */
+@ConfigurationProperties(prefix = "point.execution")
+public record ExecutionProperties(
+    @DefaultValue("16") int mailboxCount,
+    @DefaultValue("10000") int mailboxCapacity
+) {
+
+    public ExecutionProperties {
+        if (mailboxCount <= 0 || mailboxCapacity <= 0) {
+            throw new IllegalArgumentException("mailboxCount, mailboxCapacity는 0보다 커야 합니다.");
+        }
+    }
+}
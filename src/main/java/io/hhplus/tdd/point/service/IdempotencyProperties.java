@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Idempotency-Key 처리 결과 저장 설정
+ * - maximumSize : 보관할 최대 결과 수, 넘으면 오래 쓰이지 않은 결과부터 제거된다.
+ * - expireAfterWrite : 결과를 보관하는 시간, 클라이언트가 재시도하는 기간보다 길어야 한다.
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record IdempotencyProperties(
+    @DefaultValue("100000") long maximumSize,
+    @DefaultValue("10m") Duration expireAfterWrite
+) {
+
+    public IdempotencyProperties {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize는 0보다 커야 합니다.");
+        }
+        if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            throw new IllegalArgumentException("expireAfterWrite는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.point.dto.PointDto.PointDetail;
+import io.hhplus.tdd.point.exception.PointException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key를 붙인 충전/사용의 처리 결과 저장소
+ * - (유저 id, Idempotency-Key)마다 처음 성공한 요청의 내용과 결과(PointDetail)를 보관한다.
+ * - 크기와 보관 시간이 제한된 Caffeine 캐시이므로, 보관 기간이 지난 key로 재시도하면 새 요청으로 처리된다.
+ * - 조회와 저장은 PointService가 유저 락 안에서 호출하므로, 같은 유저의 재시도끼리 겹쳐 두 번 적용되지 않는다.
+ * - 지표는 cache.* 이름으로 등록된다. (cache 태그 : point.idempotency)
+ */
+@Component
+public class IdempotencyStore {
+
+    private final Cache<Key, StoredResult> results;
+
+    public IdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.results = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "point.idempotency");
+    }
+
+    /**
+     * 같은 key로 처리된 결과가 있으면 반환한다.
+     * @throws PointException 같은 key로 처리된 요청과 내용(충전/사용, 금액)이 다르면 발생한다.
+     */
+    public Optional<PointDetail> find(long userId, String idempotencyKey, PointOperation operation) {
+        StoredResult stored = results.getIfPresent(new Key(userId, idempotencyKey));
+        if (stored == null) {
+            return Optional.empty();
+        }
+        if (!stored.operation().equals(operation)) {
+            throw PointException.IDEMPOTENCY_KEY_REUSED;
+        }
+        return Optional.of(stored.pointDetail());
+    }
+
+    public void save(long userId, String idempotencyKey, PointOperation operation,
+        PointDetail pointDetail) {
+        results.put(new Key(userId, idempotencyKey), new StoredResult(operation, pointDetail));
+    }
+
+    private record Key(long userId, String idempotencyKey) {
+    }
+
+    private record StoredResult(PointOperation operation, PointDetail pointDetail) {
+    }
+}
@@ -0,0 +1,132 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.lock.LeaseProperties;
+import io.hhplus.tdd.point.lock.PointLock;
+import io.hhplus.tdd.point.lock.PointLockLease;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * PointLock의 lease로 유저 락을 잡는 락 제공자 (여러 인스턴스 간 상호 배제)
+ * - 락을 잡은 동안 watchdog이 ttl의 1/3마다 lease를 연장한다. 연장에 실패하면 lease를 잃은 것으로 표시한다.
+ * - 저장 직전에 checkLockHeld로 lease가 여전히 유효한지 확인해, 이미 잃은 lease로 저장을 시작하지 않는다.
+ * - 확인과 저장 사이에 GC 멈춤 등으로 lease가 만료되는 경우는 fencingToken으로 막는다. PointService가 lease token을
+ *   FencedUserPointRepository(mapped-file)에 넘기면, 저장소가 더 큰 token이 이미 쓴 유저에 대한 늦은 쓰기를 거절한다.
+ *   token을 검사하지 않는 저장소(in-memory 등)는 프로세스마다 따로 있어 여러 인스턴스가 같은 잔액을 쓰지 않는다.
+ * - lock 실행 모드에서만 유저 락을 사용하므로, mailbox/optimistic 모드와 함께 설정하면 기동 시 실패한다.
+ * - 같은 스레드가 이미 잡은 유저의 락을 다시 요청하면 새 lease 없이 그대로 실행한다.
+ * - waitTimeout 안에 lease를 얻지 못하면 다른 락 제공자와 같이 PointException(LOCK_WAIT_TIMEOUT)을 던진다.
+ */
+@ConditionalOnProperty(prefix = "point.lock", name = "type", havingValue = "lease")
+@Component
+public class LeaseUserLockProvider implements UserLockProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaseUserLockProvider.class);
+
+    private final PointLock pointLock;
+    private final Duration ttl;
+    private final long renewIntervalNanos;
+    private final ScheduledExecutorService watchdog;
+    private final ThreadLocal<Map<Long, HeldLease>> heldLeases = ThreadLocal.withInitial(HashMap::new);
+
+    public LeaseUserLockProvider(PointLock pointLock, LeaseProperties properties,
+        @Value("${point.execution.mode:lock}") String executionMode) {
+        if (!"lock".equals(executionMode)) {
+            throw new IllegalStateException("point.lock.type=lease는 point.execution.mode=lock에서만 사용할 수 있습니다."
+                + " mode=" + executionMode);
+        }
+        this.pointLock = pointLock;
+        this.ttl = properties.ttl();
+        this.renewIntervalNanos = ttl.toNanos() / 3;
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-lock-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public <T> T executeWithLock(long id, Supplier<T> task) {
+        return executeWithLock(id, Duration.ZERO, task);
+    }
+
+    @Override
+    public <T> T executeWithLock(long id, Duration waitTimeout, Supplier<T> task) {
+        Map<Long, HeldLease> held = heldLeases.get();
+        if (held.containsKey(id)) {
+            return task.get();
+        }
+
+        HeldLease heldLease = new HeldLease(pointLock.tryAcquire(id, ttl, waitTimeout)
+            .orElseThrow(() -> PointException.LOCK_WAIT_TIMEOUT));
+        heldLease.renewal = watchdog.scheduleAtFixedRate(() -> renew(heldLease),
+            renewIntervalNanos, renewIntervalNanos, TimeUnit.NANOSECONDS);
+        held.put(id, heldLease);
+        try {
+            return task.get();
+        } finally {
+            held.remove(id);
+            heldLease.renewal.cancel(false);
+            pointLock.release(heldLease.lease);
+        }
+    }
+
+    @Override
+    public void checkLockHeld(long id) {
+        HeldLease heldLease = heldLeases.get().get(id);
+        if (heldLease == null || heldLease.lost || !pointLock.isValid(heldLease.lease)) {
+            throw PointException.LOCK_LEASE_EXPIRED;
+        }
+    }
+
+    @Override
+    public long fencingToken(long id) {
+        HeldLease heldLease = heldLeases.get().get(id);
+        if (heldLease == null) {
+            throw PointException.LOCK_LEASE_EXPIRED;
+        }
+        return heldLease.lease.token();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    private void renew(HeldLease heldLease) {
+        try {
+            if (!pointLock.renew(heldLease.lease, ttl)) {
+                heldLease.lost = true;
+                heldLease.renewal.cancel(false);
+                log.warn("유저 락 lease를 연장하지 못했습니다. 이미 만료되어 다른 소유자에게 넘어갔을 수 있습니다. lease={}",
+                    heldLease.lease);
+            }
+        } catch (RuntimeException e) {
+            // 예외가 나면 주기 실행이 멈추므로 잡아서 다음 주기에 다시 연장을 시도한다.
+            log.warn("유저 락 lease 연장 중 오류가 발생했습니다. lease={}", heldLease.lease, e);
+        }
+    }
+
+    private static final class HeldLease {
+        private final PointLockLease lease;
+        private volatile ScheduledFuture<?> renewal;
+        private volatile boolean lost;
+
+        private HeldLease(PointLockLease lease) {
+            this.lease = lease;
+        }
+    }
+}
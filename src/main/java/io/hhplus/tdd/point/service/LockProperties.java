@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 락 설정
+ * - stripes : striped 락 사용 시 락 배열 크기 (2의 거듭제곱으로 올림)
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record LockProperties(
+    @DefaultValue("1024") int stripes
+) {
+
+    public LockProperties {
+        if (stripes <= 0 || stripes > (1 << 30)) {
+            throw new IllegalArgumentException("stripes는 1 이상 2^30 이하여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.exception.PointException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 호출한 스레드에서 유저 락을 잡고 작업을 실행하는 실행기
+ * - 락 획득 대기 시간과 락 보유 시간을 PointMetrics에 기록한다.
+ * - point.admission.lock-wait-timeout 안에 락을 얻지 못하면 기다리지 않고 LOCK_WAIT_TIMEOUT으로 실패한다.
+ */
+@ConditionalOnProperty(prefix = "point.execution", name = "mode", havingValue = "lock",
+    matchIfMissing = true)
+@RequiredArgsConstructor
+@Component
+public class LockingMutationExecutor implements PointMutationExecutor {
+
+    private final UserLockProvider lockProvider;
+    private final PointMetrics pointMetrics;
+    private final AdmissionProperties admissionProperties;
+
+    @Override
+    public <T> T execute(long id, Supplier<T> task) {
+        long requestedAt = System.nanoTime();
+        Duration waitTimeout = admissionProperties.lockWaitTimeout();
+        try {
+            return lockProvider.executeWithLock(id, waitTimeout, () -> {
+                long acquiredAt = System.nanoTime();
+                pointMetrics.recordLockWait(acquiredAt - requestedAt);
+                try {
+                    return task.get();
+                } finally {
+                    pointMetrics.recordLockHold(System.nanoTime() - acquiredAt);
+                }
+            });
+        } catch (PointException e) {
+            if (e == PointException.LOCK_WAIT_TIMEOUT) {
+                pointMetrics.recordLockWait(System.nanoTime() - requestedAt);
+                pointMetrics.countFailure(e);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void checkLockHeld(long id) {
+        lockProvider.checkLockHeld(id);
+    }
+
+    @Override
+    public long fencingToken(long id) {
+        return lockProvider.fencingToken(id);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(long id, Supplier<T> task) {
+        try {
+            return CompletableFuture.completedFuture(execute(id, task));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.exception.PointException;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 id를 해싱해 단일 스레드 mailbox 중 하나로 보내 실행하는 실행기 (actor 모델)
+ * - 같은 유저의 작업은 항상 같은 mailbox에서 도착 순서대로 실행되므로 락 없이 직렬화된다.
+ * - 요청 스레드는 mailbox에 작업을 넣고 바로 반환되며, 결과는 CompletableFuture로 전달된다.
+ * - spring.threads.virtual.enabled가 true면 mailbox 스레드를 virtual thread로 만든다.
+ * - mailbox에 mailboxCapacity만큼 작업이 쌓여 있으면 기다리지 않고 PointException(MAILBOX_FULL, 503)으로 실패한다.
+ */
+@ConditionalOnProperty(prefix = "point.execution", name = "mode", havingValue = "mailbox")
+@Component
+public class MailboxMutationExecutor implements PointMutationExecutor {
+
+    private final ExecutorService[] mailboxes;
+
+    public MailboxMutationExecutor(ExecutionProperties properties,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.mailboxes = new ExecutorService[properties.mailboxCount()];
+        for (int i = 0; i < mailboxes.length; ++i) {
+            mailboxes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(properties.mailboxCapacity()),
+                threadFactory("point-mailbox-" + i, virtualThreads));
+        }
+    }
+
+    @Override
+    public <T> T execute(long id, Supplier<T> task) {
+        try {
+            return executeAsync(id, task).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(long id, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, mailboxes[indexOf(id)]);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(PointException.MAILBOX_FULL);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService mailbox : mailboxes) {
+            mailbox.shutdown();
+        }
+        for (ExecutorService mailbox : mailboxes) {
+            mailbox.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String name, boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(name + "-", 0).factory();
+        }
+
+        AtomicInteger generation = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + generation.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private int indexOf(long id) {
+        int hash = Long.hashCode(id) * 0x9E3779B9;
+        return Math.floorMod(hash ^ (hash >>> 16), mailboxes.length);
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.service;
+
+/**
+ * optimistic 모드에서 compareAndSet이 다른 변경에 밀려 실패했음을 알린다.
+ * 재시도 흐름 제어용이므로 stack trace를 만들지 않고 하나의 인스턴스를 재사용한다.
+ */
+class OptimisticConflictException extends RuntimeException {
+
+    static final OptimisticConflictException INSTANCE = new OptimisticConflictException();
+
+    private OptimisticConflictException() {
+        super("UserPoint가 다른 요청에 의해 먼저 변경되었습니다.", null, false, false);
+    }
+}
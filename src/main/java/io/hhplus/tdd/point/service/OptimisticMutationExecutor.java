@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.repository.ConditionalUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 없이 task를 실행하고, UserPoint 저장이 compareAndSet 충돌로 실패하면 다시 실행하는 실행기
+ * - 한 유저에 동시에 몰리는 요청이 드문 트래픽에서 락 획득/해제 비용 없이 처리된다.
+ * - 재시도 사이에는 지수적으로 늘어나는 jitter backoff를 두고, maxAttempts를 넘기면 409_1 에러로 실패한다.
+ * - UserPoint 변경 순서는 보장되지만, 같은 유저의 PointHistory는 저장 순서가 뒤바뀔 수 있다.
+ * - compareAndSet을 지원하는 UserPointRepository(point.repository.user-point=write-behind, primitive, mapped-file)가 필요하다.
+ */
+@ConditionalOnProperty(prefix = "point.execution", name = "mode", havingValue = "optimistic")
+@Component
+public class OptimisticMutationExecutor implements PointMutationExecutor {
+
+    private static final long MIN_BACKOFF_NANOS = 1_000L;
+
+    private final int maxAttempts;
+    private final long maxBackoffNanos;
+    private final PointMetrics pointMetrics;
+
+    public OptimisticMutationExecutor(UserPointRepository userPointRepository,
+        OptimisticProperties properties, PointMetrics pointMetrics) {
+        if (!(userPointRepository instanceof ConditionalUserPointRepository)) {
+            throw new IllegalStateException(
+                "point.execution.mode=optimistic은 compareAndSet을 지원하는 UserPointRepository가 필요합니다. "
+                    + "(point.repository.user-point=write-behind, primitive, mapped-file)");
+        }
+        this.maxAttempts = properties.maxAttempts();
+        this.maxBackoffNanos = Math.max(MIN_BACKOFF_NANOS, properties.maxBackoff().toNanos());
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public <T> T execute(long id, Supplier<T> task) {
+        for (int attempt = 1; ; ++attempt) {
+            try {
+                return task.get();
+            } catch (OptimisticConflictException e) {
+                if (attempt >= maxAttempts) {
+                    pointMetrics.countFailure(PointException.CONFLICT_USER_POINT_UPDATE);
+                    throw PointException.CONFLICT_USER_POINT_UPDATE;
+                }
+                pointMetrics.countOptimisticRetry();
+                backoff(attempt);
+            }
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(long id, Supplier<T> task) {
+        try {
+            return CompletableFuture.completedFuture(execute(id, task));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public boolean usesCompareAndSet() {
+        return true;
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffNanos, MIN_BACKOFF_NANOS << Math.min(attempt, 20));
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * optimistic 실행 모드 설정
+ * - maxAttempts : compareAndSet 충돌 시 task를 실행해 볼 최대 횟수 (최초 실행 포함)
+ * - maxBackoff : 재시도 전 대기 시간의 상한, 대기 시간은 시도할수록 두 배씩 늘어난다.
+ */
+@ConfigurationProperties(prefix = "point.execution.optimistic")
+public record OptimisticProperties(
+    @DefaultValue("16") int maxAttempts,
+    @DefaultValue("1ms") Duration maxBackoff
+) {
+
+    public OptimisticProperties {
+        if (maxAttempts <= 0 || maxBackoff.isNegative()) {
+            throw new IllegalArgumentException("maxAttempts는 0보다 커야 하고, maxBackoff는 음수일 수 없습니다.");
+        }
+    }
+}
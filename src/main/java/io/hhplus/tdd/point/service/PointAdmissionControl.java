@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.point.exception.PointException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 충전/사용 요청을 유저 락 앞에서 받아들일지 정한다. (처리량 제한 및 부하 차단)
+ * - 일괄 요청은 유저 묶음마다 받아들일지 정하고, 묶음의 요청 수만큼 토큰을 쓴다.
+ * - 유저별 token bucket과 전체 token bucket을 차례로 확인해, 토큰이 없으면 기다리지 않고 429 에러로 거절한다.
+ * - 처리 중(락 대기 포함)인 요청이 maxInFlight에 이르면 503 에러로 거절해, 락 앞에 스레드가 끝없이 쌓이지 않게 한다.
+ * - 유저별 bucket은 마지막 요청 후 다시 가득 찰 시간이 지나야만 캐시에서 제거된다. (다시 만들어도 결과가 같다)
+ *   크기로 제거하면 비어 있던 bucket이 가득 찬 상태로 다시 만들어져 제한이 풀리므로, 개수 상한은 두지 않는다.
+ *   (남는 bucket은 최근 refill 시간 동안 요청한 유저 수만큼이다)
+ * - 거절된 요청은 point.mutation 지표에 에러 코드로 기록된다.
+ * - point.admission.in-flight : 처리 중인 충전/사용 요청 수
+ */
+@Component
+public class PointAdmissionControl {
+
+    private final Cache<Long, TokenBucket> userBuckets;
+    private final Supplier<TokenBucket> userBucketFactory;
+    private final TokenBucket globalBucket;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final PointMetrics pointMetrics;
+
+    public PointAdmissionControl(AdmissionProperties properties, PointMetrics pointMetrics,
+        MeterRegistry meterRegistry) {
+        if (properties.userRate() > 0) {
+            this.userBucketFactory = () -> new TokenBucket(properties.userRate(), properties.userBurst());
+            this.userBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofNanos(userBucketFactory.get().refillNanos()))
+                .build();
+        } else {
+            this.userBucketFactory = null;
+            this.userBuckets = null;
+        }
+        this.globalBucket = properties.globalRate() > 0
+            ? new TokenBucket(properties.globalRate(), properties.globalBurst())
+            : null;
+        this.maxInFlight = properties.maxInFlight();
+        this.pointMetrics = pointMetrics;
+
+        Gauge.builder("point.admission.in-flight", inFlight, AtomicInteger::get)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 받아들이면 mutation을 실행하고, 거절하면 실행하지 않고 PointException을 던진다.
+     */
+    public <T> T admit(long id, Supplier<T> mutation) {
+        return admit(id, 1, mutation);
+    }
+
+    /**
+     * 요청 permits건을 한 번에 받아들일지 정한다. (처리 중인 요청으로는 하나로 센다)
+     */
+    public <T> T admit(long id, int permits, Supplier<T> mutation) {
+        acquire(id, permits);
+        try {
+            return mutation.get();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * admit과 같지만, 반환된 future가 완료될 때까지 처리 중인 요청으로 센다.
+     */
+    public <T> CompletableFuture<T> admitAsync(long id, Supplier<CompletableFuture<T>> mutation) {
+        acquire(id, 1);
+        CompletableFuture<T> future;
+        try {
+            future = mutation.get();
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            throw e;
+        }
+        return future.whenComplete((result, exception) -> inFlight.decrementAndGet());
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private void acquire(long id, int permits) {
+        // 한도를 넘는 동안에는 잠시 maxInFlight보다 커질 수 있지만, 거절된 요청은 곧바로 되돌린다.
+        if (inFlight.incrementAndGet() > maxInFlight && maxInFlight > 0) {
+            reject(PointException.TOO_MANY_IN_FLIGHT_REQUESTS);
+        }
+        TokenBucket userBucket = userBuckets == null ? null : userBuckets.get(id, key -> userBucketFactory.get());
+        if (userBucket != null && !userBucket.tryAcquire(permits)) {
+            reject(PointException.TOO_MANY_USER_REQUESTS);
+        }
+        if (globalBucket != null && !globalBucket.tryAcquire(permits)) {
+            // 전체 제한에 걸린 요청이 유저의 토큰까지 쓰지 않도록 되돌린다.
+            if (userBucket != null) {
+                userBucket.refund(permits);
+            }
+            reject(PointException.TOO_MANY_REQUESTS);
+        }
+    }
+
+    private void reject(PointException exception) {
+        inFlight.decrementAndGet();
+        pointMetrics.countFailure(exception);
+        throw exception;
+    }
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일괄 처리에서 유저 그룹 단위 작업을 병렬로 실행하는 실행기
+ */
+@Component
+public class PointBatchExecutor {
+
+    private final ExecutorService executorService;
+
+    public PointBatchExecutor(BatchProperties properties) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(properties.parallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "point-batch-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 모든 task를 실행하고, 주어진 순서대로 결과를 반환한다.
+     */
+    public <T> List<T> invokeAll(List<Supplier<T>> tasks) {
+        List<CompletableFuture<T>> futures = tasks.stream()
+            .map(task -> CompletableFuture.supplyAsync(task, executorService))
+            .toList();
+
+        try {
+            return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
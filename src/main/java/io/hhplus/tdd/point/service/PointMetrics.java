@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.exception.PointException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 변경 경로의 지표
+ * - point.lock.wait / point.lock.hold : 유저 락 획득 대기 시간 / 락 보유 시간
+ * - point.repository : 저장소 호출 시간 (repository, operation 태그)
+ * - point.mutation : 충전/사용 결과 (outcome 태그 - success 또는 PointErrorCode)
+ * - point.optimistic.retry : optimistic 모드에서 compareAndSet 충돌로 다시 시도한 횟수
+ * - point.write.compensation : 잔액/내역 저장 중 한쪽이 실패해 다른 쪽을 되돌린 횟수
+ * - point.combining.batch : combining 모드에서 한 번에 모아서 적용한 요청 수
+ * - point.idempotency.replay : 같은 Idempotency-Key의 재시도에 저장된 결과를 돌려준 횟수
+ * 모든 Meter는 생성 시점에 미리 등록해 두어, 기록 시에는 태그 조회나 객체 생성이 일어나지 않는다.
+ */
+@Component
+public class PointMetrics {
+
+    private final Timer lockWait;
+    private final Timer lockHold;
+    private final Timer userPointSelect;
+    private final Timer userPointWrite;
+    private final Timer historyInsert;
+    private final Timer historySelect;
+
+    private final Counter success;
+    private final Counter optimisticRetry;
+    private final Counter writeCompensation;
+    private final Counter idempotentReplay;
+    private final DistributionSummary combinedBatch;
+    private final EnumMap<PointErrorCode, Counter> failures = new EnumMap<>(PointErrorCode.class);
+
+    public PointMetrics(MeterRegistry meterRegistry) {
+        this.lockWait = Timer.builder("point.lock.wait").register(meterRegistry);
+        this.lockHold = Timer.builder("point.lock.hold").register(meterRegistry);
+        this.userPointSelect = repositoryTimer(meterRegistry, "user-point", "select");
+        this.userPointWrite = repositoryTimer(meterRegistry, "user-point", "insert-or-update");
+        this.historyInsert = repositoryTimer(meterRegistry, "point-history", "insert");
+        this.historySelect = repositoryTimer(meterRegistry, "point-history", "select");
+
+        this.success = mutationCounter(meterRegistry, "success");
+        this.optimisticRetry = Counter.builder("point.optimistic.retry").register(meterRegistry);
+        this.writeCompensation = Counter.builder("point.write.compensation").register(meterRegistry);
+        this.idempotentReplay = Counter.builder("point.idempotency.replay").register(meterRegistry);
+        this.combinedBatch = DistributionSummary.builder("point.combining.batch").register(meterRegistry);
+        for (PointErrorCode errorCode : PointErrorCode.values()) {
+            failures.put(errorCode, mutationCounter(meterRegistry, errorCode.name()));
+        }
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockHold(long nanos) {
+        lockHold.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUserPointSelect(long startNanos) {
+        userPointSelect.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUserPointWrite(long startNanos) {
+        userPointWrite.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHistoryInsert(long startNanos) {
+        historyInsert.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHistorySelect(long startNanos) {
+        historySelect.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void countSuccess() {
+        success.increment();
+    }
+
+    public void countOptimisticRetry() {
+        optimisticRetry.increment();
+    }
+
+    public void countWriteCompensation() {
+        writeCompensation.increment();
+    }
+
+    public void countIdempotentReplay() {
+        idempotentReplay.increment();
+    }
+
+    public void recordCombinedBatch(int size) {
+        combinedBatch.record(size);
+    }
+
+    public void countFailure(PointException exception) {
+        if (exception.getErrorCode() instanceof PointErrorCode errorCode) {
+            failures.get(errorCode).increment();
+        }
+    }
+
+    private static Timer repositoryTimer(MeterRegistry meterRegistry, String repository,
+        String operation) {
+        return Timer.builder("point.repository")
+            .tag("repository", repository)
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    private static Counter mutationCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("point.mutation")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
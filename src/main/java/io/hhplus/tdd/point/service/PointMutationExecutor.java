@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.repository.FencedUserPointRepository;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 유저 단위로 포인트 변경 작업의 순서를 보장하며 실행하는 실행기
+ * - point.execution.mode 설정으로 구현체를 선택한다. (lock, mailbox, optimistic)
+ */
+public interface PointMutationExecutor {
+
+    /**
+     * 같은 id의 다른 작업과 겹치지 않게 task를 실행하고 결과를 반환한다.
+     */
+    <T> T execute(long id, Supplier<T> task);
+
+    /**
+     * 같은 id의 다른 작업과 겹치지 않게 task를 실행하고, 완료 시점에 결과가 채워지는 future를 반환한다.
+     */
+    <T> CompletableFuture<T> executeAsync(long id, Supplier<T> task);
+
+    /**
+     * true면 task 안의 UserPoint 저장을 compareAndSet으로 해야 한다.
+     * 충돌 시 OptimisticConflictException을 던지면 실행기가 task를 다시 실행한다.
+     */
+    default boolean usesCompareAndSet() {
+        return false;
+    }
+
+    /**
+     * task 안에서 저장 직전에 호출된다. 유저 락을 이미 잃었으면 PointException을 던져 저장을 시작하지 않는다.
+     */
+    default void checkLockHeld(long id) {
+    }
+
+    /**
+     * task 안에서 id의 유저 락으로 잡은 lease의 fencing token을 반환한다.
+     * 저장소가 이 token으로 늦은 쓰기를 거절한다. lease 락이 아니면 FencedUserPointRepository.NO_FENCING_TOKEN
+     */
+    default long fencingToken(long id) {
+        return FencedUserPointRepository.NO_FENCING_TOKEN;
+    }
+}
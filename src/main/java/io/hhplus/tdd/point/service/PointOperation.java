@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.model.TransactionType;
+
+/**
+ * 한 유저에게 적용할 충전/사용 요청 한 건
+ */
+public record PointOperation(
+    TransactionType type,
+    long amount
+) {
+
+    public static PointOperation charge(long amount) {
+        return new PointOperation(TransactionType.CHARGE, amount);
+    }
+
+    public static PointOperation use(long amount) {
+        return new PointOperation(TransactionType.USE, amount);
+    }
+}
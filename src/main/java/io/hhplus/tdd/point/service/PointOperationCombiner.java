@@ -0,0 +1,173 @@
+package io.hhplus.tdd.point.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 유저에 대한 충전/사용을 모아서 한 번에 적용한다. (flat combining)
+ * - 요청은 유저별 대기열에 들어가고, 결합 권한(combining)을 얻은 스레드 하나가 대기열에서 최대 maxBatchSize 건을 꺼내
+ *   applier로 한 번에 적용한 뒤 요청마다 자기 결과를 돌려준다. 나머지 스레드는 자기 요청이 처리될 때까지 대기한다.
+ * - 결합을 마친 스레드는 대기열에 남은 요청이 있으면 맨 앞 요청의 스레드를 깨워 다음 결합을 넘긴다.
+ * - applier가 예외를 던지면 함께 묶인 요청 모두에 같은 예외를 던진다.
+ * - 대기 중에 인터럽트되면, 아직 대기열에 남은 요청은 빼내고 실패시킨다. 이미 결합 중인 요청은 적용이 끝날 때까지 기다린다.
+ *   어느 쪽이든 인터럽트 상태는 되돌린다.
+ */
+@Component
+public class PointOperationCombiner {
+
+    // 깨우기를 놓치더라도 대기 중인 스레드가 결합 권한을 다시 시도하는 주기
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final PointMetrics pointMetrics;
+    private final ConcurrentHashMap<Long, UserQueue> queues = new ConcurrentHashMap<>();
+
+    public PointOperationCombiner(CombiningProperties properties, PointMetrics pointMetrics) {
+        this.enabled = properties.enabled();
+        this.maxBatchSize = properties.maxBatchSize();
+        this.pointMetrics = pointMetrics;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * operation을 유저의 대기열에 넣고, 함께 묶여 적용된 결과 중 자기 결과를 반환한다.
+     * @param applier 한 유저의 요청 묶음을 순서대로 적용하고 요청별 결과를 같은 순서로 반환한다.
+     */
+    public PointOperationResult submit(long id, PointOperation operation,
+        Function<List<PointOperation>, List<PointOperationResult>> applier) {
+        Request request = new Request(operation, Thread.currentThread());
+        UserQueue queue = queues.computeIfAbsent(id, key -> new UserQueue());
+        queue.requests.add(request);
+
+        boolean interrupted = false;
+        while (!request.done) {
+            if (queue.combining.compareAndSet(false, true)) {
+                try {
+                    combine(queue, applier);
+                } finally {
+                    queue.combining.set(false);
+                }
+                wakeNext(queue);
+            } else {
+                LockSupport.parkNanos(queue, PARK_NANOS);
+                // 인터럽트 상태가 남아 있으면 parkNanos가 바로 반환되어 계속 돌게 되므로 상태를 지운다.
+                if (Thread.interrupted()) {
+                    interrupted = true;
+                    if (queue.requests.remove(request)) {
+                        wakeNext(queue);
+                        if (queue.isIdle()) {
+                            queues.remove(id, queue);
+                        }
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(
+                            "포인트 변경 요청을 결합하기 위해 대기하던 중 인터럽트가 발생했습니다.");
+                    }
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 대기열을 비운 뒤 제거한다. 제거 직전에 대기열을 얻은 스레드는 그 대기열에서 직접 결합한다.
+        if (queue.isIdle()) {
+            queues.remove(id, queue);
+        }
+
+        if (request.failure != null) {
+            throw request.failure;
+        }
+        return request.result;
+    }
+
+    int queueCount() {
+        return queues.size();
+    }
+
+    private void combine(UserQueue queue,
+        Function<List<PointOperation>, List<PointOperationResult>> applier) {
+        List<Request> batch = new ArrayList<>(Math.min(maxBatchSize, 16));
+        Request request;
+        while (batch.size() < maxBatchSize && (request = queue.requests.poll()) != null) {
+            batch.add(request);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        pointMetrics.recordCombinedBatch(batch.size());
+
+        List<PointOperationResult> results;
+        try {
+            results = applier.apply(batch.stream().map(Request::operation).toList());
+        } catch (RuntimeException e) {
+            batch.forEach(failed -> failed.fail(e));
+            return;
+        }
+        for (int i = 0; i < batch.size(); ++i) {
+            batch.get(i).complete(results.get(i));
+        }
+    }
+
+    /**
+     * 결합 권한을 내려놓은 뒤에 확인하므로, 권한 획득에 실패하고 대기에 들어간 스레드의 요청을 놓치지 않는다.
+     */
+    private static void wakeNext(UserQueue queue) {
+        Request next = queue.requests.peek();
+        if (next != null) {
+            LockSupport.unpark(next.thread);
+        }
+    }
+
+    private static final class UserQueue {
+        private final Queue<Request> requests = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean combining = new AtomicBoolean();
+
+        private boolean isIdle() {
+            return !combining.get() && requests.isEmpty();
+        }
+    }
+
+    private static final class Request {
+        private final PointOperation operation;
+        private final Thread thread;
+        private volatile PointOperationResult result;
+        private volatile RuntimeException failure;
+        private volatile boolean done;
+
+        private Request(PointOperation operation, Thread thread) {
+            this.operation = operation;
+            this.thread = thread;
+        }
+
+        private PointOperation operation() {
+            return operation;
+        }
+
+        private void complete(PointOperationResult result) {
+            this.result = result;
+            finish();
+        }
+
+        private void fail(RuntimeException failure) {
+            this.failure = failure;
+            finish();
+        }
+
+        private void finish() {
+            done = true;
+            LockSupport.unpark(thread);
+        }
+    }
+}
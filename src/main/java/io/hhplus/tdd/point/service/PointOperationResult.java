@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointDto.PointDetail;
+import io.hhplus.tdd.point.exception.PointException;
+
+/**
+ * PointOperation 한 건의 처리 결과
+ * - 성공하면 적용 직후의 포인트(pointDetail), 실패하면 실패 원인(exception)을 담는다.
+ */
+public record PointOperationResult(
+    PointDetail pointDetail,
+    PointException exception
+) {
+
+    public static PointOperationResult success(PointDetail pointDetail) {
+        return new PointOperationResult(pointDetail, null);
+    }
+
+    public static PointOperationResult failure(PointException exception) {
+        return new PointOperationResult(null, exception);
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+}
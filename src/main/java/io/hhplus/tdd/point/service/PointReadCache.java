@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserPoint, PointHistory 목록, PointHistory 첫 페이지의 read-through 캐시
+ * - 캐시에 없으면 loader로 읽어 담는다. 같은 key의 동시 조회는 loader를 한 번만 실행한다.
+ * - 충전/사용이 저장을 마치면 PointService가 유저 락 안에서 갱신(putUserPoint) 또는 무효화한다.
+ *   loader 실행 중의 갱신/무효화는 loader가 끝날 때까지 기다렸다가 반영되므로, 쓰기 이후 이전 값이 남지 않는다.
+ * - 페이지 조회는 cursor 없는 첫 페이지만 유저별로 조회 조건마다 담는다. 유저 단위로 만료/제거/무효화된다.
+ * - hit/miss/eviction 지표는 cache.* 이름으로 등록된다. (cache 태그 : point.user-point, point.history, point.history-page)
+ *   point.history-page는 유저 단위로 집계된다.
+ */
+@Component
+public class PointReadCache {
+
+    // 유저 한 명에 대해 담아 둘 조회 조건 수, 넘으면 캐시하지 않고 loader 결과만 반환한다.
+    private static final int MAX_PAGES_PER_USER = 16;
+
+    private final boolean enabled;
+    private final Cache<Long, UserPoint> userPoints;
+    private final Cache<Long, List<PointHistory>> histories;
+    private final Cache<Long, Map<PointHistoryQuery, List<PointHistory>>> historyPages;
+
+    public PointReadCache(ReadCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.userPoints = Caffeine.newBuilder()
+            .maximumSize(properties.userPointMaximumSize())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .build();
+        this.histories = Caffeine.newBuilder()
+            .maximumSize(properties.historyMaximumSize())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .build();
+        this.historyPages = Caffeine.newBuilder()
+            .maximumSize(properties.historyMaximumSize())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, userPoints, "point.user-point");
+        CaffeineCacheMetrics.monitor(meterRegistry, histories, "point.history");
+        CaffeineCacheMetrics.monitor(meterRegistry, historyPages, "point.history-page");
+    }
+
+    /**
+     * 존재하지 않는 유저(Optional.empty())는 캐시하지 않는다.
+     */
+    public Optional<UserPoint> getUserPoint(long id, Supplier<Optional<UserPoint>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return Optional.ofNullable(userPoints.get(id, key -> loader.get().orElse(null)));
+    }
+
+    public List<PointHistory> getHistories(long userId, Supplier<List<PointHistory>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return histories.get(userId, key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * 무효화는 유저의 페이지 묶음을 통째로 캐시에서 떼어 내므로,
+     * 무효화 전에 시작된 조회의 결과는 떼어 낸 묶음에만 담기고 이후 조회에는 보이지 않는다.
+     */
+    public List<PointHistory> getHistoryPage(long userId, PointHistoryQuery query,
+        Supplier<List<PointHistory>> loader) {
+        if (!enabled || query.afterId() != null) {
+            return loader.get();
+        }
+
+        Map<PointHistoryQuery, List<PointHistory>> pages =
+            historyPages.get(userId, key -> new ConcurrentHashMap<>());
+        List<PointHistory> page = pages.get(query);
+        if (page == null) {
+            page = List.copyOf(loader.get());
+            if (pages.size() < MAX_PAGES_PER_USER) {
+                pages.putIfAbsent(query, page);
+            }
+        }
+        return page;
+    }
+
+    public void putUserPoint(UserPoint userPoint) {
+        if (enabled) {
+            userPoints.put(userPoint.id(), userPoint);
+        }
+    }
+
+    public void invalidateUserPoint(long id) {
+        if (enabled) {
+            userPoints.invalidate(id);
+        }
+    }
+
+    public void invalidateHistories(long userId) {
+        if (enabled) {
+            histories.invalidate(userId);
+            historyPages.invalidate(userId);
+        }
+    }
+
+    /**
+     * 모든 캐시를 비운다. 저장소를 직접 비우는 경우(테스트 등)에 사용한다.
+     */
+    public void invalidateAll() {
+        userPoints.invalidateAll();
+        histories.invalidateAll();
+        historyPages.invalidateAll();
+    }
+
+    public CacheStats userPointStats() {
+        return userPoints.stats();
+    }
+
+    public CacheStats historyStats() {
+        return histories.stats();
+    }
+
+    public CacheStats historyPageStats() {
+        return historyPages.stats();
+    }
+}
@@ -1,87 +1,648 @@
 package io.hhplus.tdd.point.service;
 
 
+import io.hhplus.tdd.common.error.ErrorResponse;
+import io.hhplus.tdd.point.dto.PointDto.BatchOperation;
+import io.hhplus.tdd.point.dto.PointDto.BatchResult;
 import io.hhplus.tdd.point.dto.PointDto.PointDetail;
 import io.hhplus.tdd.point.dto.PointDto.PointHistoryDetail;
+import io.hhplus.tdd.point.dto.PointDto.PointHistoryPage;
 import io.hhplus.tdd.point.exception.PointException;
 import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
 import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.repository.AtomicUserPointRepository;
+import io.hhplus.tdd.point.repository.ConditionalUserPointRepository;
+import io.hhplus.tdd.point.repository.FencedUserPointRepository;
+import io.hhplus.tdd.point.repository.HistoryDerivedUserPointRepository;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
 import io.hhplus.tdd.point.validator.PointValidator;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
 @Service
 public class PointService {
 
+    private static final Logger log = LoggerFactory.getLogger(PointService.class);
+
     private final UserPointRepository userPointRepository;
     private final PointHistoryRepository pointHistoryRepository;
 
     private final PointValidator pointValidator;
 
-    private final SelectiveLockFactory lockFactory;
+    private final PointMutationExecutor mutationExecutor;
+    private final PointBatchExecutor batchExecutor;
+    private final PointWriteExecutor writeExecutor;
+    private final PointOperationCombiner operationCombiner;
+    private final PointAdmissionControl admissionControl;
+
+    private final PointMetrics pointMetrics;
+    private final PointReadCache pointReadCache;
+    private final IdempotencyStore idempotencyStore;
+
+    // PointException이 아닌 예외로 실패한 일괄 처리 요청의 에러 (ApiControllerAdvice의 500 응답과 같다)
+    private static final ErrorResponse UNEXPECTED_ERROR = new ErrorResponse("500", "에러가 발생했습니다.");
 
     private static final long MAX_AMOUNT = 100_000;
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    /**
+     * 비동기로 저장되는 내역은 충전/사용이 끝난 뒤에야 조회에 보이므로,
+     * 저장 직후의 무효화와 저장 완료 사이에 다시 담긴 이전 내역을 저장이 끝난 시점에 한 번 더 무효화한다.
+     */
+    @PostConstruct
+    void invalidateHistoriesWhenStored() {
+        pointHistoryRepository.addStoredListener(pointReadCache::invalidateHistories);
+    }
 
     public PointDetail getUserPoint(long id) throws PointException {
-        UserPoint userPoint = userPointRepository.selectById(id)
+        // 같은 유저의 동시 조회는 캐시가 loader 하나로 합친다. 쓰기 뒤에 시작된 조회가 이전 조회에 합류하지 않도록
+        // 캐시 앞에 따로 조회를 합치는 층을 두지 않는다.
+        UserPoint userPoint = pointReadCache.getUserPoint(id, () -> selectUserPoint(id))
             .orElseThrow(() -> PointException.NOT_FOUND_USER_POINT);
 
         return PointDetail.of(userPoint);
     }
 
     public List<PointHistoryDetail> getUserPointHistories(long userId) {
-        return pointHistoryRepository.selectAllByUserId(userId)
+        return pointReadCache.getHistories(userId,
+                () -> pointHistoryRepository.selectAllByUserId(userId))
             .stream()
             .map(PointHistoryDetail::of)
             .collect(Collectors.toList());
     }
 
+    public PointHistoryPage getUserPointHistories(long userId, Long cursor, int limit,
+        Long fromMillis, Long toMillis) {
+        pointValidator.checkHistoryQuery(limit, fromMillis, toMillis);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회한다.
+        PointHistoryQuery query = new PointHistoryQuery(cursor, fromMillis, toMillis, limit + 1);
+        return PointHistoryPage.of(
+            pointReadCache.getHistoryPage(userId, query, () -> selectHistories(userId, query)), limit);
+    }
+
+    /**
+     * exportHistories의 조회 조건을 확인한다.
+     * 응답을 스트림으로 쓰기 시작한 뒤에는 에러 응답으로 바꿀 수 없으므로, 응답 전에 먼저 호출한다.
+     */
+    public void checkExportQuery(Long fromMillis, Long toMillis) {
+        pointValidator.checkHistoryQuery(EXPORT_PAGE_SIZE, fromMillis, toMillis);
+    }
+
+    /**
+     * 유저별 내역을 페이지 단위로 읽어 consumer에 하나씩 넘긴다.
+     * 한 번에 메모리에 올라가는 내역은 최대 EXPORT_PAGE_SIZE 건이다.
+     */
+    public void exportHistories(Collection<Long> userIds, TransactionType type, Long fromMillis,
+        Long toMillis, Consumer<PointHistoryDetail> consumer) {
+        checkExportQuery(fromMillis, toMillis);
+
+        PointHistoryQuery firstPage =
+            new PointHistoryQuery(null, fromMillis, toMillis, type, EXPORT_PAGE_SIZE);
+        for (long userId : userIds) {
+            PointHistoryQuery query = firstPage;
+            List<PointHistory> page;
+            do {
+                page = selectHistories(userId, query);
+                for (PointHistory pointHistory : page) {
+                    consumer.accept(PointHistoryDetail.of(pointHistory));
+                }
+                if (!page.isEmpty()) {
+                    query = query.after(page.get(page.size() - 1).id());
+                }
+            } while (page.size() == EXPORT_PAGE_SIZE);
+        }
+    }
+
     public PointDetail charge(long id, long amount) {
-        pointValidator.checkAmount(amount);
+        return charge(id, amount, null);
+    }
+
+    /**
+     * @param idempotencyKey null이 아니면 같은 key로 이미 처리된 충전의 결과를 다시 적용하지 않고 그대로 반환한다.
+     */
+    public PointDetail charge(long id, long amount, String idempotencyKey) {
+        return mutate(id, PointOperation.charge(amount), idempotencyKey);
+    }
+
+    public CompletableFuture<PointDetail> chargeAsync(long id, long amount) {
+        return chargeAsync(id, amount, null);
+    }
+
+    /**
+     * mailbox 모드에서만 유저 worker가 완료하는 future를 바로 반환한다.
+     * 그 밖의 모드와 combining에서는 호출한 스레드가 충전을 마친 뒤 완료된 future를 반환한다. (useAsync도 같다)
+     */
+    public CompletableFuture<PointDetail> chargeAsync(long id, long amount, String idempotencyKey) {
+        return mutateAsync(id, PointOperation.charge(amount), idempotencyKey);
+    }
+
+    public PointDetail use(long id, long amount) {
+        return use(id, amount, null);
+    }
+
+    /**
+     * @param idempotencyKey null이 아니면 같은 key로 이미 처리된 사용의 결과를 다시 적용하지 않고 그대로 반환한다.
+     */
+    public PointDetail use(long id, long amount, String idempotencyKey) {
+        return mutate(id, PointOperation.use(amount), idempotencyKey);
+    }
+
+    public CompletableFuture<PointDetail> useAsync(long id, long amount) {
+        return useAsync(id, amount, null);
+    }
+
+    public CompletableFuture<PointDetail> useAsync(long id, long amount, String idempotencyKey) {
+        return mutateAsync(id, PointOperation.use(amount), idempotencyKey);
+    }
+
+    /**
+     * 여러 유저에 대한 충전/사용을 한 번에 처리한다.
+     * - 유저별로 묶어 유저 락은 한 번만 잡고, 같은 유저의 요청은 요청 순서대로 적용한다.
+     * - 실패한 요청은 건별로 결과에 담기며, 나머지 요청의 처리에는 영향을 주지 않는다.
+     * - 서로 다른 유저의 묶음은 병렬로 처리된다.
+     */
+    public List<BatchResult> executeBatch(List<BatchOperation> operations) {
+        pointValidator.checkBatchSize(operations == null ? 0 : operations.size());
+
+        Map<Long, List<Integer>> indexesByUserId = new LinkedHashMap<>();
+        for (int index = 0; index < operations.size(); ++index) {
+            indexesByUserId.computeIfAbsent(operations.get(index).getUserId(),
+                key -> new ArrayList<>()).add(index);
+        }
+
+        List<Supplier<List<BatchResult>>> tasks = new ArrayList<>(indexesByUserId.size());
+        indexesByUserId.forEach((userId, indexes) ->
+            tasks.add(() -> executeUserBatch(userId, indexes, operations)));
+
+        BatchResult[] ordered = new BatchResult[operations.size()];
+        for (List<BatchResult> batchResults : batchExecutor.invokeAll(tasks)) {
+            for (BatchResult batchResult : batchResults) {
+                ordered[batchResult.getIndex()] = batchResult;
+            }
+        }
+        return List.of(ordered);
+    }
+
+    /**
+     * 한 유저의 묶음을 유저 락 한 번으로 적용하고, 요청별 결과를 반환한다.
+     * - 묶음마다 처리량 제한을 거치며, 묶음의 요청 수만큼 토큰을 쓴다.
+     * - 처리량 제한, 락 대기 시간 초과, 저장 실패 등으로 묶음 전체가 실패하면 묶음의 모든 요청을 같은 에러로 실패 처리해,
+     *   다른 유저의 묶음 결과와 함께 돌려준다. (이미 반영된 다른 묶음이 있어도 요청 전체가 에러가 되지 않는다.)
+     */
+    private List<BatchResult> executeUserBatch(long userId, List<Integer> indexes,
+        List<BatchOperation> operations) {
+        List<PointOperation> userOperations = indexes.stream()
+            .map(operations::get)
+            .map(operation -> new PointOperation(operation.getType(), operation.getAmount()))
+            .toList();
+
+        List<PointOperationResult> results;
+        try {
+            results = admissionControl.admit(userId, indexes.size(), () ->
+                mutationExecutor.execute(userId, () -> applyOperations(userId, userOperations)));
+        } catch (PointException e) {
+            return failures(userId, indexes, e.getErrorCode().toErrorResponse());
+        } catch (RuntimeException e) {
+            log.error("일괄 처리 중 유저 묶음 적용에 실패했습니다. userId={}", userId, e);
+            return failures(userId, indexes, UNEXPECTED_ERROR);
+        }
+
+        List<BatchResult> batchResults = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); ++i) {
+            PointOperationResult result = results.get(i);
+            batchResults.add(result.isSuccess()
+                ? BatchResult.success(indexes.get(i), userId, result.pointDetail())
+                : BatchResult.failure(indexes.get(i), userId,
+                    result.exception().getErrorCode().toErrorResponse()));
+        }
+        return batchResults;
+    }
+
+    private static List<BatchResult> failures(long userId, List<Integer> indexes, ErrorResponse error) {
+        return indexes.stream()
+            .map(index -> BatchResult.failure(index, userId, error))
+            .toList();
+    }
+
+    /**
+     * 충전/사용 요청을 처리량 제한을 거쳐, combining이 켜져 있으면 결합기로, 아니면 실행기로 적용한다.
+     * - Idempotency-Key가 있는 요청은 결과를 key별로 저장해야 하므로 결합하지 않는다.
+     */
+    private PointDetail mutate(long id, PointOperation operation, String idempotencyKey) {
+        checkRequest(operation.amount(), idempotencyKey);
+
+        return admissionControl.admit(id, () -> {
+            if (idempotencyKey == null && operationCombiner.isEnabled()) {
+                return combine(id, operation);
+            }
+            return mutationExecutor.execute(id, () -> applyIdempotently(id, idempotencyKey,
+                operation, () -> applyOperation(id, operation)));
+        });
+    }
+
+    private CompletableFuture<PointDetail> mutateAsync(long id, PointOperation operation,
+        String idempotencyKey) {
+        checkRequest(operation.amount(), idempotencyKey);
+
+        return admissionControl.admitAsync(id, () -> {
+            if (idempotencyKey == null && operationCombiner.isEnabled()) {
+                return combineAsync(id, operation);
+            }
+            return mutationExecutor.executeAsync(id, () -> applyIdempotently(id, idempotencyKey,
+                operation, () -> applyOperation(id, operation)));
+        });
+    }
+
+    /**
+     * 유저 락 안에서 실행되어, 같은 유저의 재시도가 겹쳐도 한 번만 적용된다.
+     * - 같은 Idempotency-Key로 성공한 결과가 있으면 Repository를 거치지 않고 저장된 결과를 반환한다.
+     * - 실패한 요청은 결과를 남기지 않으므로 같은 key로 다시 시도할 수 있다.
+     * - combining 모드에서도 key가 있는 요청은 이 경로로 처리된다.
+     * - optimistic 모드는 유저 락 없이 실행되므로, 동시에 도착한 같은 key의 요청끼리는 막지 못한다.
+     */
+    private PointDetail applyIdempotently(long id, String idempotencyKey, PointOperation operation,
+        Supplier<PointDetail> apply) {
+        if (idempotencyKey == null) {
+            return apply.get();
+        }
 
-        ReentrantLock lock = lockFactory.getLock(id);
-        lock.lock();
+        Optional<PointDetail> stored;
         try {
-            UserPoint userPoint = userPointRepository.selectById(id)
-                .orElse(UserPoint.empty(id));
+            stored = idempotencyStore.find(id, idempotencyKey, operation);
+        } catch (PointException e) {
+            pointMetrics.countFailure(e);
+            throw e;
+        }
+        if (stored.isPresent()) {
+            pointMetrics.countIdempotentReplay();
+            return stored.get();
+        }
+
+        PointDetail pointDetail = apply.get();
+        idempotencyStore.save(id, idempotencyKey, operation, pointDetail);
+        return pointDetail;
+    }
+
+    /**
+     * 같은 유저에 대해 대기 중인 충전/사용과 함께 묶어, 유저 락 한 번으로 적용한다.
+     * - 묶인 요청들은 UserPoint 조회 한 번, 저장 한 번으로 처리되고 각자 자기 요청을 적용한 직후의 포인트를 받는다.
+     */
+    private PointDetail combine(long id, PointOperation operation) {
+        PointOperationResult result = operationCombiner.submit(id, operation,
+            operations -> mutationExecutor.execute(id, () -> applyOperations(id, operations)));
+        if (!result.isSuccess()) {
+            throw result.exception();
+        }
+        return result.pointDetail();
+    }
+
+    /**
+     * combining 모드에서는 호출한 스레드가 결합에 참여해야 하므로, 결과가 나온 뒤 완료된 future를 반환한다.
+     */
+    private CompletableFuture<PointDetail> combineAsync(long id, PointOperation operation) {
+        try {
+            return CompletableFuture.completedFuture(combine(id, operation));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 한 유저에 대한 요청들을 순서대로 적용한다. 유저 락을 잡은 상태에서 호출되어야 한다.
+     * - UserPoint는 한 번만 읽고, 모두 적용한 최종 값만 한 번 저장한다.
+     * - 각 요청의 결과에는 해당 요청을 적용한 직후의 포인트가 담긴다.
+     */
+    private List<PointOperationResult> applyOperations(long id, List<PointOperation> operations) {
+        UserPoint current = selectUserPoint(id).orElse(null);
+        UserPoint userPoint = current;
+
+        List<PointOperationResult> results = new ArrayList<>(operations.size());
+        List<PointHistory> histories = new ArrayList<>(operations.size());
+        for (PointOperation operation : operations) {
+            try {
+                userPoint = apply(id, userPoint, operation);
+                histories.add(operation.type() == TransactionType.CHARGE
+                    ? PointHistory.createChargeHistory(id, operation.amount(), userPoint.updateMillis())
+                    : PointHistory.createUseHistory(id, operation.amount(), userPoint.updateMillis()));
+                results.add(PointOperationResult.success(PointDetail.of(userPoint)));
+            } catch (PointException e) {
+                results.add(PointOperationResult.failure(e));
+            }
+        }
 
-            UserPoint savedUserPoint =
-                userPointRepository.insertOrUpdate(userPoint.charge(amount, MAX_AMOUNT));
+        if (!histories.isEmpty()) {
+            UserPoint savedUserPoint = null;
+            if (userPointRepository instanceof HistoryDerivedUserPointRepository derivedRepository) {
+                for (PointHistory pointHistory : histories) {
+                    savedUserPoint = appendHistory(derivedRepository, pointHistory);
+                }
+            } else {
+                savedUserPoint = saveUserPointWithHistories(current, userPoint, histories);
+            }
+            refreshCache(id, savedUserPoint);
+        }
+
+        // optimistic 모드에서 재실행될 수 있으므로 저장까지 끝난 뒤에 기록한다.
+        for (PointOperationResult result : results) {
+            if (result.isSuccess()) {
+                pointMetrics.countSuccess();
+            } else {
+                pointMetrics.countFailure(result.exception());
+            }
+        }
+        return results;
+    }
+
+    private UserPoint apply(long id, UserPoint userPoint, PointOperation operation) {
+        pointValidator.checkAmount(operation.amount());
+
+        if (operation.type() == TransactionType.CHARGE) {
+            UserPoint base = userPoint != null ? userPoint : UserPoint.empty(id);
+            return base.charge(operation.amount(), MAX_AMOUNT);
+        }
+        if (operation.type() == TransactionType.USE) {
+            if (userPoint == null) {
+                throw PointException.NOT_FOUND_USER_POINT;
+            }
+            return userPoint.use(operation.amount());
+        }
+        throw PointException.INVALID_BATCH_REQUEST;
+    }
+
+    private PointDetail applyOperation(long id, PointOperation operation) {
+        return operation.type() == TransactionType.CHARGE
+            ? applyCharge(id, operation.amount())
+            : applyUse(id, operation.amount());
+    }
+
+    private PointDetail applyCharge(long id, long amount) {
+        try {
+            UserPoint savedUserPoint;
+            if (userPointRepository instanceof HistoryDerivedUserPointRepository derivedRepository) {
+                // 한도만 검사하고, 잔액은 내역을 저장하면서 함께 반영된다.
+                selectUserPoint(id).orElseGet(() -> UserPoint.empty(id)).charge(amount, MAX_AMOUNT);
+                savedUserPoint = appendHistory(derivedRepository,
+                    PointHistory.createChargeHistory(id, amount, System.currentTimeMillis()));
+                refreshCache(id, savedUserPoint);
+
+                pointMetrics.countSuccess();
+                return PointDetail.of(savedUserPoint);
+            }
 
             PointHistory chargeHistory =
                 PointHistory.createChargeHistory(id, amount, System.currentTimeMillis());
-            pointHistoryRepository.insert(chargeHistory);
+            if (userPointRepository instanceof AtomicUserPointRepository atomicRepository) {
+                savedUserPoint = saveAtomicallyWithHistory(atomicRepository, chargeHistory);
+            } else {
+                UserPoint current = selectUserPoint(id).orElse(null);
+                UserPoint userPoint = current != null ? current : UserPoint.empty(id);
+
+                savedUserPoint = saveUserPointWithHistories(current,
+                    userPoint.charge(amount, MAX_AMOUNT), List.of(chargeHistory));
+            }
+            refreshCache(id, savedUserPoint);
 
+            pointMetrics.countSuccess();
             return PointDetail.of(savedUserPoint);
-        } finally {
-            lock.unlock();
+        } catch (PointException e) {
+            pointMetrics.countFailure(e);
+            throw e;
         }
     }
 
-    public PointDetail use(long id, long amount) {
-        pointValidator.checkAmount(amount);
-
-        ReentrantLock lock = lockFactory.getLock(id);
-        lock.lock();
+    private PointDetail applyUse(long id, long amount) {
         try {
-            UserPoint userPoint = userPointRepository.selectById(id)
-                .orElseThrow(() -> PointException.NOT_FOUND_USER_POINT);
+            UserPoint upatedUserPoint;
+            if (userPointRepository instanceof HistoryDerivedUserPointRepository derivedRepository) {
+                // 잔액만 검사하고, 잔액은 내역을 저장하면서 함께 반영된다.
+                selectUserPoint(id)
+                    .orElseThrow(() -> PointException.NOT_FOUND_USER_POINT)
+                    .use(amount);
+                upatedUserPoint = appendHistory(derivedRepository,
+                    PointHistory.createUseHistory(id, amount, System.currentTimeMillis()));
+                refreshCache(id, upatedUserPoint);
 
-            UserPoint upatedUserPoint = userPointRepository.insertOrUpdate(userPoint.use(amount));
+                pointMetrics.countSuccess();
+                return PointDetail.of(upatedUserPoint);
+            }
 
-            PointHistory chargeHistory =
+            PointHistory useHistory =
                 PointHistory.createUseHistory(id, amount, System.currentTimeMillis());
-            pointHistoryRepository.insert(chargeHistory);
+            if (userPointRepository instanceof AtomicUserPointRepository atomicRepository) {
+                upatedUserPoint = saveAtomicallyWithHistory(atomicRepository, useHistory);
+            } else {
+                UserPoint userPoint = selectUserPoint(id)
+                    .orElseThrow(() -> PointException.NOT_FOUND_USER_POINT);
+
+                upatedUserPoint = saveUserPointWithHistories(userPoint, userPoint.use(amount),
+                    List.of(useHistory));
+            }
+            refreshCache(id, upatedUserPoint);
 
+            pointMetrics.countSuccess();
             return PointDetail.of(upatedUserPoint);
+        } catch (PointException e) {
+            pointMetrics.countFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 저장을 마친 뒤 조회 캐시를 맞춘다. 같은 유저의 변경은 순서대로 실행되므로 저장한 값으로 바로 갱신한다.
+     * optimistic 모드는 같은 유저의 저장이 동시에 끝날 수 있어, 이전 값으로 덮어쓰지 않도록 무효화만 한다.
+     */
+    private void refreshCache(long id, UserPoint savedUserPoint) {
+        if (mutationExecutor.usesCompareAndSet()) {
+            pointReadCache.invalidateUserPoint(id);
+        } else {
+            pointReadCache.putUserPoint(savedUserPoint);
+        }
+        pointReadCache.invalidateHistories(id);
+    }
+
+    private void checkRequest(long amount, String idempotencyKey) {
+        try {
+            pointValidator.checkAmount(amount);
+            pointValidator.checkIdempotencyKey(idempotencyKey);
+        } catch (PointException e) {
+            pointMetrics.countFailure(e);
+            throw e;
+        }
+    }
+
+    private Optional<UserPoint> selectUserPoint(long id) {
+        long start = System.nanoTime();
+        try {
+            return userPointRepository.selectById(id);
+        } finally {
+            pointMetrics.recordUserPointSelect(start);
+        }
+    }
+
+    /**
+     * current는 updated를 계산할 때 읽은 값이며, optimistic 모드에서 compareAndSet의 기대값으로 쓰인다.
+     */
+    private UserPoint saveUserPoint(UserPoint current, UserPoint updated) {
+        long start = System.nanoTime();
+        try {
+            if (mutationExecutor.usesCompareAndSet()
+                && userPointRepository instanceof ConditionalUserPointRepository conditionalRepository) {
+                return conditionalRepository.compareAndSet(current, updated)
+                    .orElseThrow(() -> OptimisticConflictException.INSTANCE);
+            }
+            return userPointRepository.insertOrUpdate(updated);
+        } finally {
+            pointMetrics.recordUserPointWrite(start);
+        }
+    }
+
+    /**
+     * 잔액과 내역을 저장한다. (point.execution.write.parallel이면 동시에 저장)
+     * - 내역 저장이 실패하면 잔액을 current로 되돌린다. 처음 충전한 유저는 0포인트로 되돌린다.
+     * - 잔액 저장이 실패하면 이미 저장된 내역마다 반대 내역(충전 ↔ 사용)을 추가한다. 내역은 지울 수 없기 때문이다.
+     * - optimistic 모드는 compareAndSet 충돌로 재실행될 수 있으므로, 잔액 저장이 성공한 뒤에만 내역을 저장한다.
+     * - 저장을 시작하기 전에 유저 락(lease)을 여전히 잡고 있는지 확인한다.
+     */
+    private UserPoint saveUserPointWithHistories(UserPoint current, UserPoint updated,
+        List<PointHistory> histories) {
+        mutationExecutor.checkLockHeld(updated.id());
+
+        List<PointHistory> insertedHistories = new ArrayList<>(histories.size());
+        Supplier<UserPoint> balanceWrite = () -> saveUserPoint(current, updated);
+        Runnable historyWrite = () -> {
+            for (PointHistory pointHistory : histories) {
+                insertHistory(pointHistory);
+                insertedHistories.add(pointHistory);
+            }
+        };
+        Consumer<UserPoint> undoBalance = saved ->
+            saveUserPoint(saved, current != null ? current : UserPoint.empty(updated.id()));
+        Runnable undoHistory = () -> insertedHistories.forEach(
+            pointHistory -> insertHistory(reverse(pointHistory)));
+
+        return mutationExecutor.usesCompareAndSet()
+            ? writeExecutor.writeSequentially(balanceWrite, historyWrite, undoBalance, undoHistory)
+            : writeExecutor.write(balanceWrite, historyWrite, undoBalance, undoHistory);
+    }
+
+    /**
+     * 저장소가 한도/잔액 검사와 변경을 한 번에 하는 경우, 잔액 → 내역 순서로 저장한다.
+     * - 잔액 변경이 검사에서 거절될 수 있으므로 내역을 먼저(또는 동시에) 저장하지 않는다.
+     * - 내역 저장이 실패하면 반대 방향의 원자적 변경으로 잔액을 되돌린다.
+     */
+    private UserPoint saveAtomicallyWithHistory(AtomicUserPointRepository atomicRepository,
+        PointHistory pointHistory) {
+        long id = pointHistory.userId();
+        long amount = pointHistory.amount();
+        boolean charge = pointHistory.type() == TransactionType.CHARGE;
+        return writeExecutor.writeSequentially(
+            () -> charge
+                ? chargeAtomically(atomicRepository, id, amount)
+                : useAtomically(atomicRepository, id, amount),
+            () -> insertHistory(pointHistory),
+            saved -> {
+                if (charge) {
+                    writeUseAtomically(atomicRepository, id, amount);
+                } else {
+                    writeChargeAtomically(atomicRepository, id, amount);
+                }
+            },
+            () -> { });
+    }
+
+    private static PointHistory reverse(PointHistory pointHistory) {
+        long now = System.currentTimeMillis();
+        return pointHistory.type() == TransactionType.CHARGE
+            ? PointHistory.createUseHistory(pointHistory.userId(), pointHistory.amount(), now)
+            : PointHistory.createChargeHistory(pointHistory.userId(), pointHistory.amount(), now);
+    }
+
+    private UserPoint chargeAtomically(AtomicUserPointRepository atomicRepository, long id, long amount) {
+        mutationExecutor.checkLockHeld(id);
+        long start = System.nanoTime();
+        try {
+            return writeChargeAtomically(atomicRepository, id, amount);
+        } finally {
+            pointMetrics.recordUserPointWrite(start);
+        }
+    }
+
+    private UserPoint useAtomically(AtomicUserPointRepository atomicRepository, long id, long amount) {
+        mutationExecutor.checkLockHeld(id);
+        long start = System.nanoTime();
+        try {
+            return writeUseAtomically(atomicRepository, id, amount);
+        } finally {
+            pointMetrics.recordUserPointWrite(start);
+        }
+    }
+
+    /**
+     * fencing token을 검사하는 저장소에는 유저 락(lease)의 token을 함께 넘겨, 잃은 lease의 늦은 쓰기가 거절되게 한다.
+     */
+    private UserPoint writeChargeAtomically(AtomicUserPointRepository atomicRepository, long id,
+        long amount) {
+        if (atomicRepository instanceof FencedUserPointRepository fencedRepository) {
+            return fencedRepository.chargeAtomically(id, amount, MAX_AMOUNT, mutationExecutor.fencingToken(id));
+        }
+        return atomicRepository.chargeAtomically(id, amount, MAX_AMOUNT);
+    }
+
+    private UserPoint writeUseAtomically(AtomicUserPointRepository atomicRepository, long id,
+        long amount) {
+        if (atomicRepository instanceof FencedUserPointRepository fencedRepository) {
+            return fencedRepository.useAtomically(id, amount, mutationExecutor.fencingToken(id));
+        }
+        return atomicRepository.useAtomically(id, amount);
+    }
+
+    private void insertHistory(PointHistory pointHistory) {
+        long start = System.nanoTime();
+        try {
+            pointHistoryRepository.insert(pointHistory);
+        } finally {
+            pointMetrics.recordHistoryInsert(start);
+        }
+    }
+
+    /**
+     * 잔액이 내역으로부터 계산되는 저장소에서, 잔액 저장 없이 내역 한 건만 저장한다.
+     */
+    private UserPoint appendHistory(HistoryDerivedUserPointRepository derivedRepository,
+        PointHistory pointHistory) {
+        mutationExecutor.checkLockHeld(pointHistory.userId());
+        long start = System.nanoTime();
+        try {
+            return derivedRepository.appendHistory(pointHistory);
+        } finally {
+            pointMetrics.recordHistoryInsert(start);
+        }
+    }
+
+    private List<PointHistory> selectHistories(long userId, PointHistoryQuery query) {
+        long start = System.nanoTime();
+        try {
+            return pointHistoryRepository.selectByUserId(userId, query);
         } finally {
-            lock.unlock();
+            pointMetrics.recordHistorySelect(start);
         }
     }
-}
\ No newline at end of file
+}
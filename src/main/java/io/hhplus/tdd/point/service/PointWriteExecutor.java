@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한 번의 충전/사용에서 잔액 저장과 내역 저장을 실행하는 실행기
+ * - point.execution.write.parallel이 true면 내역 저장을 별도 스레드에서 잔액 저장과 동시에 실행하고 둘 다 끝날 때까지 기다린다.
+ *   유저 락을 잡고 있는 시간이 두 저장 시간의 합에서 둘 중 긴 쪽으로 줄어든다.
+ * - 별도 스레드에서 실행 중인 내역 저장이 maxConcurrentHistoryWrites에 이르면, 새 스레드를 만들거나 기다리지 않고
+ *   호출 스레드에서 잔액 → 내역 순서로 저장한다. (caller-runs) 내역 저장이 느려져도 스레드 수는 이 값을 넘지 않는다.
+ * - 어느 한쪽이라도 실패하면 성공한 잔액 저장은 undoBalance로, 저장된 내역은 undoHistory로 되돌리고 실패한 예외를 던진다.
+ *   되돌리기마저 실패하면 원래 예외에 suppressed로 붙이고 로그를 남긴다.
+ */
+@Component
+public class PointWriteExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWriteExecutor.class);
+
+    private final boolean parallel;
+    private final ExecutorService historyWriter;
+    private final Semaphore historyWriteSlots;
+    private final PointMetrics pointMetrics;
+
+    public PointWriteExecutor(WriteProperties properties, PointMetrics pointMetrics,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.parallel = properties.parallel();
+        this.pointMetrics = pointMetrics;
+        this.historyWriter = virtualThreads
+            ? Executors.newThreadPerTaskExecutor(threadFactory(true))
+            : Executors.newCachedThreadPool(threadFactory(false));
+        this.historyWriteSlots = new Semaphore(properties.maxConcurrentHistoryWrites());
+    }
+
+    /**
+     * 설정에 따라 두 저장을 동시에, 또는 잔액 → 내역 순서로 실행한다.
+     * @return balanceWrite의 결과
+     */
+    public <T> T write(Supplier<T> balanceWrite, Runnable historyWrite,
+        Consumer<T> undoBalance, Runnable undoHistory) {
+        return parallel
+            ? writeInParallel(balanceWrite, historyWrite, undoBalance, undoHistory)
+            : writeSequentially(balanceWrite, historyWrite, undoBalance, undoHistory);
+    }
+
+    /**
+     * 잔액 저장이 끝난 뒤에 내역을 저장한다. 잔액 저장이 실패하면 내역은 저장하지 않는다.
+     */
+    public <T> T writeSequentially(Supplier<T> balanceWrite, Runnable historyWrite,
+        Consumer<T> undoBalance, Runnable undoHistory) {
+        T saved = balanceWrite.get();
+        try {
+            historyWrite.run();
+        } catch (RuntimeException e) {
+            compensate(e, () -> undoBalance.accept(saved), undoHistory);
+            throw e;
+        }
+        return saved;
+    }
+
+    private <T> T writeInParallel(Supplier<T> balanceWrite, Runnable historyWrite,
+        Consumer<T> undoBalance, Runnable undoHistory) {
+        if (!historyWriteSlots.tryAcquire()) {
+            return writeSequentially(balanceWrite, historyWrite, undoBalance, undoHistory);
+        }
+        CompletableFuture<Void> history = CompletableFuture.runAsync(() -> {
+            try {
+                historyWrite.run();
+            } finally {
+                historyWriteSlots.release();
+            }
+        }, historyWriter);
+
+        T saved = null;
+        boolean balanceSaved = false;
+        RuntimeException failure = null;
+        try {
+            saved = balanceWrite.get();
+            balanceSaved = true;
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        try {
+            history.join();
+        } catch (CompletionException e) {
+            RuntimeException historyFailure = e.getCause() instanceof RuntimeException cause
+                ? cause
+                : e;
+            if (failure == null) {
+                failure = historyFailure;
+            } else {
+                failure.addSuppressed(historyFailure);
+            }
+        }
+
+        if (failure == null) {
+            return saved;
+        }
+
+        T balance = saved;
+        compensate(failure, balanceSaved ? () -> undoBalance.accept(balance) : () -> { }, undoHistory);
+        throw failure;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        historyWriter.shutdown();
+        historyWriter.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void compensate(RuntimeException failure, Runnable undoBalance, Runnable undoHistory) {
+        pointMetrics.countWriteCompensation();
+        for (Runnable undo : new Runnable[] {undoBalance, undoHistory}) {
+            try {
+                undo.run();
+            } catch (RuntimeException undoFailure) {
+                failure.addSuppressed(undoFailure);
+                log.error("잔액/내역 저장 실패 후 되돌리기에 실패했습니다. 잔액과 내역이 어긋났을 수 있습니다.",
+                    undoFailure);
+            }
+        }
+    }
+
+    private static ThreadFactory threadFactory(boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name("point-history-write-", 0).factory();
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "point-history-write-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 조회 캐시 설정
+ * - enabled : false면 캐시 없이 항상 Repository에서 조회한다.
+ * - userPointMaximumSize / historyMaximumSize : 캐시에 담을 최대 유저 수, 넘으면 W-TinyLFU로 제거한다.
+ *   historyMaximumSize는 내역 목록과 내역 첫 페이지 캐시에 각각 적용된다.
+ * - expireAfterWrite : 저장 후 이 시간이 지나면 만료된다.
+ */
+@ConfigurationProperties(prefix = "point.cache")
+public record ReadCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("100000") long userPointMaximumSize,
+    @DefaultValue("10000") long historyMaximumSize,
+    @DefaultValue("10s") Duration expireAfterWrite
+) {
+
+    public ReadCacheProperties {
+        if (userPointMaximumSize < 0 || historyMaximumSize < 0 || !expireAfterWrite.isPositive()) {
+            throw new IllegalArgumentException("최대 크기는 음수일 수 없고, expireAfterWrite는 0보다 커야 합니다.");
+        }
+    }
+}
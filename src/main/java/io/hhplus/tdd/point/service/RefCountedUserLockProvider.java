@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.service;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 락을 참조 카운트로 관리하는 락 제공자
+ * - 락을 잡고 있거나 기다리는 스레드가 하나도 없으면 map에서 제거되므로, 동시에 사용 중인 유저 수만큼만 유지된다.
+ */
+@ConditionalOnProperty(prefix = "point.lock", name = "type", havingValue = "ref-counted",
+    matchIfMissing = true)
+@Component
+public class RefCountedUserLockProvider implements UserLockProvider {
+
+    private final ConcurrentHashMap<Long, CountedLock> lockMap = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> T executeWithLock(long id, Supplier<T> task) {
+        return executeWithLock(id, Duration.ZERO, task);
+    }
+
+    @Override
+    public <T> T executeWithLock(long id, Duration waitTimeout, Supplier<T> task) {
+        CountedLock countedLock = retain(id);
+        try {
+            UserLocks.lock(countedLock.lock, waitTimeout);
+            try {
+                return task.get();
+            } finally {
+                countedLock.lock.unlock();
+            }
+        } finally {
+            release(id);
+        }
+    }
+
+    public int size() {
+        return lockMap.size();
+    }
+
+    private CountedLock retain(long id) {
+        // compute는 key 단위로 원자적으로 실행되므로 refCount 증감이 서로 엇갈리지 않는다.
+        return lockMap.compute(id, (key, countedLock) -> {
+            CountedLock retained = countedLock == null ? new CountedLock() : countedLock;
+            retained.refCount++;
+            return retained;
+        });
+    }
+
+    private void release(long id) {
+        lockMap.computeIfPresent(id, (key, countedLock) ->
+            --countedLock.refCount == 0 ? null : countedLock);
+    }
+
+    private static final class CountedLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int refCount;
+    }
+}
@@ -1,14 +1,42 @@
 package io.hhplus.tdd.point.service;
 
+import java.time.Duration;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+/**
+ * 유저마다 ReentrantLock을 하나씩 만들어 두는 락 제공자
+ * - 한 번 만든 락은 제거하지 않으므로 유저 수만큼 계속 늘어난다.
+ */
+@ConditionalOnProperty(prefix = "point.lock", name = "type", havingValue = "selective")
 @Component
-public class SelectiveLockFactory {
+public class SelectiveLockFactory implements UserLockProvider {
     private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
 
     public ReentrantLock getLock(long id) {
         return lockMap.computeIfAbsent(id, key -> new ReentrantLock());
     }
+
+    @Override
+    public <T> T executeWithLock(long id, Supplier<T> task) {
+        return executeWithLock(id, Duration.ZERO, task);
+    }
+
+    @Override
+    public <T> T executeWithLock(long id, Duration waitTimeout, Supplier<T> task) {
+        ReentrantLock lock = getLock(id);
+        UserLocks.lock(lock, waitTimeout);
+        try {
+            return task.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return lockMap.size();
+    }
 }
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point.service;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고정 크기 락 배열에 유저 id를 해싱해 나누어 쓰는 락 제공자
+ * - 메모리 사용량은 stripes 수로 고정되지만, 같은 stripe에 걸린 서로 다른 유저끼리는 경합이 생긴다.
+ */
+@ConditionalOnProperty(prefix = "point.lock", name = "type", havingValue = "striped")
+@Component
+public class StripedUserLockProvider implements UserLockProvider {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public StripedUserLockProvider(LockProperties properties) {
+        int stripes = Integer.highestOneBit(properties.stripes());
+        if (stripes < properties.stripes()) {
+            stripes <<= 1;
+        }
+
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; ++i) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = stripes - 1;
+    }
+
+    @Override
+    public <T> T executeWithLock(long id, Supplier<T> task) {
+        return executeWithLock(id, Duration.ZERO, task);
+    }
+
+    @Override
+    public <T> T executeWithLock(long id, Duration waitTimeout, Supplier<T> task) {
+        ReentrantLock lock = locks[indexOf(id)];
+        UserLocks.lock(lock, waitTimeout);
+        try {
+            return task.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int stripes() {
+        return locks.length;
+    }
+
+    int indexOf(long id) {
+        // 연속된 id가 하위 비트만 달라도 고르게 퍼지도록 곱셈 해시 후 상위 비트를 섞는다.
+        int hash = Long.hashCode(id) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없이 CAS로 동작하는 token bucket (GCRA)
+ * - 토큰 수 대신 "다음 토큰이 채워질 이론적 시각" 하나만 두고, 그 시각이 지금보다 burst만큼 이상 앞서 있으면 거절한다.
+ * - 초당 rate개씩 채워지고 최대 burst개까지 쌓이는 token bucket과 같은 결과를 낸다.
+ */
+class TokenBucket {
+
+    private final int burst;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    TokenBucket(int rate, int burst) {
+        this.burst = burst;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        // 처음에는 burst만큼 가득 찬 상태로 시작한다.
+        this.theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
+    }
+
+    boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * permits개의 토큰을 한 번에 가져가거나, 모자라면 하나도 가져가지 않는다.
+     * - burst보다 많이 요청하면 가득 찬 bucket에서도 줄 수 없으므로 항상 거절한다.
+     */
+    boolean tryAcquire(int permits) {
+        if (permits > burst) {
+            return false;
+        }
+        long costNanos = costNanos(permits);
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = theoreticalArrivalNanos.get();
+            long base = arrival - now > 0 ? arrival : now;
+            if (base + costNanos - intervalNanos - now > toleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(arrival, base + costNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire(permits)로 가져간 토큰을 되돌린다. (다른 제한에 걸려 요청이 거절된 경우)
+     */
+    void refund(int permits) {
+        theoreticalArrivalNanos.addAndGet(-costNanos(permits));
+    }
+
+    /**
+     * 비어 있던 bucket이 다시 가득 차는 데 걸리는 시간
+     */
+    long refillNanos() {
+        return intervalNanos + toleranceNanos;
+    }
+
+    private long costNanos(int permits) {
+        return intervalNanos * permits;
+    }
+}
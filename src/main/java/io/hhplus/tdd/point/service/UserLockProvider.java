@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.repository.FencedUserPointRepository;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 유저 단위 락 제공자
+ * - point.lock.type 설정으로 구현체를 선택한다. (selective, striped, ref-counted, lease)
+ * - 구현체는 synchronized 대신 ReentrantLock을 사용해, 락을 기다리거나 잡은 채 I/O를 하는 virtual thread가
+ *   carrier thread에 고정(pinning)되지 않도록 한다.
+ */
+public interface UserLockProvider {
+
+    /**
+     * id에 해당하는 락을 잡은 상태에서 task를 실행하고, 실행이 끝나면 락을 해제한다.
+     */
+    <T> T executeWithLock(long id, Supplier<T> task);
+
+    /**
+     * waitTimeout 안에 락을 얻지 못하면 task를 실행하지 않고 PointException(LOCK_WAIT_TIMEOUT)을 던진다.
+     * waitTimeout이 0이면 락을 얻을 때까지 기다린다.
+     * 기본 구현은 대기 시간을 제한하지 않는다.
+     */
+    default <T> T executeWithLock(long id, Duration waitTimeout, Supplier<T> task) {
+        return executeWithLock(id, task);
+    }
+
+    /**
+     * executeWithLock의 task 안에서, 저장 직전에 id의 락을 여전히 잡고 있는지 확인한다.
+     * 락이 만료될 수 있는 구현체(lease)만 확인하며, 잃었으면 PointException을 던진다.
+     * 확인한 순간의 상태만 보므로, 확인 직후 락을 잃는 경우는 저장소가 fencingToken으로 막는다.
+     */
+    default void checkLockHeld(long id) {
+    }
+
+    /**
+     * executeWithLock의 task 안에서, id의 락으로 잡은 lease의 fencing token을 반환한다.
+     * lease가 아닌 락은 FencedUserPointRepository.NO_FENCING_TOKEN을 반환한다.
+     */
+    default long fencingToken(long id) {
+        return FencedUserPointRepository.NO_FENCING_TOKEN;
+    }
+}
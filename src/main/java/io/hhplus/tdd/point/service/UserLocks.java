@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.exception.PointException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ReentrantLock 기반 락 제공자들이 함께 쓰는 락 획득 로직
+ */
+final class UserLocks {
+
+    private UserLocks() {
+    }
+
+    /**
+     * waitTimeout이 0이면 얻을 때까지 기다리고, 아니면 그 시간 안에 얻지 못했을 때 PointException을 던진다.
+     * 락을 기다리는 스레드가 끝없이 쌓이지 않도록, 제한 시간이 지나면 바로 실패시킨다.
+     */
+    static void lock(ReentrantLock lock, Duration waitTimeout) {
+        if (waitTimeout.isZero()) {
+            lock.lock();
+            return;
+        }
+        try {
+            if (!lock.tryLock(waitTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw PointException.LOCK_WAIT_TIMEOUT;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw PointException.LOCK_WAIT_TIMEOUT;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용의 저장 단계 설정
+ * - parallel : true면 잔액 저장과 내역 저장을 동시에 실행한다. (optimistic 모드에서는 순서대로 실행)
+ * - maxConcurrentHistoryWrites : 동시에 별도 스레드에서 실행할 내역 저장 수, 넘으면 호출 스레드에서 순서대로 저장한다.
+ */
+@ConfigurationProperties(prefix = "point.execution.write")
+public record WriteProperties(
+    @DefaultValue("false") boolean parallel,
+    @DefaultValue("64") int maxConcurrentHistoryWrites
+) {
+
+    public WriteProperties {
+        if (maxConcurrentHistoryWrites <= 0) {
+            throw new IllegalArgumentException("maxConcurrentHistoryWrites는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -6,9 +6,38 @@ import org.springframework.stereotype.Component;
 @Component // 추후 추가될 외부 의존성을 고려하여 bean으로 등록
 public class PointValidator {
 
+    public static final int MAX_HISTORY_LIMIT = 1_000;
+    public static final int MAX_BATCH_SIZE = 10_000;
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     public void checkAmount(long amount) {
         if(amount <= 0) {
             throw PointException.INVALID_POINT_AMOUNT;
         }
     }
+
+    public void checkBatchSize(int size) {
+        if(size <= 0 || size > MAX_BATCH_SIZE) {
+            throw PointException.INVALID_BATCH_REQUEST;
+        }
+    }
+
+    /**
+     * Idempotency-Key는 생략할 수 있지만(null), 보냈다면 비어 있지 않고 MAX_IDEMPOTENCY_KEY_LENGTH 이하여야 한다.
+     */
+    public void checkIdempotencyKey(String idempotencyKey) {
+        if(idempotencyKey != null
+            && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw PointException.INVALID_IDEMPOTENCY_KEY;
+        }
+    }
+
+    public void checkHistoryQuery(int limit, Long fromMillis, Long toMillis) {
+        if(limit <= 0 || limit > MAX_HISTORY_LIMIT) {
+            throw PointException.INVALID_HISTORY_QUERY;
+        }
+        if(fromMillis != null && toMillis != null && fromMillis > toMillis) {
+            throw PointException.INVALID_HISTORY_QUERY;
+        }
+    }
 }
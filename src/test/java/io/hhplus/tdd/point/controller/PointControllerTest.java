@@ -0,0 +1,256 @@
+package io.hhplus.tdd.point.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.hhplus.tdd.common.error.ErrorResponse;
+import io.hhplus.tdd.point.dto.PointDto.BatchResult;
+import io.hhplus.tdd.point.dto.PointDto.PointDetail;
+import io.hhplus.tdd.point.dto.PointDto.PointHistoryDetail;
+import io.hhplus.tdd.point.dto.PointDto.PointHistoryPage;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.service.PointService;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(PointController.class)
+class PointControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PointService pointService;
+
+    @DisplayName("포인트 충전/사용 - PATCH /point/{id}/charge, /point/{id}/use 테스트")
+    @Nested
+    class ChargeAndUseTest {
+        @DisplayName("충전 결과 future가 완료되면 충전된 포인트를 응답하고, Idempotency-Key 헤더를 그대로 넘긴다.")
+        @Test
+        void should_RespondChargedPoint_When_FutureCompleted() throws Exception {
+            // given
+            when(pointService.chargeAsync(1L, 100L, "key-1")).thenReturn(
+                CompletableFuture.completedFuture(PointDetail.of(new UserPoint(1L, 100L, 10L))));
+
+            // when
+            MvcResult result = mockMvc.perform(patch("/point/1/charge")
+                    .header("Idempotency-Key", "key-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"amount\":100}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(1))
+                .andExpect(jsonPath("$.data.pointAmount").value(100));
+            verify(pointService).chargeAsync(1L, 100L, "key-1");
+        }
+
+        @DisplayName("Idempotency-Key 헤더가 없으면 key 없이 사용한다.")
+        @Test
+        void should_UseWithoutKey_When_IdempotencyKeyHeaderMissing() throws Exception {
+            // given
+            when(pointService.useAsync(1L, 30L, null)).thenReturn(
+                CompletableFuture.completedFuture(PointDetail.of(new UserPoint(1L, 70L, 10L))));
+
+            // when
+            MvcResult result = mockMvc.perform(patch("/point/1/use")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"amount\":30}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pointAmount").value(70));
+        }
+
+        @DisplayName("사용 결과 future가 PointException으로 실패하면 에러 코드에 맞는 상태로 응답한다.")
+        @Test
+        void should_RespondErrorStatus_When_FutureFailed() throws Exception {
+            // given
+            when(pointService.useAsync(1L, 30L, null)).thenReturn(
+                CompletableFuture.failedFuture(PointException.INSUFFICIENT_POINT_BALANCE));
+
+            // when
+            MvcResult result = mockMvc.perform(patch("/point/1/use")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"amount\":30}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(PointErrorCode.INSUFFICIENT_POINT_BALANCE.getCode()));
+        }
+    }
+
+    @DisplayName("포인트 내역 조회 - GET /point/{id}/histories 테스트")
+    @Nested
+    class HistoryTest {
+        @DisplayName("페이지 조건이 없으면 기존과 같이 전체 내역 목록을 응답한다.")
+        @Test
+        void should_RespondAllHistories_When_NoPagingParams() throws Exception {
+            // given
+            when(pointService.getUserPointHistories(1L)).thenReturn(List.of(
+                PointHistoryDetail.of(history(1L, 1L)), PointHistoryDetail.of(history(2L, 1L))));
+
+            // when, then
+            mockMvc.perform(get("/point/1/histories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[1].id").value(2));
+            verify(pointService, never()).getUserPointHistories(eq(1L), any(), anyInt(), any(), any());
+        }
+
+        @DisplayName("limit 없이 cursor만 주면 100건 단위 페이지로 응답한다.")
+        @Test
+        void should_UseDefaultLimit_When_OnlyCursorGiven() throws Exception {
+            // given
+            when(pointService.getUserPointHistories(1L, 5L, 100, null, null)).thenReturn(
+                PointHistoryPage.of(List.of(history(6L, 1L)), 100));
+
+            // when, then
+            mockMvc.perform(get("/point/1/histories").param("cursor", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.histories[0].id").value(6))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+        }
+
+        @DisplayName("cursor, limit, 기간 조건을 넘기고 다음 페이지 cursor를 함께 응답한다.")
+        @Test
+        void should_RespondPage_When_PagingParamsGiven() throws Exception {
+            // given
+            when(pointService.getUserPointHistories(1L, 5L, 2, 100L, 200L)).thenReturn(PointHistoryPage.of(
+                List.of(history(6L, 1L), history(7L, 1L), history(8L, 1L)), 2));
+
+            // when, then
+            mockMvc.perform(get("/point/1/histories")
+                    .param("cursor", "5")
+                    .param("limit", "2")
+                    .param("from", "100")
+                    .param("to", "200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.histories.length()").value(2))
+                .andExpect(jsonPath("$.data.histories[0].id").value(6))
+                .andExpect(jsonPath("$.data.nextCursor").value(7));
+        }
+    }
+
+    @DisplayName("포인트 내역 내보내기 - GET /point/histories/export 테스트")
+    @Nested
+    class ExportHistoriesTest {
+        @DisplayName("내역을 한 줄에 하나씩 JSON으로 내려주며, 줄 앞에 구분자 공백이 붙지 않는다.")
+        @Test
+        void should_WriteOneJsonPerLine_When_Export() throws Exception {
+            // given
+            doAnswer(invocation -> {
+                Consumer<PointHistoryDetail> consumer = invocation.getArgument(4);
+                consumer.accept(PointHistoryDetail.of(history(1L, 1L)));
+                consumer.accept(PointHistoryDetail.of(history(2L, 2L)));
+                return null;
+            }).when(pointService).exportHistories(eq(Set.of(1L, 2L)), isNull(), isNull(), isNull(), any());
+
+            // when
+            MvcResult result = mockMvc.perform(get("/point/histories/export").param("userIds", "1", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // then
+            String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+            assertThat(body).endsWith("\n");
+            assertThat(body.split("\n"))
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+        }
+
+        @DisplayName("조회 조건이 잘못되면 스트림을 시작하지 않고 400으로 응답한다.")
+        @Test
+        void should_RespondBadRequest_When_QueryInvalid() throws Exception {
+            // given
+            doThrow(PointException.INVALID_HISTORY_QUERY).when(pointService).checkExportQuery(200L, 100L);
+
+            // when, then
+            mockMvc.perform(get("/point/histories/export")
+                    .param("userIds", "1")
+                    .param("from", "200")
+                    .param("to", "100"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(PointErrorCode.INVALID_HISTORY_QUERY.getCode()));
+            verify(pointService, never()).exportHistories(any(), any(), any(), any(), any());
+        }
+    }
+
+    @DisplayName("일괄 처리 - POST /point/batch 테스트")
+    @Nested
+    class BatchTest {
+        @DisplayName("요청 순서대로 건별 성공/실패 결과를 응답한다.")
+        @Test
+        void should_RespondResultPerOperation_When_Batch() throws Exception {
+            // given
+            ErrorResponse error = PointErrorCode.NOT_FOUND_USER_POINT.toErrorResponse();
+            when(pointService.executeBatch(anyList())).thenReturn(List.of(
+                BatchResult.success(0, 1L, PointDetail.of(new UserPoint(1L, 100L, 10L))),
+                BatchResult.failure(1, 2L, error)));
+
+            // when, then
+            mockMvc.perform(post("/point/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"operations\":["
+                        + "{\"userId\":1,\"amount\":100,\"type\":\"CHARGE\"},"
+                        + "{\"userId\":2,\"amount\":50,\"type\":\"USE\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].success").value(true))
+                .andExpect(jsonPath("$.data[0].point.pointAmount").value(100))
+                .andExpect(jsonPath("$.data[1].success").value(false))
+                .andExpect(jsonPath("$.data[1].error.code").value(error.code()));
+            verify(pointService).executeBatch(anyList());
+        }
+    }
+
+    private static PointHistory history(long id, long userId) {
+        return new PointHistory(id, userId, 100L, TransactionType.CHARGE, 10L);
+    }
+}
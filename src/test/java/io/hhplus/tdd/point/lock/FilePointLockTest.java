@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FilePointLockTest {
+
+    @TempDir
+    Path directory;
+
+    private FilePointLock newPointLock() {
+        return new FilePointLock(
+            new LeaseProperties(Duration.ofSeconds(10), Duration.ofMillis(1), directory.toString()));
+    }
+
+    @DisplayName("lease 획득 - acquire() 테스트")
+    @Nested
+    class AcquireTest {
+        @DisplayName("같은 directory를 쓰는 두 인스턴스 사이에서도 같은 유저의 lease는 한 번에 하나만 잡힌다.")
+        @Test
+        void should_ExcludeEachOther_When_InstancesShareDirectory() throws InterruptedException {
+            // given
+            long id = 1L;
+            int requestCount = 100;
+            FilePointLock[] instances = {newPointLock(), newPointLock()};
+            AtomicInteger holding = new AtomicInteger();
+            AtomicInteger maxHolding = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(requestCount);
+
+            // when
+            try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+                for (int i = 0; i < requestCount; ++i) {
+                    FilePointLock pointLock = instances[i % 2];
+                    executorService.submit(() -> {
+                        PointLockLease lease = pointLock.acquire(id, Duration.ofSeconds(10));
+                        try {
+                            maxHolding.accumulateAndGet(holding.incrementAndGet(), Math::max);
+                            holding.decrementAndGet();
+                        } finally {
+                            pointLock.release(lease);
+                            latch.countDown();
+                        }
+                    });
+                }
+            }
+            latch.await();
+
+            // then
+            assertThat(maxHolding.get()).isEqualTo(1);
+        }
+
+        @DisplayName("다시 만든 인스턴스도 이전에 발급된 token보다 큰 token을 발급한다.")
+        @Test
+        void should_IssueLargerToken_When_Reopened() {
+            // given
+            long id = 1L;
+            FilePointLock before = newPointLock();
+            PointLockLease released = before.acquire(id, Duration.ofSeconds(10));
+            before.release(released);
+
+            // when
+            PointLockLease lease = newPointLock().acquire(id, Duration.ofSeconds(10));
+
+            // then
+            assertThat(lease.token()).isGreaterThan(released.token());
+            assertThat(before.isValid(released)).isFalse();
+        }
+
+        @DisplayName("ttl이 지난 다른 인스턴스의 lease를 이어받으면, 이전 lease는 연장할 수 없다.")
+        @Test
+        void should_RejectRenew_When_LeaseTakenOver() {
+            // given
+            long id = 1L;
+            FilePointLock crashed = newPointLock();
+            PointLockLease expired = crashed.acquire(id, Duration.ofMillis(20));
+
+            // when
+            PointLockLease takenOver = newPointLock().acquire(id, Duration.ofSeconds(10));
+
+            // then
+            assertThat(takenOver.token()).isGreaterThan(expired.token());
+            assertThat(crashed.renew(expired, Duration.ofSeconds(10))).isFalse();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.hhplus.tdd.point.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class InProcessPointLockTest {
+
+    private final InProcessPointLock pointLock = new InProcessPointLock();
+
+    @DisplayName("lease 획득 - acquire() 테스트")
+    @Nested
+    class AcquireTest {
+        @DisplayName("같은 유저의 lease는 한 번에 하나만 잡힌다.")
+        @Test
+        void should_ExcludeEachOther_When_ConcurrentAcquire() throws InterruptedException {
+            // given
+            long id = 1L;
+            int requestCount = 200;
+            AtomicInteger holding = new AtomicInteger();
+            AtomicInteger maxHolding = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(requestCount);
+
+            // when
+            try (ExecutorService executorService = Executors.newFixedThreadPool(16)) {
+                for (int i = 0; i < requestCount; ++i) {
+                    executorService.submit(() -> {
+                        PointLockLease lease = pointLock.acquire(id, Duration.ofSeconds(10));
+                        try {
+                            maxHolding.accumulateAndGet(holding.incrementAndGet(), Math::max);
+                            holding.decrementAndGet();
+                        } finally {
+                            pointLock.release(lease);
+                            latch.countDown();
+                        }
+                    });
+                }
+            }
+            latch.await();
+
+            // then
+            assertThat(maxHolding.get()).isEqualTo(1);
+        }
+
+        @DisplayName("반납되지 않은 lease도 ttl이 지나면 더 큰 token으로 이어받고, 이전 lease는 무효가 된다.")
+        @Test
+        void should_TakeOverWithLargerToken_When_LeaseExpired() {
+            // given
+            long id = 1L;
+            PointLockLease expired = pointLock.acquire(id, Duration.ofMillis(50));
+
+            // when
+            PointLockLease takenOver = pointLock.acquire(id, Duration.ofSeconds(10));
+
+            // then
+            assertThat(takenOver.token()).isGreaterThan(expired.token());
+            assertThat(pointLock.isValid(expired)).isFalse();
+            assertThat(pointLock.renew(expired, Duration.ofSeconds(10))).isFalse();
+            assertThat(pointLock.isValid(takenOver)).isTrue();
+        }
+
+        @DisplayName("waitTimeout 안에 lease가 풀리지 않으면 빈 값을 반환하고, 기존 lease는 그대로 유지된다.")
+        @Test
+        void should_ReturnEmpty_When_WaitTimeoutElapsed() {
+            // given
+            long id = 1L;
+            PointLockLease held = pointLock.acquire(id, Duration.ofSeconds(10));
+            long start = System.nanoTime();
+
+            // when
+            Optional<PointLockLease> result =
+                pointLock.tryAcquire(id, Duration.ofSeconds(10), Duration.ofMillis(50));
+
+            // then
+            assertThat(result).isEmpty();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .isGreaterThanOrEqualTo(50L);
+            assertThat(pointLock.isValid(held)).isTrue();
+        }
+    }
+
+    @DisplayName("lease 연장/반납 - renew(), release() 테스트")
+    @Nested
+    class RenewAndReleaseTest {
+        @DisplayName("만료 전에 연장한 lease는 처음 ttl이 지나도 유효하다.")
+        @Test
+        void should_StayValid_When_RenewedBeforeExpiry() throws InterruptedException {
+            // given
+            PointLockLease lease = pointLock.acquire(1L, Duration.ofMillis(100));
+
+            // when
+            Thread.sleep(60);
+            boolean renewed = pointLock.renew(lease, Duration.ofSeconds(10));
+            Thread.sleep(60);
+
+            // then
+            assertThat(renewed).isTrue();
+            assertThat(pointLock.isValid(lease)).isTrue();
+        }
+
+        @DisplayName("이미 넘어간 lease를 반납해도 새 소유자의 lease는 유지된다.")
+        @Test
+        void should_KeepNewLease_When_ReleaseStaleLease() {
+            // given
+            long id = 1L;
+            PointLockLease stale = pointLock.acquire(id, Duration.ofMillis(1));
+            PointLockLease current = pointLock.acquire(id, Duration.ofSeconds(10));
+
+            // when
+            pointLock.release(stale);
+
+            // then
+            assertThat(pointLock.isValid(current)).isTrue();
+        }
+    }
+}
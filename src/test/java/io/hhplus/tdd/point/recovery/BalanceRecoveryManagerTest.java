@@ -0,0 +1,161 @@
+package io.hhplus.tdd.point.recovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.recovery.BalanceConsistencyChecker.ConsistencyReport;
+import io.hhplus.tdd.point.recovery.BalanceConsistencyChecker.Drift;
+import io.hhplus.tdd.point.repository.HistoryWalProperties;
+import io.hhplus.tdd.point.repository.PointHistoryWalRepository;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointProperties;
+import io.hhplus.tdd.point.repository.UserPointInMemoryRepository;
+import io.hhplus.tdd.point.repository.UserPointPrimitiveRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class BalanceRecoveryManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private RecoveryProperties recoveryProperties;
+    private HistoryWalProperties walProperties;
+    private PointHistoryWalRepository pointHistoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        recoveryProperties = new RecoveryProperties(tempDir.resolve("snapshot").toString(),
+            Duration.ofHours(1), 2, 4, Duration.ZERO);
+        walProperties = new HistoryWalProperties(tempDir.resolve("history").toString(),
+            DataSize.ofKilobytes(1), false);
+        pointHistoryRepository = new PointHistoryWalRepository(walProperties);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        pointHistoryRepository.close();
+    }
+
+    private BalanceRecoveryManager manager(UserPointPrimitiveRepository userPointRepository) {
+        return new BalanceRecoveryManager(userPointRepository, pointHistoryRepository,
+            new BalanceSnapshotStore(recoveryProperties), recoveryProperties);
+    }
+
+    private static UserPointPrimitiveRepository emptyUserPointRepository() {
+        return new UserPointPrimitiveRepository(new PrimitiveUserPointProperties(1024));
+    }
+
+    private void charge(long userId, long amount) {
+        pointHistoryRepository.insert(
+            PointHistory.createChargeHistory(userId, amount, System.currentTimeMillis()));
+    }
+
+    private void use(long userId, long amount) {
+        pointHistoryRepository.insert(
+            PointHistory.createUseHistory(userId, amount, System.currentTimeMillis()));
+    }
+
+    @DisplayName("복구 - recover() 테스트")
+    @Nested
+    class RecoverTest {
+        @DisplayName("snapshot이 없으면 모든 내역을 다시 반영해 잔액을 복구한다.")
+        @Test
+        void should_ReplayAllHistories_When_NoSnapshot() {
+            // given
+            charge(1L, 1_000L);
+            use(1L, 300L);
+            charge(2L, 500L);
+            UserPointPrimitiveRepository userPointRepository = emptyUserPointRepository();
+
+            // when
+            int recoveredUsers = manager(userPointRepository).recover();
+
+            // then
+            assertThat(recoveredUsers).isEqualTo(2);
+            assertThat(userPointRepository.selectById(1L).get().point()).isEqualTo(700L);
+            assertThat(userPointRepository.selectById(2L).get().point()).isEqualTo(500L);
+        }
+
+        @DisplayName("snapshot 이후의 내역만 이어서 반영해도 전체를 반영한 것과 같은 잔액이 된다.")
+        @Test
+        void should_ReplayOnlyTail_When_SnapshotExists() throws IOException {
+            // given
+            charge(1L, 1_000L);
+            charge(2L, 500L);
+            BalanceSnapshot snapshot = manager(emptyUserPointRepository()).takeSnapshot();
+
+            use(1L, 400L);
+            charge(3L, 100L);
+
+            // 재시작
+            pointHistoryRepository.close();
+            pointHistoryRepository = new PointHistoryWalRepository(walProperties);
+            UserPointPrimitiveRepository userPointRepository = emptyUserPointRepository();
+
+            // when
+            manager(userPointRepository).recover();
+
+            // then
+            assertThat(snapshot.lastHistoryId()).isEqualTo(2L);
+            assertThat(userPointRepository.selectById(1L).get().point()).isEqualTo(600L);
+            assertThat(userPointRepository.selectById(2L).get().point()).isEqualTo(500L);
+            assertThat(userPointRepository.selectById(3L).get().point()).isEqualTo(100L);
+        }
+
+        @DisplayName("유저마다 UserPointTable에 써야 하는 저장소로는 복구를 시작하지 않는다.")
+        @Test
+        void should_RejectRecovery_When_RepositoryCannotRestore() {
+            // given
+            UserPointInMemoryRepository userPointRepository =
+                new UserPointInMemoryRepository(mock(UserPointTable.class));
+
+            // when, then
+            assertThatThrownBy(() -> new BalanceRecoveryManager(userPointRepository,
+                pointHistoryRepository, new BalanceSnapshotStore(recoveryProperties), recoveryProperties))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @DisplayName("정합성 검사 - BalanceConsistencyChecker.check() 테스트")
+    @Nested
+    class ConsistencyCheckTest {
+        @DisplayName("내역의 합과 다른 잔액을 가진 유저를 차이로 보고한다.")
+        @Test
+        void should_ReportDrift_When_BalanceDiffersFromHistories() {
+            // given
+            for (long userId = 1; userId <= 20; ++userId) {
+                charge(userId, 100L);
+                use(userId, 30L);
+            }
+            UserPointPrimitiveRepository userPointRepository = emptyUserPointRepository();
+            manager(userPointRepository).recover();
+            userPointRepository.insertOrUpdate(new UserPoint(7L, 999L, System.currentTimeMillis()));
+
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            BalanceConsistencyChecker checker = new BalanceConsistencyChecker(
+                userPointRepository, pointHistoryRepository, recoveryProperties, meterRegistry);
+
+            // when
+            ConsistencyReport report = checker.check();
+
+            // then
+            assertThat(report.checkedUsers()).isEqualTo(20);
+            assertThat(report.isConsistent()).isFalse();
+            assertThat(report.drifts()).containsExactly(new Drift(7L, 70L, 999L));
+            assertThat(meterRegistry.get("point.recovery.drift").gauge().value()).isEqualTo(1.0);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.hhplus.tdd.point.recovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hhplus.tdd.point.model.UserPoint;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BalanceSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private BalanceSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new BalanceSnapshotStore(
+            new RecoveryProperties(tempDir.toString(), Duration.ofHours(1), 2, 1, Duration.ZERO));
+    }
+
+    private static BalanceSnapshot snapshot(long lastHistoryId, long point) {
+        return new BalanceSnapshot(lastHistoryId, Map.of(1L, new UserPoint(1L, point, 1L)));
+    }
+
+    @DisplayName("저장/조회 - save(), loadLatest() 테스트")
+    @Nested
+    class SaveAndLoadTest {
+        @DisplayName("가장 최근에 저장한 snapshot을 읽고, 보관 개수를 넘는 오래된 파일은 지운다.")
+        @Test
+        void should_LoadLatestAndPruneOld_When_SavedMany() throws IOException {
+            // given
+            store.save(snapshot(10L, 100L));
+            store.save(snapshot(20L, 200L));
+            store.save(snapshot(30L, 300L));
+
+            // when
+            Optional<BalanceSnapshot> result = store.loadLatest();
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().lastHistoryId()).isEqualTo(30L);
+            assertThat(result.get().balances().get(1L).point()).isEqualTo(300L);
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertThat(files.count()).isEqualTo(2);
+            }
+        }
+
+        @DisplayName("가장 최근 snapshot이 깨져 있으면 그 이전 snapshot을 읽는다.")
+        @Test
+        void should_FallBackToPrevious_When_LatestIsCorrupted() throws IOException {
+            // given
+            store.save(snapshot(10L, 100L));
+            store.save(snapshot(20L, 200L));
+            Path latest;
+            try (Stream<Path> files = Files.list(tempDir)) {
+                latest = files.sorted().reduce((first, second) -> second).orElseThrow();
+            }
+            Files.write(latest, new byte[] {0}, StandardOpenOption.APPEND);
+
+            // when
+            Optional<BalanceSnapshot> result = store.loadLatest();
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().lastHistoryId()).isEqualTo(10L);
+        }
+
+        @DisplayName("이름 바꾸기에 실패하면 예외를 던지고 임시 파일을 남기지 않는다.")
+        @Test
+        void should_DeleteTempFile_When_MoveFailed() throws IOException {
+            // given
+            store.save(snapshot(10L, 100L));
+            // 같은 이름의 비어 있지 않은 디렉터리가 있으면 임시 파일로 바꿀 수 없다.
+            Path occupied = tempDir.resolve(String.format("snapshot-%020d.bin", 20L));
+            Files.createDirectories(occupied.resolve("occupied"));
+
+            // when, then
+            assertThatThrownBy(() -> store.save(snapshot(20L, 200L)))
+                .isInstanceOf(UncheckedIOException.class);
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertThat(files.map(path -> path.getFileName().toString()))
+                    .noneMatch(name -> name.endsWith(".tmp"));
+            }
+        }
+    }
+}
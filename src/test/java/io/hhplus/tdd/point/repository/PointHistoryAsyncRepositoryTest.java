@@ -0,0 +1,210 @@
+package io.hhplus.tdd.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PointHistoryAsyncRepositoryTest {
+
+    private PointHistoryTable pointHistoryTable;
+    private PointHistoryAsyncRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryTable = new PointHistoryTable();
+        repository = new PointHistoryAsyncRepository(pointHistoryTable, new PointHistoryIndex(),
+            new AsyncHistoryProperties(100, 1, 10));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        repository.shutdown();
+    }
+
+    @DisplayName("비동기 저장 - insert() 테스트")
+    @Nested
+    class InsertTest {
+        @DisplayName("awaitFlushed() 이후에는 insert한 내역이 모두 저장되어 있다.")
+        @Test
+        void should_SaveAllHistories_When_AwaitFlushed() throws InterruptedException {
+            // given
+            long userId = 1L;
+            int insertCount = 5;
+            for (int i = 1; i <= insertCount; ++i) {
+                repository.insert(PointHistory.createChargeHistory(userId, i * 100L,
+                    System.currentTimeMillis()));
+            }
+
+            // when
+            boolean flushed = repository.awaitFlushed(Duration.ofSeconds(10));
+
+            // then
+            assertThat(flushed).isTrue();
+            assertThat(repository.pendingCount()).isZero();
+
+            List<PointHistory> histories = repository.selectAllByUserId(userId);
+            assertThat(histories)
+                .hasSize(insertCount)
+                .extracting(PointHistory::amount)
+                .containsExactly(100L, 200L, 300L, 400L, 500L); // 같은 유저의 저장 순서 유지
+            assertThat(histories)
+                .extracting(PointHistory::type)
+                .containsOnly(TransactionType.CHARGE);
+        }
+
+        @DisplayName("내역이 조회 가능해진 뒤에 저장 listener에 유저 id를 알린다.")
+        @Test
+        void should_NotifyListener_When_HistoryBecomesReadable() throws InterruptedException {
+            // given
+            List<Integer> readableCounts = new CopyOnWriteArrayList<>();
+            repository.addStoredListener(
+                userId -> readableCounts.add(repository.selectAllByUserId(userId).size()));
+
+            // when
+            repository.insert(PointHistory.createChargeHistory(1L, 100L, System.currentTimeMillis()));
+            repository.insert(PointHistory.createChargeHistory(1L, 200L, System.currentTimeMillis()));
+            repository.awaitFlushed(Duration.ofSeconds(10));
+
+            // then
+            assertThat(readableCounts).containsExactly(1, 2);
+        }
+
+        @DisplayName("저장에 실패한 내역은 버리지 않고 다시 시도해 저장한다.")
+        @Test
+        void should_RetryWrite_When_InsertFailed() throws InterruptedException {
+            // given
+            PointHistoryTable failingTable = mock(PointHistoryTable.class);
+            PointHistory saved = new PointHistory(1L, 1L, 100L, TransactionType.CHARGE,
+                System.currentTimeMillis());
+            when(failingTable.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenThrow(new IllegalStateException())
+                .thenReturn(saved);
+            PointHistoryAsyncRepository retryingRepository = new PointHistoryAsyncRepository(
+                failingTable, new PointHistoryIndex(), new AsyncHistoryProperties(100, 1, 10));
+
+            try {
+                // when
+                retryingRepository.insert(PointHistory.createChargeHistory(1L, 100L,
+                    saved.updateMillis()));
+                boolean flushed = retryingRepository.awaitFlushed(Duration.ofSeconds(10));
+
+                // then
+                assertThat(flushed).isTrue();
+                assertThat(retryingRepository.failedCount()).isEqualTo(1L);
+                assertThat(retryingRepository.selectAllByUserId(1L)).containsExactly(saved);
+            } finally {
+                retryingRepository.shutdown();
+            }
+        }
+
+        @DisplayName("worker가 여러 개여도 PointHistoryTable에 내역이 빠짐없이 서로 다른 id로 저장된다.")
+        @Test
+        void should_SaveWithoutLoss_When_MultipleWorkersWriteTable() throws InterruptedException {
+            // given
+            PointHistoryAsyncRepository multiWorkerRepository = new PointHistoryAsyncRepository(
+                pointHistoryTable, new PointHistoryIndex(), new AsyncHistoryProperties(100, 4, 10));
+            List<Long> userIds = List.of(1L, 2L, 3L, 4L);
+            int insertCountPerUser = 3;
+
+            try {
+                // when
+                for (int i = 1; i <= insertCountPerUser; ++i) {
+                    for (long userId : userIds) {
+                        multiWorkerRepository.insert(PointHistory.createChargeHistory(userId, i * 100L,
+                            System.currentTimeMillis()));
+                    }
+                }
+                boolean flushed = multiWorkerRepository.awaitFlushed(Duration.ofSeconds(30));
+
+                // then
+                assertThat(flushed).isTrue();
+                List<PointHistory> stored = userIds.stream()
+                    .flatMap(userId -> pointHistoryTable.selectAllByUserId(userId).stream())
+                    .toList();
+                assertThat(stored).hasSize(userIds.size() * insertCountPerUser);
+                assertThat(stored).extracting(PointHistory::id).doesNotHaveDuplicates();
+                for (long userId : userIds) {
+                    assertThat(multiWorkerRepository.selectAllByUserId(userId))
+                        .extracting(PointHistory::amount)
+                        .containsExactly(100L, 200L, 300L);
+                }
+            } finally {
+                multiWorkerRepository.shutdown();
+            }
+        }
+
+        @DisplayName("awaitFlushed()는 다른 worker의 내역이 끝나도 호출 시점까지의 내역이 남아 있으면 기다린다.")
+        @Test
+        void should_WaitForOwnEntries_When_OtherWorkerCompletes() throws InterruptedException {
+            // given
+            CountDownLatch release = new CountDownLatch(1);
+            PointHistoryTable blockingTable = mock(PointHistoryTable.class);
+            when(blockingTable.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenAnswer(invocation -> {
+                    long userId = invocation.getArgument(0);
+                    if (userId == 1L) {
+                        release.await();
+                    }
+                    return new PointHistory(userId, userId, invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3));
+                });
+            // userId 1, 2는 서로 다른 worker로 나뉜다.
+            PointHistoryAsyncRepository twoWorkerRepository = new PointHistoryAsyncRepository(
+                blockingTable, new PointHistoryIndex(), new AsyncHistoryProperties(100, 2, 10));
+
+            try {
+                twoWorkerRepository.insert(PointHistory.createChargeHistory(1L, 100L,
+                    System.currentTimeMillis()));
+                CompletableFuture<Boolean> flushed = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return twoWorkerRepository.awaitFlushed(Duration.ofMillis(500));
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+
+                // when
+                twoWorkerRepository.insert(PointHistory.createChargeHistory(2L, 100L,
+                    System.currentTimeMillis()));
+
+                // then
+                assertThat(flushed.join()).isFalse();
+                release.countDown();
+                assertThat(twoWorkerRepository.awaitFlushed(Duration.ofSeconds(10))).isTrue();
+            } finally {
+                release.countDown();
+                twoWorkerRepository.shutdown();
+            }
+        }
+
+        @DisplayName("insert는 저장 전 내역을 그대로 반환하므로 id가 0이다.")
+        @Test
+        void should_ReturnUnsavedHistory_When_Insert() {
+            // given
+            PointHistory pointHistory =
+                PointHistory.createUseHistory(1L, 100L, System.currentTimeMillis());
+
+            // when
+            PointHistory result = repository.insert(pointHistory);
+
+            // then
+            assertThat(result.id()).isZero();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PointHistoryIndexTest {
+
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+
+    @DisplayName("유저별 조회 - findAllByUserId() 테스트")
+    @Nested
+    class FindAllByUserIdTest {
+        @DisplayName("해당 유저의 내역만 id 오름차순으로 반환한다.")
+        @Test
+        void should_ReturnOnlyUserHistoriesSortedById_When_Found() {
+            // given
+            long userId = 1L;
+            long otherUserId = 2L;
+            pointHistoryIndex.add(history(3L, userId));
+            pointHistoryIndex.add(history(1L, userId));
+            pointHistoryIndex.add(history(2L, otherUserId));
+            pointHistoryIndex.add(history(4L, userId));
+
+            // when
+            List<PointHistory> results = pointHistoryIndex.findAllByUserId(userId);
+
+            // then
+            assertThat(results)
+                .extracting(PointHistory::id)
+                .containsExactly(1L, 3L, 4L);
+        }
+
+        @DisplayName("내역이 없는 유저는 빈 리스트를 반환한다.")
+        @Test
+        void should_ReturnEmptyList_When_NotFound() {
+            // when
+            List<PointHistory> results = pointHistoryIndex.findAllByUserId(-1L);
+
+            // then
+            assertThat(results).isEmpty();
+        }
+    }
+
+    @DisplayName("조건 조회 - findByUserId() 테스트")
+    @Nested
+    class FindByUserIdTest {
+        @DisplayName("cursor 이후의 내역을 limit 건까지만 반환한다.")
+        @Test
+        void should_ReturnHistoriesAfterCursor_When_CursorGiven() {
+            // given
+            long userId = 1L;
+            for (long id = 1L; id <= 10L; ++id) {
+                pointHistoryIndex.add(history(id, userId));
+            }
+
+            // when
+            List<PointHistory> results = pointHistoryIndex.findByUserId(userId,
+                new PointHistoryQuery(4L, null, null, 3));
+
+            // then
+            assertThat(results)
+                .extracting(PointHistory::id)
+                .containsExactly(5L, 6L, 7L);
+        }
+
+        @DisplayName("updateMillis 범위에 포함되는 내역만 반환한다.")
+        @Test
+        void should_ReturnHistoriesInRange_When_RangeGiven() {
+            // given
+            long userId = 1L;
+            for (long id = 1L; id <= 5L; ++id) {
+                pointHistoryIndex.add(new PointHistory(id, userId, 100L, TransactionType.CHARGE,
+                    id * 1_000L));
+            }
+
+            // when
+            List<PointHistory> results = pointHistoryIndex.findByUserId(userId,
+                new PointHistoryQuery(null, 2_000L, 4_000L, 10));
+
+            // then
+            assertThat(results)
+                .extracting(PointHistory::id)
+                .containsExactly(2L, 3L, 4L);
+        }
+    }
+
+    private PointHistory history(long id, long userId) {
+        return new PointHistory(id, userId, 100L, TransactionType.CHARGE,
+            System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,194 @@
+package io.hhplus.tdd.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class PointHistoryWalRepositoryTest {
+
+    private static final int RECORDS_PER_SEGMENT = 10;
+
+    @TempDir
+    Path tempDir;
+
+    private HistoryWalProperties properties;
+    private PointHistoryWalRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HistoryWalProperties(tempDir.toString(),
+            DataSize.ofBytes((long) PointHistoryWalRepository.RECORD_SIZE * RECORDS_PER_SEGMENT),
+            true);
+        repository = new PointHistoryWalRepository(properties);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+    }
+
+    private void insertCharges(long userId, int count) {
+        for (int i = 1; i <= count; ++i) {
+            repository.insert(PointHistory.createChargeHistory(userId, i * 100L, 1_000L + i));
+        }
+    }
+
+    @DisplayName("기록 - insert() 테스트")
+    @Nested
+    class InsertTest {
+        @DisplayName("insert한 내역에는 1부터 순서대로 id가 부여된다.")
+        @Test
+        void should_AssignSequentialId_When_Insert() {
+            // when
+            PointHistory first = repository.insert(PointHistory.createChargeHistory(1L, 100L, 1L));
+            PointHistory second = repository.insert(PointHistory.createUseHistory(2L, 50L, 2L));
+
+            // then
+            assertThat(first.id()).isEqualTo(1L);
+            assertThat(second.id()).isEqualTo(2L);
+            assertThat(second.type()).isEqualTo(TransactionType.USE);
+        }
+
+        @DisplayName("segment 크기를 넘으면 새 segment 파일로 넘어간다.")
+        @Test
+        void should_RollSegment_When_SegmentIsFull() {
+            // when
+            insertCharges(1L, RECORDS_PER_SEGMENT * 2 + 1);
+
+            // then
+            assertThat(repository.segmentCount()).isEqualTo(3);
+            assertThat(repository.selectAllByUserId(1L))
+                .extracting(PointHistory::id)
+                .containsExactlyElementsOf(
+                    LongStream.rangeClosed(1, RECORDS_PER_SEGMENT * 2 + 1).boxed().toList());
+        }
+    }
+
+    @DisplayName("조회 - selectByUserId() 테스트")
+    @Nested
+    class SelectByUserIdTest {
+        @DisplayName("cursor 이후의 해당 유저 내역을 limit 건까지 조회한다.")
+        @Test
+        void should_ReturnHistoriesAfterCursor_When_Select() {
+            // given
+            insertCharges(1L, 5);
+            insertCharges(2L, 5);
+
+            // when
+            List<PointHistory> result =
+                repository.selectByUserId(1L, new PointHistoryQuery(2L, null, null, 2));
+
+            // then
+            assertThat(result)
+                .extracting(PointHistory::id)
+                .containsExactly(3L, 4L);
+        }
+    }
+
+    @DisplayName("구간 조회 - forEachBetween() 테스트")
+    @Nested
+    class ForEachBetweenTest {
+        @DisplayName("segment 경계를 넘어 (afterId, toId] 구간의 내역을 id 순서대로 전달한다.")
+        @Test
+        void should_VisitHistoriesInRange_When_SpanningSegments() {
+            // given
+            insertCharges(1L, 25);
+            List<Long> visited = new ArrayList<>();
+
+            // when
+            repository.forEachBetween(8L, 22L, pointHistory -> visited.add(pointHistory.id()));
+
+            // then
+            assertThat(repository.lastHistoryId()).isEqualTo(25L);
+            assertThat(visited)
+                .containsExactlyElementsOf(LongStream.rangeClosed(9L, 22L).boxed().toList());
+        }
+    }
+
+    @DisplayName("복구 테스트")
+    @Nested
+    class RecoveryTest {
+        @DisplayName("다시 열면 segment를 읽어 id cursor와 유저별 인덱스를 복구한다.")
+        @Test
+        void should_RecoverIndexAndCursor_When_Reopen() throws IOException {
+            // given
+            insertCharges(1L, 12);
+            insertCharges(2L, 3);
+            repository.close();
+
+            // when
+            repository = new PointHistoryWalRepository(properties);
+            PointHistory next = repository.insert(PointHistory.createUseHistory(1L, 10L, 1L));
+
+            // then
+            assertThat(next.id()).isEqualTo(16L);
+            assertThat(repository.selectAllByUserId(1L)).hasSize(13);
+            assertThat(repository.selectAllByUserId(2L))
+                .extracting(PointHistory::amount)
+                .containsExactly(100L, 200L, 300L);
+        }
+
+        @DisplayName("마지막 segment 끝에 불완전한 레코드가 있으면 잘라내고 이어서 기록한다.")
+        @Test
+        void should_TruncateTornRecord_When_ReopenAfterCrash() throws IOException {
+            // given
+            insertCharges(1L, 3);
+            repository.close();
+            Path lastSegment;
+            try (Stream<Path> files = Files.list(tempDir)) {
+                lastSegment = files.sorted().reduce((first, second) -> second).orElseThrow();
+            }
+            Files.write(lastSegment, new byte[] {1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+            // when
+            repository = new PointHistoryWalRepository(properties);
+            PointHistory next = repository.insert(PointHistory.createChargeHistory(1L, 400L, 1L));
+
+            // then
+            assertThat(next.id()).isEqualTo(4L);
+            assertThat(repository.selectAllByUserId(1L))
+                .extracting(PointHistory::amount)
+                .containsExactly(100L, 200L, 300L, 400L);
+        }
+
+        @DisplayName("깨진 레코드 뒤에 온전한 레코드가 이어지면 잘라내지 않고 기동에 실패한다.")
+        @Test
+        void should_FailRecovery_When_CorruptRecordFollowedByValidRecords() throws IOException {
+            // given
+            insertCharges(1L, 3);
+            repository.close();
+            Path lastSegment;
+            try (Stream<Path> files = Files.list(tempDir)) {
+                lastSegment = files.sorted().reduce((first, second) -> second).orElseThrow();
+            }
+            try (FileChannel channel = FileChannel.open(lastSegment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[] {9, 9, 9, 9}), 8);
+            }
+
+            // when, then
+            assertThatThrownBy(() -> new PointHistoryWalRepository(properties))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(Files.size(lastSegment))
+                .isEqualTo(3L * PointHistoryWalRepository.RECORD_SIZE);
+        }
+    }
+}
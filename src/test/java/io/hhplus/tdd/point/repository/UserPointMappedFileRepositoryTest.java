@@ -0,0 +1,234 @@
+package io.hhplus.tdd.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.model.UserPoint;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UserPointMappedFileRepositoryTest {
+
+    private static final long MAX_AMOUNT = 100_000L;
+    private static final int CAPACITY = 64;
+
+    @TempDir
+    Path tempDir;
+
+    private MappedFileProperties properties;
+    private UserPointMappedFileRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MappedFileProperties(tempDir.resolve("user-point.dat").toString(), CAPACITY);
+        repository = new UserPointMappedFileRepository(properties);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+    }
+
+    @DisplayName("조회/저장 - selectById(), insertOrUpdate() 테스트")
+    @Nested
+    class SelectAndSaveTest {
+        @DisplayName("저장한 적 없는 유저는 조회되지 않는다.")
+        @Test
+        void should_ReturnEmpty_When_NotSaved() {
+            // when
+            Optional<UserPoint> result = repository.selectById(1L);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @DisplayName("저장한 값은 다시 열어도 그대로 조회된다.")
+        @Test
+        void should_KeepUserPoint_When_Reopen() throws IOException {
+            // given
+            UserPoint saved = repository.insertOrUpdate(
+                new UserPoint(1L, 300L, System.currentTimeMillis()));
+            repository.close();
+
+            // when
+            repository = new UserPointMappedFileRepository(properties);
+
+            // then
+            assertThat(repository.selectById(1L)).contains(saved);
+        }
+
+        @DisplayName("정상 종료되지 않은 파일도 마지막으로 저장한 값으로 다시 열린다.")
+        @Test
+        void should_KeepUserPoint_When_ReopenWithoutClose() throws IOException {
+            // given
+            repository.insertOrUpdate(new UserPoint(1L, 300L, System.currentTimeMillis()));
+            UserPoint saved = repository.chargeAtomically(1L, 200L, MAX_AMOUNT);
+
+            // when
+            UserPointMappedFileRepository reopened = new UserPointMappedFileRepository(properties);
+
+            // then
+            assertThat(reopened.selectById(1L)).contains(saved);
+            reopened.close();
+        }
+
+        @DisplayName("capacity를 넘는 유저는 다시 연 뒤에도 저장할 수 없다.")
+        @Test
+        void should_ThrowIllegalStateException_When_CapacityExceededAfterReopen() throws IOException {
+            // given
+            for (long id = 1; id <= CAPACITY; ++id) {
+                repository.insertOrUpdate(new UserPoint(id, 1L, System.currentTimeMillis()));
+            }
+            repository.close();
+            repository = new UserPointMappedFileRepository(properties);
+
+            // when, then
+            assertThatThrownBy(() -> repository.insertOrUpdate(
+                new UserPoint(CAPACITY + 1L, 1L, System.currentTimeMillis())))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(repository.selectById(CAPACITY)).isPresent();
+        }
+
+        @DisplayName("파일의 capacity와 설정값이 다르면 IllegalStateException이 발생한다.")
+        @Test
+        void should_ThrowIllegalStateException_When_CapacityMismatch() {
+            // given
+            MappedFileProperties otherCapacity =
+                new MappedFileProperties(properties.path(), CAPACITY * 2);
+
+            // when, then
+            assertThatThrownBy(() -> new UserPointMappedFileRepository(otherCapacity))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @DisplayName("원자적 충전/사용 - chargeAtomically(), useAtomically() 테스트")
+    @Nested
+    class AtomicUpdateTest {
+        @DisplayName("잔액보다 많이 사용하면 INSUFFICIENT_POINT_BALANCE 예외가 발생하고 잔액은 그대로다.")
+        @Test
+        void should_ThrowInsufficientPointBalance_When_UseOverBalance() {
+            // given
+            repository.chargeAtomically(1L, 100L, MAX_AMOUNT);
+
+            // when, then
+            assertThatThrownBy(() -> repository.useAtomically(1L, 101L))
+                .isInstanceOf(PointException.class)
+                .hasMessage(PointErrorCode.INSUFFICIENT_POINT_BALANCE.getMessage());
+            assertThat(repository.selectById(1L).get().point()).isEqualTo(100L);
+        }
+
+        @DisplayName("처음 충전하는 유저의 충전이 한도를 넘어 거절되면 슬롯을 차지하지 않는다.")
+        @Test
+        void should_NotClaimSlot_When_FirstChargeRejected() {
+            // given
+            for (long id = 1; id < CAPACITY; ++id) {
+                repository.chargeAtomically(id, 1L, MAX_AMOUNT);
+            }
+
+            // when
+            for (long id = 1_000; id < 1_100; ++id) {
+                long rejectedId = id;
+                assertThatThrownBy(() ->
+                    repository.chargeAtomically(rejectedId, MAX_AMOUNT + 1, MAX_AMOUNT))
+                    .isInstanceOf(PointException.class)
+                    .hasMessage(PointErrorCode.EXCEED_POINT_BALANCE.getMessage());
+            }
+
+            // then
+            assertThat(repository.chargeAtomically(CAPACITY, 1L, MAX_AMOUNT).point()).isEqualTo(1L);
+            assertThat(repository.selectById(1_000L)).isEmpty();
+        }
+
+        @DisplayName("더 큰 fencing token으로 쓴 유저에 작은 token으로 쓰면 LOCK_LEASE_EXPIRED 예외가 발생하고 잔액은 그대로다.")
+        @Test
+        void should_ThrowLockLeaseExpired_When_FencingTokenStale() throws IOException {
+            // given : token 1의 lease를 잃은 뒤 token 2의 소유자가 먼저 쓰고, 파일을 다시 열어도 token이 남는다.
+            repository.chargeAtomically(1L, 100L, MAX_AMOUNT, 1L);
+            repository.chargeAtomically(1L, 100L, MAX_AMOUNT, 2L);
+            repository.close();
+            repository = new UserPointMappedFileRepository(properties);
+
+            // when, then
+            assertThatThrownBy(() -> repository.useAtomically(1L, 50L, 1L))
+                .isInstanceOf(PointException.class)
+                .hasMessage(PointErrorCode.LOCK_LEASE_EXPIRED.getMessage());
+            assertThatThrownBy(() -> repository.chargeAtomically(1L, 50L, MAX_AMOUNT, 1L))
+                .isInstanceOf(PointException.class)
+                .hasMessage(PointErrorCode.LOCK_LEASE_EXPIRED.getMessage());
+            assertThat(repository.selectById(1L).get().point()).isEqualTo(200L);
+            assertThat(repository.useAtomically(1L, 50L, 2L).point()).isEqualTo(150L);
+        }
+
+        @DisplayName("여러 스레드가 동시에 충전/사용해도 모든 변경이 반영된다.")
+        @Test
+        void should_ApplyAllUpdates_When_ConcurrentChargeAndUse() throws InterruptedException {
+            // given
+            long id = 1L;
+            int requestCount = 1_000;
+            repository.chargeAtomically(id, 10_000L, MAX_AMOUNT);
+            CountDownLatch latch = new CountDownLatch(requestCount * 2);
+
+            // when
+            try (ExecutorService executorService = Executors.newFixedThreadPool(16)) {
+                for (int i = 0; i < requestCount; ++i) {
+                    executorService.submit(() -> {
+                        try {
+                            repository.chargeAtomically(id, 7L, MAX_AMOUNT);
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+                    executorService.submit(() -> {
+                        try {
+                            repository.useAtomically(id, 5L);
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+                }
+                latch.await(30, TimeUnit.SECONDS);
+            }
+
+            // then
+            assertThat(repository.selectById(id).get().point())
+                .isEqualTo(10_000L + requestCount * 2L);
+        }
+    }
+
+    @DisplayName("조건부 저장 - compareAndSet() 테스트")
+    @Nested
+    class CompareAndSetTest {
+        @DisplayName("기대값이 있는데 저장된 적 없는 유저면 슬롯을 차지하지 않고 실패한다.")
+        @Test
+        void should_NotClaimSlot_When_ExpectedUserNotExist() {
+            // given
+            for (long id = 1; id < CAPACITY; ++id) {
+                repository.insertOrUpdate(new UserPoint(id, 1L, System.currentTimeMillis()));
+            }
+            UserPoint expected = new UserPoint(1_000L, 100L, System.currentTimeMillis());
+
+            // when
+            Optional<UserPoint> result = repository.compareAndSet(expected,
+                new UserPoint(1_000L, 200L, System.currentTimeMillis()));
+
+            // then
+            assertThat(result).isEmpty();
+            assertThat(repository.compareAndSet(null,
+                new UserPoint(CAPACITY, 1L, System.currentTimeMillis()))).isPresent();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package io.hhplus.tdd.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.model.UserPoint;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class UserPointPrimitiveRepositoryTest {
+
+    private static final long MAX_AMOUNT = 100_000L;
+
+    private UserPointPrimitiveRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new UserPointPrimitiveRepository(new PrimitiveUserPointProperties(16));
+    }
+
+    @DisplayName("조회/저장 - selectById(), insertOrUpdate() 테스트")
+    @Nested
+    class SelectAndSaveTest {
+        @DisplayName("저장한 적 없는 유저는 조회되지 않는다.")
+        @Test
+        void should_ReturnEmpty_When_NotSaved() {
+            // when
+            Optional<UserPoint> result = repository.selectById(1L);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @DisplayName("저장한 포인트와 변경 시각이 그대로 조회된다.")
+        @Test
+        void should_ReturnSavedUserPoint_When_Saved() {
+            // given
+            UserPoint saved = repository.insertOrUpdate(
+                new UserPoint(1L, 300L, System.currentTimeMillis()));
+
+            // when
+            Optional<UserPoint> result = repository.selectById(1L);
+
+            // then
+            assertThat(result).contains(saved);
+            assertThat(saved.point()).isEqualTo(300L);
+        }
+
+        @DisplayName("capacity를 넘는 유저를 저장하면 IllegalStateException이 발생한다.")
+        @Test
+        void should_ThrowIllegalStateException_When_CapacityExceeded() {
+            // given
+            for (long id = 1; id <= 16; ++id) {
+                repository.insertOrUpdate(new UserPoint(id, 1L, System.currentTimeMillis()));
+            }
+
+            // when, then
+            assertThatThrownBy(() ->
+                repository.insertOrUpdate(new UserPoint(17L, 1L, System.currentTimeMillis())))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(repository.selectById(16L)).isPresent();
+        }
+    }
+
+    @DisplayName("원자적 충전/사용 - chargeAtomically(), useAtomically() 테스트")
+    @Nested
+    class AtomicUpdateTest {
+        @DisplayName("충전 후 잔액이 최대 금액을 넘으면 EXCEED_POINT_BALANCE 예외가 발생하고 잔액은 그대로다.")
+        @Test
+        void should_ThrowExceedPointBalance_When_ChargeOverMax() {
+            // given
+            repository.chargeAtomically(1L, MAX_AMOUNT - 10L, MAX_AMOUNT);
+
+            // when, then
+            assertThatThrownBy(() -> repository.chargeAtomically(1L, 11L, MAX_AMOUNT))
+                .isInstanceOf(PointException.class)
+                .hasMessage(PointErrorCode.EXCEED_POINT_BALANCE.getMessage());
+            assertThat(repository.selectById(1L).get().point()).isEqualTo(MAX_AMOUNT - 10L);
+        }
+
+        @DisplayName("처음 충전하는 유저의 충전이 한도를 넘어 거절되면 슬롯을 차지하지 않는다.")
+        @Test
+        void should_NotClaimSlot_When_FirstChargeRejected() {
+            // given
+            for (long id = 1; id <= 15; ++id) {
+                repository.chargeAtomically(id, 1L, MAX_AMOUNT);
+            }
+
+            // when
+            for (long id = 100; id < 200; ++id) {
+                long rejectedId = id;
+                assertThatThrownBy(() ->
+                    repository.chargeAtomically(rejectedId, MAX_AMOUNT + 1, MAX_AMOUNT))
+                    .isInstanceOf(PointException.class)
+                    .hasMessage(PointErrorCode.EXCEED_POINT_BALANCE.getMessage());
+            }
+
+            // then
+            assertThat(repository.chargeAtomically(16L, 1L, MAX_AMOUNT).point()).isEqualTo(1L);
+            assertThat(repository.selectById(100L)).isEmpty();
+        }
+
+        @DisplayName("잔액보다 많이 사용하면 INSUFFICIENT_POINT_BALANCE 예외가 발생한다.")
+        @Test
+        void should_ThrowInsufficientPointBalance_When_UseOverBalance() {
+            // given
+            repository.chargeAtomically(1L, 100L, MAX_AMOUNT);
+
+            // when, then
+            assertThatThrownBy(() -> repository.useAtomically(1L, 101L))
+                .isInstanceOf(PointException.class)
+                .hasMessage(PointErrorCode.INSUFFICIENT_POINT_BALANCE.getMessage());
+        }
+
+        @DisplayName("저장된 적 없는 유저의 포인트를 사용하면 NOT_FOUND_USER_POINT 예외가 발생한다.")
+        @Test
+        void should_ThrowNotFound_When_UseNotExistUser() {
+            // when, then
+            assertThatThrownBy(() -> repository.useAtomically(1L, 1L))
+                .isInstanceOf(PointException.class)
+                .hasMessage(PointErrorCode.NOT_FOUND_USER_POINT.getMessage());
+        }
+
+        @DisplayName("여러 스레드가 동시에 충전/사용해도 모든 변경이 반영된다.")
+        @Test
+        void should_ApplyAllUpdates_When_ConcurrentChargeAndUse() throws InterruptedException {
+            // given
+            long id = 1L;
+            int requestCount = 1_000;
+            repository.chargeAtomically(id, 10_000L, MAX_AMOUNT);
+            CountDownLatch latch = new CountDownLatch(requestCount * 2);
+
+            // when
+            try (ExecutorService executorService = Executors.newFixedThreadPool(16)) {
+                for (int i = 0; i < requestCount; ++i) {
+                    executorService.submit(() -> {
+                        try {
+                            repository.chargeAtomically(id, 7L, MAX_AMOUNT);
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+                    executorService.submit(() -> {
+                        try {
+                            repository.useAtomically(id, 5L);
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+                }
+                latch.await(30, TimeUnit.SECONDS);
+            }
+
+            // then
+            assertThat(repository.selectById(id).get().point())
+                .isEqualTo(10_000L + requestCount * 2L);
+        }
+    }
+
+    @DisplayName("조건부 저장 - compareAndSet() 테스트")
+    @Nested
+    class CompareAndSetTest {
+        @DisplayName("그 사이 다른 변경이 먼저 반영되었다면 저장하지 않는다.")
+        @Test
+        void should_ReturnEmpty_When_ChangedByOther() {
+            // given
+            UserPoint stale = repository.insertOrUpdate(
+                new UserPoint(1L, 100L, System.currentTimeMillis()));
+            repository.chargeAtomically(1L, 50L, MAX_AMOUNT);
+
+            // when
+            Optional<UserPoint> result = repository.compareAndSet(stale,
+                new UserPoint(1L, 500L, System.currentTimeMillis()));
+
+            // then
+            assertThat(result).isEmpty();
+            assertThat(repository.selectById(1L).get().point()).isEqualTo(150L);
+        }
+    }
+}
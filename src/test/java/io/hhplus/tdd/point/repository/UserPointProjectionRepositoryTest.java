@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.UserPoint;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class UserPointProjectionRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("내역 저장 - appendHistory() 테스트")
+    @Nested
+    class AppendHistoryTest {
+        @DisplayName("내역을 저장하면 그 내역을 반영한 잔액이 바로 조회된다.")
+        @Test
+        void should_UpdateProjection_When_HistoryAppended() {
+            // given
+            long id = 1L;
+            PointHistoryRepository pointHistoryRepository = mock(PointHistoryRepository.class);
+            UserPointProjectionRepository repository =
+                new UserPointProjectionRepository(pointHistoryRepository);
+
+            // when
+            repository.appendHistory(PointHistory.createChargeHistory(id, 1_000L, 1L));
+            UserPoint result = repository.appendHistory(PointHistory.createUseHistory(id, 300L, 2L));
+
+            // then
+            assertThat(result).isEqualTo(new UserPoint(id, 700L, 2L));
+            assertThat(repository.selectById(id)).contains(result);
+        }
+
+        @DisplayName("내역 저장에 실패하면 잔액도 바뀌지 않는다.")
+        @Test
+        void should_KeepProjection_When_InsertFailed() {
+            // given
+            long id = 1L;
+            PointHistoryRepository pointHistoryRepository = mock(PointHistoryRepository.class);
+            when(pointHistoryRepository.insert(any(PointHistory.class)))
+                .thenThrow(new IllegalStateException("disk full"));
+            UserPointProjectionRepository repository =
+                new UserPointProjectionRepository(pointHistoryRepository);
+
+            // when, then
+            assertThatThrownBy(() ->
+                repository.appendHistory(PointHistory.createChargeHistory(id, 1_000L, 1L)))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(repository.selectById(id)).isEqualTo(Optional.empty());
+        }
+    }
+
+    @DisplayName("재구성 테스트")
+    @Nested
+    class RebuildTest {
+        @DisplayName("내역을 다시 읽을 수 있는 저장소면 기동 시 전체 내역으로 잔액을 만든다.")
+        @Test
+        void should_RebuildProjection_When_HistoryIsReplayable() throws IOException {
+            // given
+            HistoryWalProperties properties =
+                new HistoryWalProperties(tempDir.toString(), DataSize.ofKilobytes(1), false);
+            PointHistoryWalRepository before = new PointHistoryWalRepository(properties);
+            UserPointProjectionRepository beforeRestart = new UserPointProjectionRepository(before);
+            beforeRestart.appendHistory(PointHistory.createChargeHistory(1L, 1_000L, 1L));
+            beforeRestart.appendHistory(PointHistory.createChargeHistory(2L, 500L, 2L));
+            beforeRestart.appendHistory(PointHistory.createUseHistory(1L, 400L, 3L));
+            before.close();
+
+            // when
+            PointHistoryWalRepository after = new PointHistoryWalRepository(properties);
+            UserPointProjectionRepository repository = new UserPointProjectionRepository(after);
+
+            // then
+            assertThat(repository.selectById(1L)).contains(new UserPoint(1L, 600L, 3L));
+            assertThat(repository.selectById(2L)).contains(new UserPoint(2L, 500L, 2L));
+            after.close();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.hhplus.tdd.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.model.UserPoint;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class UserPointWriteBehindRepositoryTest {
+
+    private UserPointTable userPointTable;
+    private UserPointWriteBehindRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = mock(UserPointTable.class);
+        // 테스트 중에는 주기 flush가 끼어들지 않도록 충분히 긴 주기를 사용한다.
+        repository = new UserPointWriteBehindRepository(userPointTable,
+            new WriteBehindProperties(Duration.ofHours(1), Duration.ofHours(1), Duration.ofHours(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.shutdown();
+    }
+
+    @DisplayName("조회 - selectById() 테스트")
+    @Nested
+    class SelectByIdTest {
+        @DisplayName("캐시에 없으면 UserPointTable에서 읽고, 이후 조회는 캐시에서 처리한다.")
+        @Test
+        void should_ReadTableOnce_When_SelectSameIdTwice() {
+            // given
+            long id = 1L;
+            UserPoint userPoint = new UserPoint(id, 100L, System.currentTimeMillis());
+            when(userPointTable.selectById(id)).thenReturn(userPoint);
+
+            // when
+            repository.selectById(id);
+            Optional<UserPoint> result = repository.selectById(id);
+
+            // then
+            assertThat(result).contains(userPoint);
+            verify(userPointTable, times(1)).selectById(id);
+        }
+
+        @DisplayName("저장한 값은 flush 전이라도 조회 시 바로 반환된다.")
+        @Test
+        void should_ReturnSavedValue_When_NotFlushedYet() {
+            // given
+            long id = 1L;
+            repository.insertOrUpdate(new UserPoint(id, 300L, System.currentTimeMillis()));
+
+            // when
+            Optional<UserPoint> result = repository.selectById(id);
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().point()).isEqualTo(300L);
+            verify(userPointTable, never()).selectById(id);
+        }
+    }
+
+    @DisplayName("조건부 저장 - compareAndSet() 테스트")
+    @Nested
+    class CompareAndSetTest {
+        @DisplayName("현재 값이 기대값과 같으면 저장하고 dirty 상태로 표시한다.")
+        @Test
+        void should_SaveAndMarkDirty_When_ExpectedMatches() {
+            // given
+            long id = 1L;
+            UserPoint current = repository.insertOrUpdate(
+                new UserPoint(id, 100L, System.currentTimeMillis()));
+            repository.flush();
+
+            // when
+            Optional<UserPoint> result = repository.compareAndSet(current,
+                new UserPoint(id, 300L, System.currentTimeMillis()));
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().point()).isEqualTo(300L);
+            assertThat(repository.selectById(id)).contains(result.get());
+            assertThat(repository.dirtyCount()).isEqualTo(1);
+        }
+
+        @DisplayName("그 사이 다른 변경이 먼저 반영되었다면 저장하지 않고 빈 값을 반환한다.")
+        @Test
+        void should_ReturnEmpty_When_ChangedByOther() {
+            // given
+            long id = 1L;
+            UserPoint stale = repository.insertOrUpdate(
+                new UserPoint(id, 100L, System.currentTimeMillis()));
+            UserPoint latest = repository.insertOrUpdate(
+                new UserPoint(id, 200L, System.currentTimeMillis()));
+
+            // when
+            Optional<UserPoint> result = repository.compareAndSet(stale,
+                new UserPoint(id, 500L, System.currentTimeMillis()));
+
+            // then
+            assertThat(result).isEmpty();
+            assertThat(repository.selectById(id).get().point()).isEqualTo(latest.point());
+        }
+
+        @DisplayName("기대값이 null이면 아직 저장된 값이 없을 때만 저장한다.")
+        @Test
+        void should_SaveOnlyIfAbsent_When_ExpectedIsNull() {
+            // given
+            long id = 1L;
+            repository.insertOrUpdate(new UserPoint(id, 100L, System.currentTimeMillis()));
+
+            // when
+            Optional<UserPoint> result = repository.compareAndSet(null,
+                new UserPoint(id, 500L, System.currentTimeMillis()));
+
+            // then
+            assertThat(result).isEmpty();
+            assertThat(repository.selectById(id).get().point()).isEqualTo(100L);
+        }
+    }
+
+    @DisplayName("flush - flush() 테스트")
+    @Nested
+    class FlushTest {
+        @DisplayName("같은 유저에 대한 여러 번의 변경은 마지막 값 하나로 합쳐져 반영된다.")
+        @Test
+        void should_CoalesceWrites_When_SameUserUpdatedManyTimes() {
+            // given
+            long id = 1L;
+            for (long point = 100L; point <= 500L; point += 100L) {
+                repository.insertOrUpdate(new UserPoint(id, point, System.currentTimeMillis()));
+            }
+
+            // when
+            repository.flush();
+
+            // then
+            verify(userPointTable, times(1)).insertOrUpdate(anyLong(), anyLong());
+            verify(userPointTable).insertOrUpdate(id, 500L);
+            assertThat(repository.dirtyCount()).isZero();
+        }
+
+        @DisplayName("반영이 끝난 엔트리만 캐시에서 제거되고, 아직 반영되지 않은 엔트리는 남는다.")
+        @Test
+        void should_EvictOnlyCleanEntries_When_Idle() {
+            // given
+            long cleanId = 1L;
+            long dirtyId = 2L;
+            repository.insertOrUpdate(new UserPoint(cleanId, 100L, System.currentTimeMillis()));
+            repository.flush();
+            repository.insertOrUpdate(new UserPoint(dirtyId, 200L, System.currentTimeMillis()));
+
+            // when
+            repository.evictIdle(Long.MAX_VALUE);
+
+            // then
+            assertThat(repository.cachedCount()).isEqualTo(1);
+            assertThat(repository.selectById(dirtyId).get().point()).isEqualTo(200L);
+            verify(userPointTable, never()).selectById(dirtyId);
+        }
+
+        @DisplayName("변경이 없으면 UserPointTable에 쓰지 않는다.")
+        @Test
+        void should_NotWriteTable_When_NothingDirty() {
+            // when
+            repository.flush();
+
+            // then
+            verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        }
+    }
+}
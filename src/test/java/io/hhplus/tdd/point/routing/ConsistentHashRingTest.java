@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    private static final int USER_COUNT = 100_000;
+
+    private final ClusterNode node1 = new ClusterNode("node-1", "http://localhost:8081");
+    private final ClusterNode node2 = new ClusterNode("node-2", "http://localhost:8082");
+    private final ClusterNode node3 = new ClusterNode("node-3", "http://localhost:8083");
+    private final ClusterNode node4 = new ClusterNode("node-4", "http://localhost:8084");
+
+    @DisplayName("담당 노드 조회 - ownerOf() 테스트")
+    @Nested
+    class OwnerOfTest {
+        @DisplayName("노드 목록의 순서와 상관없이 같은 유저는 같은 노드가 담당한다.")
+        @Test
+        void should_ReturnSameOwner_When_NodeOrderDiffers() {
+            // given
+            ConsistentHashRing ring = new ConsistentHashRing(List.of(node1, node2, node3), 128);
+            ConsistentHashRing reordered = new ConsistentHashRing(List.of(node3, node1, node2), 128);
+
+            // when, then
+            for (long userId = 0; userId < 1_000; ++userId) {
+                assertThat(reordered.ownerOf(userId)).isEqualTo(ring.ownerOf(userId));
+            }
+        }
+
+        @DisplayName("연속된 유저 id도 노드마다 고르게 나뉜다.")
+        @Test
+        void should_DistributeEvenly_When_SequentialUserIds() {
+            // given
+            ConsistentHashRing ring = new ConsistentHashRing(List.of(node1, node2, node3), 128);
+
+            // when
+            Map<ClusterNode, Integer> counts = new HashMap<>();
+            for (long userId = 0; userId < USER_COUNT; ++userId) {
+                counts.merge(ring.ownerOf(userId), 1, Integer::sum);
+            }
+
+            // then : 노드당 1/3에서 크게 벗어나지 않는다.
+            assertThat(counts).hasSize(3);
+            assertThat(counts.values()).allSatisfy(count ->
+                assertThat(count).isBetween(USER_COUNT * 25 / 100, USER_COUNT * 42 / 100));
+        }
+
+        @DisplayName("노드를 추가하면 새 노드로 옮겨지는 유저만 담당이 바뀐다.")
+        @Test
+        void should_MoveOnlyToNewNode_When_NodeAdded() {
+            // given
+            ConsistentHashRing before = new ConsistentHashRing(List.of(node1, node2, node3), 128);
+            ConsistentHashRing after = new ConsistentHashRing(List.of(node1, node2, node3, node4), 128);
+
+            // when
+            int moved = 0;
+            for (long userId = 0; userId < USER_COUNT; ++userId) {
+                ClusterNode owner = after.ownerOf(userId);
+                if (!owner.equals(before.ownerOf(userId))) {
+                    assertThat(owner).isEqualTo(node4);
+                    ++moved;
+                }
+            }
+
+            // then : 약 1/4만 옮겨진다.
+            assertThat(moved).isBetween(USER_COUNT * 15 / 100, USER_COUNT * 35 / 100);
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package io.hhplus.tdd.point.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class PointRoutingFilterTest {
+
+    private static final String FORWARD_SECRET = "cluster-secret";
+
+    private final ClusterNode self = new ClusterNode("node-1", "http://localhost:8081");
+    private HttpServer otherNodeServer;
+
+    @AfterEach
+    void tearDown() {
+        if (otherNodeServer != null) {
+            otherNodeServer.stop(0);
+        }
+    }
+
+    private PointRoutingFilter newFilter(RoutingMode mode, ClusterNode other) {
+        return newFilter(mode, other, FORWARD_SECRET);
+    }
+
+    private PointRoutingFilter newFilter(RoutingMode mode, ClusterNode other, String forwardSecret) {
+        RoutingProperties properties = new RoutingProperties(true, mode, self.id(),
+            List.of(self, other), 128, Duration.ofSeconds(5), forwardSecret);
+        return new PointRoutingFilter(properties, new StaticClusterMembership(properties),
+            new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private static long userOwnedBy(ClusterNode owner, ClusterNode... nodes) {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(nodes), 128);
+        return LongStream.range(0, 1_000)
+            .filter(userId -> ring.ownerOf(userId).equals(owner))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static MockHttpServletRequest batchRequest(long... userIds) {
+        StringBuilder operations = new StringBuilder();
+        for (long userId : userIds) {
+            operations.append(operations.isEmpty() ? "" : ",")
+                .append("{\"userId\":").append(userId).append(",\"amount\":100,\"type\":\"CHARGE\"}");
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/point/batch");
+        request.setContentType("application/json");
+        request.setContent(("{\"operations\":[" + operations + "]}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    /**
+     * 받은 batch 본문의 요청마다 성공 결과를 담은 응답 (index는 받은 본문 안에서의 순서)
+     */
+    private static byte[] batchResponse(byte[] requestBody) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ArrayNode data = objectMapper.createArrayNode();
+        int index = 0;
+        for (JsonNode operation : objectMapper.readTree(requestBody).path("operations")) {
+            data.addObject()
+                .put("index", index++)
+                .put("userId", operation.path("userId").asLong())
+                .put("success", true);
+        }
+        ObjectNode root = objectMapper.createObjectNode().put("status", 200);
+        root.set("data", data);
+        return objectMapper.writeValueAsBytes(root);
+    }
+
+    @DisplayName("redirect 모드 - doFilter() 테스트")
+    @Nested
+    class RedirectTest {
+        private final ClusterNode other = new ClusterNode("node-2", "http://localhost:8082");
+        private final PointRoutingFilter filter = newFilter(RoutingMode.REDIRECT, other);
+
+        @DisplayName("현재 노드가 담당하는 유저의 요청은 컨트롤러로 넘긴다.")
+        @Test
+        void should_PassThrough_When_SelfOwnsUser() throws Exception {
+            // given
+            long userId = userOwnedBy(self, self, other);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/point/" + userId);
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            // then
+            assertThat(chain.getRequest()).isSameAs(request);
+        }
+
+        @DisplayName("다른 노드가 담당하는 유저의 요청은 담당 노드 주소로 307 redirect한다.")
+        @Test
+        void should_Redirect_When_OtherNodeOwnsUser() throws Exception {
+            // given
+            long userId = userOwnedBy(other, self, other);
+            MockHttpServletRequest request =
+                new MockHttpServletRequest("GET", "/point/" + userId + "/histories");
+            request.setQueryString("limit=10");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request, response, chain);
+
+            // then
+            assertThat(chain.getRequest()).isNull();
+            assertThat(response.getStatus()).isEqualTo(307);
+            assertThat(response.getHeader("Location"))
+                .isEqualTo("http://localhost:8082/point/" + userId + "/histories?limit=10");
+        }
+
+        @DisplayName("다른 노드에서 전달된 요청과 여러 유저를 다루는 요청은 담당과 상관없이 컨트롤러로 넘긴다.")
+        @Test
+        void should_PassThrough_When_ForwardedOrNotUserPath() throws Exception {
+            // given
+            long userId = userOwnedBy(other, self, other);
+            MockHttpServletRequest forwarded = new MockHttpServletRequest("GET", "/point/" + userId);
+            forwarded.addHeader(PointRoutingFilter.FORWARDED_BY_HEADER, other.id());
+            forwarded.addHeader(PointRoutingFilter.FORWARD_SECRET_HEADER, FORWARD_SECRET);
+            MockHttpServletRequest batch = new MockHttpServletRequest("POST", "/point/batch");
+            MockFilterChain forwardedChain = new MockFilterChain();
+            MockFilterChain batchChain = new MockFilterChain();
+
+            // when
+            filter.doFilter(forwarded, new MockHttpServletResponse(), forwardedChain);
+            filter.doFilter(batch, new MockHttpServletResponse(), batchChain);
+
+            // then
+            assertThat(forwardedChain.getRequest()).isSameAs(forwarded);
+            assertThat(batchChain.getRequest()).isNotNull();
+        }
+
+        @DisplayName("forwardSecret이 맞지 않는 전달 헤더는 무시하고 담당 노드로 redirect한다.")
+        @Test
+        void should_Redirect_When_ForwardedHeaderNotTrusted() throws Exception {
+            // given
+            long userId = userOwnedBy(other, self, other);
+            MockHttpServletRequest withoutSecret = new MockHttpServletRequest("GET", "/point/" + userId);
+            withoutSecret.addHeader(PointRoutingFilter.FORWARDED_BY_HEADER, other.id());
+            MockHttpServletRequest wrongSecret = new MockHttpServletRequest("GET", "/point/" + userId);
+            wrongSecret.addHeader(PointRoutingFilter.FORWARDED_BY_HEADER, other.id());
+            wrongSecret.addHeader(PointRoutingFilter.FORWARD_SECRET_HEADER, "guess");
+            MockHttpServletResponse withoutSecretResponse = new MockHttpServletResponse();
+            MockHttpServletResponse wrongSecretResponse = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(withoutSecret, withoutSecretResponse, new MockFilterChain());
+            filter.doFilter(wrongSecret, wrongSecretResponse, new MockFilterChain());
+
+            // then
+            assertThat(withoutSecretResponse.getStatus()).isEqualTo(307);
+            assertThat(wrongSecretResponse.getStatus()).isEqualTo(307);
+        }
+
+        @DisplayName("batch에 담긴 유저가 모두 다른 노드의 담당이면 batch 요청을 담당 노드로 redirect한다.")
+        @Test
+        void should_RedirectBatch_When_OtherNodeOwnsAllUsers() throws Exception {
+            // given
+            long userId = userOwnedBy(other, self, other);
+            MockHttpServletRequest request = batchRequest(userId, userId);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request, response, chain);
+
+            // then
+            assertThat(chain.getRequest()).isNull();
+            assertThat(response.getStatus()).isEqualTo(307);
+            assertThat(response.getHeader("Location")).isEqualTo("http://localhost:8082/point/batch");
+        }
+
+        @DisplayName("batch에 담긴 유저가 모두 현재 노드의 담당이면, 컨트롤러가 같은 본문을 다시 읽을 수 있게 넘긴다.")
+        @Test
+        void should_PassThroughWithBody_When_SelfOwnsAllUsers() throws Exception {
+            // given
+            long userId = userOwnedBy(self, self, other);
+            MockHttpServletRequest request = batchRequest(userId);
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            // then
+            assertThat(chain.getRequest()).isNotNull();
+            assertThat(chain.getRequest().getInputStream().readAllBytes())
+                .isEqualTo(request.getContentAsByteArray());
+        }
+
+        @DisplayName("여러 노드의 담당 유저가 섞인 export 요청과, forwardSecret이 없을 때의 batch 요청은 400_7 에러로 거절한다.")
+        @Test
+        void should_Reject_When_UsersOwnedByDifferentNodes() throws Exception {
+            // given
+            PointRoutingFilter filter = newFilter(RoutingMode.REDIRECT, other, null);
+            long selfUserId = userOwnedBy(self, self, other);
+            long otherUserId = userOwnedBy(other, self, other);
+            MockHttpServletRequest export = new MockHttpServletRequest("GET", "/point/histories/export");
+            export.addParameter("userIds", selfUserId + "," + otherUserId);
+            MockHttpServletResponse batchResponse = new MockHttpServletResponse();
+            MockHttpServletResponse exportResponse = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(batchRequest(selfUserId, otherUserId), batchResponse, new MockFilterChain());
+            filter.doFilter(export, exportResponse, new MockFilterChain());
+
+            // then
+            assertThat(batchResponse.getStatus()).isEqualTo(400);
+            assertThat(batchResponse.getContentAsString()).contains("400_7");
+            assertThat(exportResponse.getStatus()).isEqualTo(400);
+        }
+    }
+
+    @DisplayName("forward 모드 - doFilter() 테스트")
+    @Nested
+    class ForwardTest {
+        @DisplayName("다른 노드가 담당하는 유저의 요청을 담당 노드에 보내고 받은 응답을 그대로 돌려준다.")
+        @Test
+        void should_ReturnOwnerResponse_When_OtherNodeOwnsUser() throws Exception {
+            // given
+            AtomicReference<String> receivedBody = new AtomicReference<>();
+            AtomicReference<String> forwardedBy = new AtomicReference<>();
+            ClusterNode other = startOtherNode(receivedBody, forwardedBy);
+            PointRoutingFilter filter = newFilter(RoutingMode.FORWARD, other);
+
+            long userId = userOwnedBy(other, self, other);
+            MockHttpServletRequest request =
+                new MockHttpServletRequest("PATCH", "/point/" + userId + "/charge");
+            request.setContentType("application/json");
+            request.setContent("{\"amount\":100}".getBytes(StandardCharsets.UTF_8));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(request, response, new MockFilterChain());
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentAsString()).isEqualTo("{\"status\":200}");
+            assertThat(receivedBody.get()).isEqualTo("{\"amount\":100}");
+            assertThat(forwardedBy.get()).isEqualTo(self.id() + "/" + FORWARD_SECRET);
+        }
+
+        @DisplayName("담당 노드가 길이를 정하지 않고 나누어 보내는 응답(export)도 끝까지 그대로 돌려준다.")
+        @Test
+        void should_RelayChunkedResponse_When_OwnerStreams() throws Exception {
+            // given
+            otherNodeServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            otherNodeServer.createContext("/point", exchange -> {
+                exchange.getResponseHeaders().add("Content-Type", "application/x-ndjson");
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    for (int i = 0; i < 1_000; ++i) {
+                        body.write(("{\"id\":" + i + "}\n").getBytes(StandardCharsets.UTF_8));
+                        body.flush();
+                    }
+                }
+            });
+            otherNodeServer.start();
+            ClusterNode other = new ClusterNode("node-2",
+                "http://localhost:" + otherNodeServer.getAddress().getPort());
+            PointRoutingFilter filter = newFilter(RoutingMode.FORWARD, other);
+
+            long userId = userOwnedBy(other, self, other);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/point/histories/export");
+            request.addParameter("userIds", String.valueOf(userId));
+            request.setQueryString("userIds=" + userId);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(request, response, new MockFilterChain());
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentType()).isEqualTo("application/x-ndjson");
+            assertThat(response.getContentAsString().lines()).hasSize(1_000)
+                .endsWith("{\"id\":999}");
+        }
+
+        @DisplayName("여러 노드에 걸친 batch는 노드별로 나누어 처리하고 요청 순서대로 결과를 합친다.")
+        @Test
+        void should_SplitAndMergeBatch_When_UsersOwnedByDifferentNodes() throws Exception {
+            // given
+            AtomicReference<String> receivedBody = new AtomicReference<>();
+            otherNodeServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            otherNodeServer.createContext("/point/batch", exchange -> {
+                byte[] requestBody = exchange.getRequestBody().readAllBytes();
+                receivedBody.set(new String(requestBody, StandardCharsets.UTF_8));
+                byte[] body = batchResponse(requestBody);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+                exchange.close();
+            });
+            otherNodeServer.start();
+            ClusterNode other = new ClusterNode("node-2",
+                "http://localhost:" + otherNodeServer.getAddress().getPort());
+            PointRoutingFilter filter = newFilter(RoutingMode.FORWARD, other);
+
+            long selfUserId = userOwnedBy(self, self, other);
+            long otherUserId = userOwnedBy(other, self, other);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain localChain = new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest servletRequest, HttpServletResponse servletResponse)
+                    throws IOException {
+                    servletResponse.setContentType("application/json");
+                    servletResponse.getOutputStream()
+                        .write(batchResponse(servletRequest.getInputStream().readAllBytes()));
+                }
+            });
+
+            // when
+            filter.doFilter(batchRequest(selfUserId, otherUserId, selfUserId), response, localChain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(200);
+            JsonNode data = new ObjectMapper().readTree(response.getContentAsByteArray()).path("data");
+            assertThat(data).extracting(result -> result.path("index").asInt())
+                .containsExactly(0, 1, 2);
+            assertThat(data).extracting(result -> result.path("userId").asLong())
+                .containsExactly(selfUserId, otherUserId, selfUserId);
+            assertThat(new ObjectMapper().readTree(receivedBody.get()).path("operations")).hasSize(1);
+        }
+
+        @DisplayName("batch 일부를 담당 노드에 전달하지 못하면 그 몫만 건별 503_1 실패로 담는다.")
+        @Test
+        void should_ReportForwardFailurePerItem_When_OwnerUnreachable() throws Exception {
+            // given
+            ClusterNode unreachable = new ClusterNode("node-2", "http://localhost:1");
+            PointRoutingFilter filter = newFilter(RoutingMode.FORWARD, unreachable);
+            long selfUserId = userOwnedBy(self, self, unreachable);
+            long otherUserId = userOwnedBy(unreachable, self, unreachable);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain localChain = new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest servletRequest, HttpServletResponse servletResponse)
+                    throws IOException {
+                    servletResponse.getOutputStream()
+                        .write(batchResponse(servletRequest.getInputStream().readAllBytes()));
+                }
+            });
+
+            // when
+            filter.doFilter(batchRequest(otherUserId, selfUserId), response, localChain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(200);
+            JsonNode data = new ObjectMapper().readTree(response.getContentAsByteArray()).path("data");
+            assertThat(data).extracting(result -> result.path("success").asBoolean())
+                .containsExactly(false, true);
+            assertThat(data.get(0).path("error").path("code").asText()).isEqualTo("503_1");
+        }
+
+        @DisplayName("담당 노드에 연결하지 못하면 503_1 에러로 응답한다.")
+        @Test
+        void should_RespondServiceUnavailable_When_OwnerUnreachable() throws Exception {
+            // given
+            ClusterNode unreachable = new ClusterNode("node-2", "http://localhost:1");
+            PointRoutingFilter filter = newFilter(RoutingMode.FORWARD, unreachable);
+            long userId = userOwnedBy(unreachable, self, unreachable);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(new MockHttpServletRequest("GET", "/point/" + userId), response,
+                new MockFilterChain());
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(503);
+            assertThat(response.getContentAsString()).contains("503_1");
+        }
+
+        private ClusterNode startOtherNode(AtomicReference<String> receivedBody,
+            AtomicReference<String> forwardedBy) throws IOException {
+            otherNodeServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            otherNodeServer.createContext("/point", exchange -> {
+                receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                forwardedBy.set(exchange.getRequestHeaders().getFirst(PointRoutingFilter.FORWARDED_BY_HEADER)
+                    + "/" + exchange.getRequestHeaders().getFirst(PointRoutingFilter.FORWARD_SECRET_HEADER));
+                byte[] body = "{\"status\":200}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+                exchange.close();
+            });
+            otherNodeServer.start();
+            return new ClusterNode("node-2", "http://localhost:" + otherNodeServer.getAddress().getPort());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.hhplus.tdd.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.lock.InProcessPointLock;
+import io.hhplus.tdd.point.lock.LeaseProperties;
+import io.hhplus.tdd.point.lock.PointLock;
+import io.hhplus.tdd.point.lock.PointLockLease;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LeaseUserLockProviderTest {
+
+    private static final Duration TTL = Duration.ofMillis(60);
+
+    private final InProcessPointLock pointLock = new InProcessPointLock();
+    private LeaseUserLockProvider lockProvider = newLockProvider(pointLock);
+
+    private static LeaseUserLockProvider newLockProvider(PointLock pointLock) {
+        return new LeaseUserLockProvider(pointLock,
+            new LeaseProperties(TTL, Duration.ofMillis(1), "data/lock"), "lock");
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockProvider.shutdown();
+    }
+
+    @DisplayName("락 실행 - executeWithLock() 테스트")
+    @Nested
+    class ExecuteWithLockTest {
+        @DisplayName("task가 ttl보다 오래 걸려도 watchdog이 lease를 연장해 저장 직전 확인을 통과한다.")
+        @Test
+        void should_KeepLease_When_TaskOutlivesTtl() {
+            // given
+            long id = 1L;
+
+            // when
+            lockProvider.executeWithLock(id, () -> {
+                sleep(TTL.toMillis() * 3);
+                lockProvider.checkLockHeld(id);
+                return null;
+            });
+
+            // then : 그 사이 다른 lease가 발급되지 않았고, 반납되어 바로 다시 얻을 수 있다.
+            PointLockLease next = pointLock.acquire(id, TTL);
+            assertThat(next.token()).isEqualTo(2L);
+        }
+
+        @DisplayName("lease를 연장하지 못해 다른 소유자가 이어받았으면 저장 직전 확인에서 PointException이 발생한다.")
+        @Test
+        void should_ThrowPointException_When_LeaseTakenOver() {
+            // given
+            long id = 1L;
+            PointLock unrenewableLock = new InProcessPointLock() {
+                @Override
+                public boolean renew(PointLockLease lease, Duration ttl) {
+                    return false;
+                }
+            };
+            lockProvider.shutdown();
+            lockProvider = newLockProvider(unrenewableLock);
+
+            // when, then
+            assertThatThrownBy(() -> lockProvider.executeWithLock(id, () -> {
+                sleep(TTL.toMillis() * 2);
+                unrenewableLock.acquire(id, Duration.ofSeconds(10));
+                lockProvider.checkLockHeld(id);
+                return null;
+            })).isSameAs(PointException.LOCK_LEASE_EXPIRED);
+        }
+
+        @DisplayName("다른 소유자가 lease를 잡고 있으면 waitTimeout 뒤에 task를 실행하지 않고 PointException이 발생한다.")
+        @Test
+        void should_ThrowPointException_When_WaitTimeoutElapsed() {
+            // given
+            long id = 1L;
+            pointLock.acquire(id, Duration.ofSeconds(10));
+
+            // when, then
+            assertThatThrownBy(() -> lockProvider.executeWithLock(id, Duration.ofMillis(20), () -> {
+                throw new IllegalStateException("실행되면 안 된다.");
+            })).isSameAs(PointException.LOCK_WAIT_TIMEOUT);
+        }
+
+        @DisplayName("락을 잡지 않은 유저에 대해 확인하면 PointException이 발생한다.")
+        @Test
+        void should_ThrowPointException_When_LockNotHeld() {
+            // when, then
+            assertThatThrownBy(() -> lockProvider.checkLockHeld(1L))
+                .isSameAs(PointException.LOCK_LEASE_EXPIRED);
+        }
+    }
+
+    @DisplayName("fencing token - fencingToken() 테스트")
+    @Nested
+    class FencingTokenTest {
+        @DisplayName("락을 잡은 task 안에서는 그 lease의 token을 반환한다.")
+        @Test
+        void should_ReturnLeaseToken_When_LockHeld() {
+            // given
+            long id = 1L;
+            pointLock.release(pointLock.acquire(id, TTL));
+
+            // when
+            long token = lockProvider.executeWithLock(id, () -> lockProvider.fencingToken(id));
+
+            // then
+            assertThat(token).isEqualTo(2L);
+        }
+
+        @DisplayName("락을 잡지 않은 유저의 token을 요청하면 PointException이 발생한다.")
+        @Test
+        void should_ThrowPointException_When_LockNotHeld() {
+            // when, then
+            assertThatThrownBy(() -> lockProvider.fencingToken(1L))
+                .isSameAs(PointException.LOCK_LEASE_EXPIRED);
+        }
+    }
+
+    @DisplayName("생성 테스트")
+    @Nested
+    class CreateTest {
+        @DisplayName("유저 락을 쓰지 않는 실행 모드와 함께 설정하면 IllegalStateException이 발생한다.")
+        @Test
+        void should_ThrowIllegalStateException_When_ExecutionModeIgnoresUserLock() {
+            // when, then
+            for (String executionMode : new String[]{"mailbox", "optimistic"}) {
+                assertThatThrownBy(() -> new LeaseUserLockProvider(pointLock,
+                    new LeaseProperties(TTL, Duration.ofMillis(1), "data/lock"), executionMode))
+                    .isInstanceOf(IllegalStateException.class);
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
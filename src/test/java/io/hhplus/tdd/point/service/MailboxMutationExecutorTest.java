@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.exception.PointException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class MailboxMutationExecutorTest {
+
+    private final MailboxMutationExecutor executor =
+        new MailboxMutationExecutor(new ExecutionProperties(4, 1_000), false);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @DisplayName("비동기 실행 - executeAsync() 테스트")
+    @Nested
+    class ExecuteAsyncTest {
+        @DisplayName("같은 유저의 작업은 제출한 순서대로 실행된다.")
+        @Test
+        void should_ExecuteInSubmittedOrder_When_SameUser() {
+            // given
+            long id = 1L;
+            List<Integer> executed = new ArrayList<>(); // 같은 mailbox 스레드에서만 접근
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < 100; ++i) {
+                int order = i;
+                futures.add(executor.executeAsync(id, () -> {
+                    executed.add(order);
+                    return order;
+                }));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            // then
+            assertThat(executed).hasSize(100).isSorted();
+        }
+
+        @DisplayName("mailbox가 가득 차면 작업을 실행하지 않고 MAILBOX_FULL 예외로 실패한 future를 반환한다.")
+        @Test
+        void should_FailWithMailboxFull_When_MailboxFull() throws InterruptedException {
+            // given : mailbox 스레드가 작업 하나를 붙잡고 있고, 대기열(1)도 차 있다.
+            MailboxMutationExecutor fullExecutor =
+                new MailboxMutationExecutor(new ExecutionProperties(1, 1), false);
+            CountDownLatch running = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            fullExecutor.executeAsync(1L, () -> {
+                running.countDown();
+                await(release);
+                return null;
+            });
+            running.await();
+            fullExecutor.executeAsync(1L, () -> null);
+
+            try {
+                // when
+                CompletableFuture<Object> rejected = fullExecutor.executeAsync(1L, () -> {
+                    throw new IllegalStateException("실행되면 안 된다.");
+                });
+
+                // then
+                assertThatThrownBy(rejected::join).hasCause(PointException.MAILBOX_FULL);
+                assertThatThrownBy(() -> fullExecutor.execute(1L, () -> null))
+                    .isSameAs(PointException.MAILBOX_FULL);
+            } finally {
+                release.countDown();
+                fullExecutor.shutdown();
+            }
+        }
+    }
+
+    @DisplayName("동기 실행 - execute() 테스트")
+    @Nested
+    class ExecuteTest {
+        @DisplayName("작업에서 발생한 PointException은 감싸지 않고 그대로 던진다.")
+        @Test
+        void should_ThrowPointException_When_TaskThrows() {
+            // when, then
+            assertThatThrownBy(() -> executor.execute(1L, () -> {
+                throw PointException.INSUFFICIENT_POINT_BALANCE;
+            }))
+                .isInstanceOf(PointException.class)
+                .hasMessage(PointErrorCode.INSUFFICIENT_POINT_BALANCE.getMessage());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.hhplus.tdd.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointWriteBehindRepository;
+import io.hhplus.tdd.point.repository.WriteBehindProperties;
+import io.hhplus.tdd.point.validator.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class OptimisticMutationExecutorTest {
+
+    private UserPointWriteBehindRepository userPointRepository;
+    private PointMetrics pointMetrics;
+
+    @BeforeEach
+    void setUp() {
+        // UserPointTable과 같이 저장된 값이 없으면 잔액 0인 UserPoint를 반환한다.
+        UserPointTable userPointTable = mock(UserPointTable.class);
+        when(userPointTable.selectById(anyLong()))
+            .thenAnswer(invocation -> UserPoint.empty(invocation.getArgument(0)));
+        userPointRepository = new UserPointWriteBehindRepository(userPointTable,
+            new WriteBehindProperties(Duration.ofHours(1), Duration.ofHours(1), Duration.ofHours(1)));
+        pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userPointRepository.shutdown();
+    }
+
+    private OptimisticMutationExecutor executor(int maxAttempts) {
+        return new OptimisticMutationExecutor(userPointRepository,
+            new OptimisticProperties(maxAttempts, Duration.ofMillis(1)), pointMetrics);
+    }
+
+    @DisplayName("생성 테스트")
+    @Nested
+    class CreateTest {
+        @DisplayName("compareAndSet을 지원하지 않는 UserPointRepository로는 생성할 수 없다.")
+        @Test
+        void should_ThrowIllegalStateException_When_RepositoryNotSupportCompareAndSet() {
+            // given
+            UserPointRepository tableRepository = mock(UserPointRepository.class);
+
+            // when, then
+            assertThatThrownBy(() -> new OptimisticMutationExecutor(tableRepository,
+                new OptimisticProperties(16, Duration.ofMillis(1)), pointMetrics))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @DisplayName("실행 - execute() 테스트")
+    @Nested
+    class ExecuteTest {
+        @DisplayName("충돌이 나면 task를 다시 실행하고, 성공한 결과를 반환한다.")
+        @Test
+        void should_RetryTask_When_Conflict() {
+            // given
+            AtomicInteger attempts = new AtomicInteger();
+
+            // when
+            int result = executor(5).execute(1L, () -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw OptimisticConflictException.INSTANCE;
+                }
+                return attempts.get();
+            });
+
+            // then
+            assertThat(result).isEqualTo(3);
+        }
+
+        @DisplayName("최대 시도 횟수를 넘기면 CONFLICT_USER_POINT_UPDATE 예외가 발생한다.")
+        @Test
+        void should_ThrowConflict_When_ExceedMaxAttempts() {
+            // given
+            AtomicInteger attempts = new AtomicInteger();
+
+            // when, then
+            assertThatThrownBy(() -> executor(3).execute(1L, () -> {
+                attempts.incrementAndGet();
+                throw OptimisticConflictException.INSTANCE;
+            }))
+                .isInstanceOf(PointException.class)
+                .hasMessage(PointErrorCode.CONFLICT_USER_POINT_UPDATE.getMessage());
+            assertThat(attempts.get()).isEqualTo(3);
+        }
+
+        @DisplayName("한 유저에게 동시에 충전해도 락 없이 모든 충전이 반영된다.")
+        @Test
+        void should_ApplyAllCharges_When_ConcurrentChargeWithoutLock() throws InterruptedException {
+            // given
+            long id = 1L;
+            int requestCount = 200;
+            PointBatchExecutor batchExecutor = new PointBatchExecutor(new BatchProperties(1));
+            PointService pointService = new PointService(userPointRepository,
+                mock(PointHistoryRepository.class), new PointValidator(),
+                executor(Integer.MAX_VALUE), batchExecutor,
+                new PointWriteExecutor(new WriteProperties(false, 64), pointMetrics, false),
+                new PointOperationCombiner(new CombiningProperties(false, 64), pointMetrics),
+                new PointAdmissionControl(new AdmissionProperties(0, 0, 0, 0, 0, Duration.ZERO),
+                    pointMetrics, new SimpleMeterRegistry()),
+                pointMetrics,
+                new PointReadCache(new ReadCacheProperties(true, 100L, 100L, Duration.ofSeconds(10)),
+                    new SimpleMeterRegistry()),
+                new IdempotencyStore(new IdempotencyProperties(100L, Duration.ofMinutes(1)),
+                    new SimpleMeterRegistry()));
+
+            CountDownLatch latch = new CountDownLatch(requestCount);
+
+            // when
+            try (ExecutorService executorService = Executors.newFixedThreadPool(16)) {
+                for (int i = 0; i < requestCount; ++i) {
+                    executorService.submit(() -> {
+                        try {
+                            pointService.charge(id, 10L);
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+                }
+                latch.await(30, TimeUnit.SECONDS);
+            } finally {
+                batchExecutor.shutdown();
+            }
+
+            // then
+            assertThat(pointService.getUserPoint(id).getPointAmount()).isEqualTo(requestCount * 10L);
+        }
+    }
+}
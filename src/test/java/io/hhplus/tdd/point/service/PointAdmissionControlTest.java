@@ -0,0 +1,162 @@
+package io.hhplus.tdd.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.exception.PointException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PointAdmissionControlTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PointAdmissionControl admissionControl(int userRate, int userBurst, int globalRate,
+        int globalBurst, int maxInFlight) {
+        return new PointAdmissionControl(
+            new AdmissionProperties(userRate, userBurst, globalRate, globalBurst, maxInFlight,
+                Duration.ZERO),
+            new PointMetrics(meterRegistry), meterRegistry);
+    }
+
+    @DisplayName("처리량 제한 - admit() 테스트")
+    @Nested
+    class RateLimitTest {
+        @DisplayName("유저별 burst를 넘으면 해당 유저의 요청만 거절된다.")
+        @Test
+        void should_RejectOnlySameUser_When_UserBurstExceeded() {
+            // given
+            PointAdmissionControl admissionControl = admissionControl(1, 2, 0, 0, 0);
+            admissionControl.admit(1L, () -> null);
+            admissionControl.admit(1L, () -> null);
+
+            // when, then
+            assertThatThrownBy(() -> admissionControl.admit(1L, () -> null))
+                .isSameAs(PointException.TOO_MANY_USER_REQUESTS);
+            assertThat(admissionControl.admit(2L, () -> 2L)).isEqualTo(2L);
+            assertThat(meterRegistry.get("point.mutation")
+                .tag("outcome", PointErrorCode.TOO_MANY_USER_REQUESTS.name())
+                .counter().count()).isEqualTo(1.0);
+        }
+
+        @DisplayName("전체 burst를 넘으면 서로 다른 유저의 요청도 거절된다.")
+        @Test
+        void should_RejectAnyUser_When_GlobalBurstExceeded() {
+            // given
+            PointAdmissionControl admissionControl = admissionControl(0, 0, 1, 2, 0);
+            admissionControl.admit(1L, () -> null);
+            admissionControl.admit(2L, () -> null);
+
+            // when, then
+            assertThatThrownBy(() -> admissionControl.admit(3L, () -> null))
+                .isSameAs(PointException.TOO_MANY_REQUESTS);
+        }
+
+        @DisplayName("전체 제한에 걸려 거절된 요청은 유저의 토큰을 쓰지 않는다.")
+        @Test
+        void should_KeepUserToken_When_GlobalBurstExceeded() throws InterruptedException {
+            // given
+            PointAdmissionControl admissionControl = admissionControl(1, 1, 100, 1, 0);
+            admissionControl.admit(2L, () -> null);
+            assertThatThrownBy(() -> admissionControl.admit(1L, () -> null))
+                .isSameAs(PointException.TOO_MANY_REQUESTS);
+
+            // when
+            TimeUnit.MILLISECONDS.sleep(20);
+
+            // then
+            assertThat(admissionControl.admit(1L, () -> 1L)).isEqualTo(1L);
+        }
+
+        @DisplayName("여러 건을 한 번에 받아들이면 건수만큼 토큰을 쓰고, 모자라면 하나도 쓰지 않는다.")
+        @Test
+        void should_ConsumePermits_When_AdmitMany() {
+            // given
+            PointAdmissionControl admissionControl = admissionControl(1, 3, 0, 0, 0);
+            admissionControl.admit(1L, 2, () -> null);
+
+            // when, then
+            assertThatThrownBy(() -> admissionControl.admit(1L, 2, () -> null))
+                .isSameAs(PointException.TOO_MANY_USER_REQUESTS);
+            assertThat(admissionControl.admit(1L, 1, () -> 1L)).isEqualTo(1L);
+            assertThatThrownBy(() -> admissionControl.admit(1L, () -> null))
+                .isSameAs(PointException.TOO_MANY_USER_REQUESTS);
+        }
+
+        @DisplayName("burst보다 많은 건수는 bucket이 가득 차 있어도 거절한다.")
+        @Test
+        void should_Reject_When_PermitsExceedBurst() {
+            // given
+            PointAdmissionControl admissionControl = admissionControl(1, 3, 0, 0, 0);
+
+            // when, then
+            assertThatThrownBy(() -> admissionControl.admit(1L, 4, () -> null))
+                .isSameAs(PointException.TOO_MANY_USER_REQUESTS);
+            assertThat(admissionControl.admit(1L, 3, () -> 1L)).isEqualTo(1L);
+        }
+
+        @DisplayName("토큰을 다 쓴 뒤에도 rate에 맞춰 시간이 지나면 다시 받아들인다.")
+        @Test
+        void should_AdmitAgain_When_TokenRefilled() throws InterruptedException {
+            // given
+            PointAdmissionControl admissionControl = admissionControl(100, 1, 0, 0, 0);
+            admissionControl.admit(1L, () -> null);
+            assertThatThrownBy(() -> admissionControl.admit(1L, () -> null))
+                .isSameAs(PointException.TOO_MANY_USER_REQUESTS);
+
+            // when
+            TimeUnit.MILLISECONDS.sleep(20);
+
+            // then
+            assertThat(admissionControl.admit(1L, () -> 1L)).isEqualTo(1L);
+        }
+    }
+
+    @DisplayName("부하 차단 - maxInFlight 테스트")
+    @Nested
+    class InFlightTest {
+        @DisplayName("처리 중인 요청이 maxInFlight에 이르면 새 요청은 실행하지 않고 거절한다.")
+        @Test
+        void should_Reject_When_MaxInFlightReached() {
+            // given
+            PointAdmissionControl admissionControl = admissionControl(0, 0, 0, 0, 1);
+
+            // when, then
+            admissionControl.admit(1L, () -> {
+                assertThatThrownBy(() -> admissionControl.admit(2L, () -> {
+                    throw new IllegalStateException("실행되면 안 된다.");
+                }))
+                    .isSameAs(PointException.TOO_MANY_IN_FLIGHT_REQUESTS);
+                return null;
+            });
+            assertThat(admissionControl.inFlight()).isZero();
+            assertThat(admissionControl.admit(2L, () -> 2L)).isEqualTo(2L);
+        }
+
+        @DisplayName("비동기 요청은 future가 완료될 때까지 처리 중인 요청으로 센다.")
+        @Test
+        void should_CountInFlight_Until_FutureCompleted() {
+            // given
+            PointAdmissionControl admissionControl = admissionControl(0, 0, 0, 0, 1);
+            CompletableFuture<Long> pending = new CompletableFuture<>();
+
+            // when
+            CompletableFuture<Long> admitted = admissionControl.admitAsync(1L, () -> pending);
+
+            // then
+            assertThat(admissionControl.inFlight()).isEqualTo(1);
+            assertThatThrownBy(() -> admissionControl.admitAsync(2L, CompletableFuture::new))
+                .isSameAs(PointException.TOO_MANY_IN_FLIGHT_REQUESTS);
+
+            pending.complete(1L);
+            assertThat(admitted.join()).isEqualTo(1L);
+            assertThat(admissionControl.inFlight()).isZero();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.exception.PointException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PointMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PointMetrics pointMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pointMetrics = new PointMetrics(meterRegistry);
+    }
+
+    @DisplayName("충전/사용 결과 - countSuccess(), countFailure() 테스트")
+    @Nested
+    class MutationOutcomeTest {
+        @DisplayName("실패는 PointErrorCode별 outcome 태그로 나누어 기록된다.")
+        @Test
+        void should_CountByErrorCode_When_CountFailure() {
+            // when
+            pointMetrics.countSuccess();
+            pointMetrics.countFailure(PointException.NOT_FOUND_USER_POINT);
+            pointMetrics.countFailure(PointException.NOT_FOUND_USER_POINT);
+
+            // then
+            assertThat(meterRegistry.get("point.mutation").tag("outcome", "success")
+                .counter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("point.mutation")
+                .tag("outcome", PointErrorCode.NOT_FOUND_USER_POINT.name())
+                .counter().count()).isEqualTo(2.0);
+        }
+    }
+
+    @DisplayName("락 지표 - recordLockWait(), recordLockHold() 테스트")
+    @Nested
+    class LockTimerTest {
+        @DisplayName("LockingMutationExecutor로 실행하면 락 대기/보유 시간이 한 번씩 기록된다.")
+        @Test
+        void should_RecordLockTimers_When_ExecuteWithLock() {
+            // given
+            LockingMutationExecutor executor =
+                new LockingMutationExecutor(new RefCountedUserLockProvider(), pointMetrics,
+                    new AdmissionProperties(0, 0, 0, 0, 0, Duration.ZERO));
+
+            // when
+            executor.execute(1L, () -> 1L);
+
+            // then
+            assertThat(meterRegistry.get("point.lock.wait").timer().count()).isEqualTo(1L);
+            assertThat(meterRegistry.get("point.lock.hold").timer().count()).isEqualTo(1L);
+            assertThat(meterRegistry.get("point.lock.hold").timer().totalTime(TimeUnit.NANOSECONDS))
+                .isPositive();
+        }
+    }
+}
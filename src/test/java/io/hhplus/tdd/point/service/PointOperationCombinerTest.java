@@ -0,0 +1,195 @@
+package io.hhplus.tdd.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hhplus.tdd.point.dto.PointDto.PointDetail;
+import io.hhplus.tdd.point.exception.PointException;
+import io.hhplus.tdd.point.model.TransactionType;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PointOperationCombinerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointOperationCombiner combiner = new PointOperationCombiner(
+        new CombiningProperties(true, 64), new PointMetrics(meterRegistry));
+
+    @DisplayName("요청 결합 - submit() 테스트")
+    @Nested
+    class SubmitTest {
+        @DisplayName("동시에 들어온 요청들이 묶여서 적용되고, 각자 자기 요청을 적용한 직후의 잔액을 받는다.")
+        @Test
+        void should_CombineAndReturnOwnResult_When_ConcurrentSubmit() throws Exception {
+            // given
+            long id = 1L;
+            int requestCount = 100;
+            Applier applier = new Applier(id);
+            CountDownLatch start = new CountDownLatch(1);
+
+            // when
+            List<Future<PointOperationResult>> futures = new ArrayList<>(requestCount);
+            try (ExecutorService executorService = Executors.newFixedThreadPool(16)) {
+                for (int i = 0; i < requestCount; ++i) {
+                    futures.add(executorService.submit(() -> {
+                        start.await();
+                        return combiner.submit(id, PointOperation.charge(10L), applier::apply);
+                    }));
+                }
+                start.countDown();
+            }
+
+            // then
+            List<Long> points = new ArrayList<>(requestCount);
+            for (Future<PointOperationResult> future : futures) {
+                points.add(future.get().pointDetail().getPointAmount());
+            }
+            assertThat(applier.balance).isEqualTo(10L * requestCount);
+            assertThat(points).doesNotHaveDuplicates().hasSize(requestCount);
+            assertThat(applier.applyCount.get()).isLessThanOrEqualTo(requestCount);
+            assertThat(meterRegistry.get("point.combining.batch").summary().totalAmount())
+                .isEqualTo(requestCount);
+            assertThat(combiner.queueCount()).isZero();
+        }
+
+        @DisplayName("묶음 안의 요청 하나가 실패해도 나머지 요청은 성공 결과를 받는다.")
+        @Test
+        void should_ReturnEachResult_When_PartOfBatchFailed() {
+            // given
+            long id = 1L;
+            Applier applier = new Applier(id);
+
+            // when
+            PointOperationResult charged =
+                combiner.submit(id, PointOperation.charge(100L), applier::apply);
+            PointOperationResult failed =
+                combiner.submit(id, PointOperation.use(500L), applier::apply);
+
+            // then
+            assertThat(charged.isSuccess()).isTrue();
+            assertThat(failed.exception()).isSameAs(PointException.INSUFFICIENT_POINT_BALANCE);
+        }
+
+        @DisplayName("묶음 적용 중 예외가 발생하면 호출자에게 그 예외를 던지고, 다음 요청은 정상 처리된다.")
+        @Test
+        void should_ThrowApplierException_When_ApplyFailed() {
+            // given
+            long id = 1L;
+            IllegalStateException failure = new IllegalStateException("repository unavailable");
+            Applier applier = new Applier(id);
+
+            // when, then
+            assertThatThrownBy(() -> combiner.submit(id, PointOperation.charge(100L), operations -> {
+                throw failure;
+            })).isSameAs(failure);
+            assertThat(combiner.submit(id, PointOperation.charge(100L), applier::apply).isSuccess())
+                .isTrue();
+        }
+
+        @DisplayName("대기 중에 인터럽트되면 대기열에서 빠져 실패하고, 인터럽트 상태가 유지된다.")
+        @Test
+        void should_FailAndKeepInterruptStatus_When_InterruptedWhileWaiting() throws Exception {
+            // given
+            long id = 1L;
+            Applier applier = new Applier(id);
+            CountDownLatch combining = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            Thread combiningThread = new Thread(() -> combiner.submit(id, PointOperation.charge(100L),
+                operations -> {
+                    combining.countDown();
+                    awaitQuietly(release);
+                    return applier.apply(operations);
+                }));
+            combiningThread.start();
+            combining.await();
+
+            AtomicReference<RuntimeException> failure = new AtomicReference<>();
+            AtomicBoolean interruptedAfterFailure = new AtomicBoolean();
+            Thread waiter = new Thread(() -> {
+                try {
+                    combiner.submit(id, PointOperation.charge(10L), applier::apply);
+                } catch (RuntimeException e) {
+                    failure.set(e);
+                    interruptedAfterFailure.set(Thread.currentThread().isInterrupted());
+                }
+            });
+            waiter.start();
+            while (waiter.getState() != Thread.State.TIMED_WAITING) {
+                Thread.onSpinWait();
+            }
+
+            // when
+            waiter.interrupt();
+            waiter.join(TimeUnit.SECONDS.toMillis(5));
+            release.countDown();
+            combiningThread.join(TimeUnit.SECONDS.toMillis(5));
+
+            // then
+            assertThat(waiter.isAlive()).isFalse();
+            assertThat(failure.get()).isInstanceOf(IllegalStateException.class);
+            assertThat(interruptedAfterFailure.get()).isTrue();
+            assertThat(applier.balance).isEqualTo(100L);
+            assertThat(combiner.queueCount()).isZero();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 유저 하나의 잔액을 메모리에 두고, 묶음을 한 번에 하나씩만 적용하는지 확인하며 적용한다.
+     */
+    private static class Applier {
+        private final long id;
+        private final AtomicInteger applyCount = new AtomicInteger();
+        private final Map<Long, Boolean> applying = new ConcurrentHashMap<>();
+        private long balance;
+
+        private Applier(long id) {
+            this.id = id;
+        }
+
+        private List<PointOperationResult> apply(List<PointOperation> operations) {
+            assertThat(applying.putIfAbsent(id, true)).isNull();
+            applyCount.incrementAndGet();
+            try {
+                List<PointOperationResult> results = new ArrayList<>(operations.size());
+                for (PointOperation operation : operations) {
+                    if (operation.type() == TransactionType.USE && balance < operation.amount()) {
+                        results.add(PointOperationResult.failure(PointException.INSUFFICIENT_POINT_BALANCE));
+                        continue;
+                    }
+                    balance += operation.type() == TransactionType.CHARGE
+                        ? operation.amount()
+                        : -operation.amount();
+                    results.add(PointOperationResult.success(
+                        PointDetail.of(new UserPoint(id, balance, System.currentTimeMillis()))));
+                }
+                return results;
+            } finally {
+                applying.remove(id);
+            }
+        }
+    }
+}
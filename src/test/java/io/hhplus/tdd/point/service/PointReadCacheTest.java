@@ -0,0 +1,189 @@
+package io.hhplus.tdd.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PointReadCacheTest {
+
+    private final PointReadCache pointReadCache = new PointReadCache(
+        new ReadCacheProperties(true, 100L, 100L, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+
+    @DisplayName("UserPoint 조회 - getUserPoint() 테스트")
+    @Nested
+    class GetUserPointTest {
+        @DisplayName("한 번 읽은 UserPoint는 캐시에서 반환하고 hit로 집계한다.")
+        @Test
+        void should_ReturnCachedValue_When_ReadTwice() {
+            // given
+            long id = 1L;
+            AtomicInteger loadCount = new AtomicInteger();
+            UserPoint userPoint = new UserPoint(id, 100L, 1L);
+
+            // when
+            pointReadCache.getUserPoint(id, () -> {
+                loadCount.incrementAndGet();
+                return Optional.of(userPoint);
+            });
+            Optional<UserPoint> result = pointReadCache.getUserPoint(id, () -> {
+                loadCount.incrementAndGet();
+                return Optional.of(userPoint);
+            });
+
+            // then
+            assertThat(result).contains(userPoint);
+            assertThat(loadCount.get()).isEqualTo(1);
+            assertThat(pointReadCache.userPointStats().hitCount()).isEqualTo(1);
+            assertThat(pointReadCache.userPointStats().missCount()).isEqualTo(1);
+        }
+
+        @DisplayName("존재하지 않는 유저는 캐시하지 않는다.")
+        @Test
+        void should_NotCacheEmpty_When_UserNotFound() {
+            // given
+            long id = 1L;
+            UserPoint charged = new UserPoint(id, 100L, 1L);
+            pointReadCache.getUserPoint(id, Optional::empty);
+
+            // when
+            Optional<UserPoint> result = pointReadCache.getUserPoint(id, () -> Optional.of(charged));
+
+            // then
+            assertThat(result).contains(charged);
+        }
+
+        @DisplayName("조회 중에 저장된 값은 조회가 끝난 뒤 반영되어, 이전 값이 캐시에 남지 않는다.")
+        @Test
+        void should_KeepWrittenValue_When_PutDuringLoad() throws InterruptedException {
+            // given
+            long id = 1L;
+            UserPoint stale = new UserPoint(id, 100L, 1L);
+            UserPoint written = new UserPoint(id, 300L, 2L);
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            Thread reader = new Thread(() -> pointReadCache.getUserPoint(id, () -> {
+                loading.countDown();
+                await(release);
+                return Optional.of(stale);
+            }));
+            reader.start();
+            loading.await();
+
+            // when
+            Thread writer = new Thread(() -> pointReadCache.putUserPoint(written));
+            writer.start();
+            Thread.sleep(100);
+            release.countDown();
+            reader.join();
+            writer.join();
+
+            // then
+            assertThat(pointReadCache.getUserPoint(id, () -> Optional.of(stale))).contains(written);
+        }
+    }
+
+    @DisplayName("내역 조회 - getHistories() 테스트")
+    @Nested
+    class GetHistoriesTest {
+        @DisplayName("무효화한 뒤에는 내역을 다시 읽는다.")
+        @Test
+        void should_ReloadHistories_When_Invalidated() {
+            // given
+            long userId = 1L;
+            PointHistory charge = PointHistory.createChargeHistory(userId, 100L, 1L);
+            PointHistory use = PointHistory.createUseHistory(userId, 50L, 2L);
+            pointReadCache.getHistories(userId, () -> List.of(charge));
+
+            // when
+            pointReadCache.invalidateHistories(userId);
+            List<PointHistory> result = pointReadCache.getHistories(userId, () -> List.of(charge, use));
+
+            // then
+            assertThat(result).containsExactly(charge, use);
+        }
+
+        @DisplayName("캐시를 끄면 항상 loader로 읽는다.")
+        @Test
+        void should_AlwaysLoad_When_Disabled() {
+            // given
+            PointReadCache disabled = new PointReadCache(
+                new ReadCacheProperties(false, 100L, 100L, Duration.ofMinutes(1)),
+                new SimpleMeterRegistry());
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            for (int i = 0; i < 2; ++i) {
+                disabled.getHistories(1L, () -> {
+                    loadCount.incrementAndGet();
+                    return List.of();
+                });
+            }
+
+            // then
+            assertThat(loadCount.get()).isEqualTo(2);
+        }
+    }
+
+    @DisplayName("내역 페이지 조회 - getHistoryPage() 테스트")
+    @Nested
+    class GetHistoryPageTest {
+        @DisplayName("첫 페이지는 조회 조건별로 캐시하고, 무효화하면 다시 읽는다.")
+        @Test
+        void should_CacheFirstPageUntilInvalidated() {
+            // given
+            long userId = 1L;
+            PointHistoryQuery query = new PointHistoryQuery(null, null, null, 3);
+            PointHistory charge = PointHistory.createChargeHistory(userId, 100L, 1L);
+            PointHistory use = PointHistory.createUseHistory(userId, 50L, 2L);
+            pointReadCache.getHistoryPage(userId, query, () -> List.of(charge));
+
+            // when
+            List<PointHistory> cached = pointReadCache.getHistoryPage(userId, query, () -> List.of(charge, use));
+            pointReadCache.invalidateHistories(userId);
+            List<PointHistory> reloaded = pointReadCache.getHistoryPage(userId, query, () -> List.of(charge, use));
+
+            // then
+            assertThat(cached).containsExactly(charge);
+            assertThat(reloaded).containsExactly(charge, use);
+        }
+
+        @DisplayName("cursor가 있는 페이지는 캐시하지 않는다.")
+        @Test
+        void should_AlwaysLoad_When_CursorGiven() {
+            // given
+            PointHistoryQuery query = new PointHistoryQuery(10L, null, null, 3);
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            for (int i = 0; i < 2; ++i) {
+                pointReadCache.getHistoryPage(1L, query, () -> {
+                    loadCount.incrementAndGet();
+                    return List.of();
+                });
+            }
+
+            // then
+            assertThat(loadCount.get()).isEqualTo(2);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -12,6 +12,7 @@ import io.hhplus.tdd.point.model.PointHistory;
 import io.hhplus.tdd.point.model.TransactionType;
 import io.hhplus.tdd.point.model.UserPoint;
 import io.hhplus.tdd.point.repository.PointHistoryInMemoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryIndex;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointInMemoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
@@ -42,7 +43,11 @@ public class PointServiceIntegrationTest {
     @Autowired
     private PointHistoryRepository pointHistoryRepository;
     @Autowired
+    private PointHistoryIndex pointHistoryIndex;
+    @Autowired
     private PointService pointService;
+    @Autowired
+    private PointReadCache pointReadCache;
 
     @AfterEach
     public void tearDown() {
@@ -60,6 +65,9 @@ public class PointServiceIntegrationTest {
                 ReflectionTestUtils.setField(pointHistoryTable, "cursor", 1);
             }
         }
+        pointHistoryIndex.clear();
+        // 캐시는 기본으로 켜져 있으므로, 앞선 테스트가 담은 값이 다음 테스트의 직접 저장을 가리지 않게 비운다.
+        pointReadCache.invalidateAll();
     }
 
     @DisplayName("포인트 조회 통합 테스트 - getUserPoint()")
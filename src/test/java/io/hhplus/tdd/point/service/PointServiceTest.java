@@ -4,24 +4,40 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.hhplus.tdd.point.dto.PointDto.BatchOperation;
+import io.hhplus.tdd.point.dto.PointDto.BatchResult;
 import io.hhplus.tdd.point.dto.PointDto.PointDetail;
 import io.hhplus.tdd.point.dto.PointDto.PointHistoryDetail;
+import io.hhplus.tdd.point.dto.PointDto.PointHistoryPage;
 import io.hhplus.tdd.point.exception.PointErrorCode;
 import io.hhplus.tdd.point.exception.PointException;
 import io.hhplus.tdd.point.model.PointHistory;
 import io.hhplus.tdd.point.model.TransactionType;
 import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.repository.AtomicUserPointRepository;
+import io.hhplus.tdd.point.repository.HistoryDerivedUserPointRepository;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
 import io.hhplus.tdd.point.validator.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -30,6 +46,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,11 +62,54 @@ class PointServiceTest {
     private PointHistoryRepository pointHistoryRepository;
 
     @Mock
-    private SelectiveLockFactory lockFactory;
+    private PointMutationExecutor mutationExecutor;
+
+    @Mock
+    private PointBatchExecutor batchExecutor;
+
+    @Mock
+    private PointOperationCombiner operationCombiner;
+
+    @Mock
+    private PointMetrics pointMetrics;
+
+    // 잔액 → 내역 순서로 저장하는 실제 객체를 사용한다.
+    @Spy
+    private PointWriteExecutor writeExecutor = new PointWriteExecutor(new WriteProperties(false, 64),
+        new PointMetrics(new SimpleMeterRegistry()), false);
+
+    // 캐시를 끈 실제 객체를 사용해 항상 Repository를 조회하도록 한다.
+    @Spy
+    private PointReadCache pointReadCache = new PointReadCache(
+        new ReadCacheProperties(false, 0L, 0L, Duration.ofSeconds(1)), new SimpleMeterRegistry());
+
+    // 처리량 제한을 두지 않은 실제 객체를 사용한다.
+    @Spy
+    private PointAdmissionControl admissionControl = new PointAdmissionControl(
+        new AdmissionProperties(0, 0, 0, 0, 0, Duration.ZERO),
+        new PointMetrics(new SimpleMeterRegistry()), new SimpleMeterRegistry());
+
+    @Spy
+    private IdempotencyStore idempotencyStore = new IdempotencyStore(
+        new IdempotencyProperties(100L, Duration.ofMinutes(1)), new SimpleMeterRegistry());
 
     @InjectMocks
     private PointService pointService;
 
+    /**
+     * 기본 UserPointRepository mock 대신 capability 인터페이스를 구현한 저장소로 PointService를 만든다.
+     */
+    private PointService pointServiceWith(UserPointRepository repository) {
+        return new PointService(repository, pointHistoryRepository, pointValidator, mutationExecutor,
+            batchExecutor, writeExecutor, operationCombiner, admissionControl, pointMetrics,
+            pointReadCache, idempotencyStore);
+    }
+
+    private void givenExecutorRunsTask(long id) {
+        when(mutationExecutor.execute(eq(id), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
     @DisplayName("포인트 조회 - getUserPoint() 테스트")
     @Nested
     class GetUserPointTest {
@@ -157,6 +217,94 @@ class PointServiceTest {
         }
     }
     
+    @DisplayName("포인트 내역 페이지 조회 - getUserPointHistories(cursor, limit) 테스트")
+    @Nested
+    class GetPointHistoryPageTest {
+        @DisplayName("limit보다 많은 내역이 있으면 마지막 내역의 id를 다음 cursor로 반환한다.")
+        @Test
+        void should_ReturnNextCursor_When_MoreHistoriesExist() {
+            // given
+            long userId = 0L;
+            int limit = 2;
+            List<PointHistory> pointHistories = List.of(
+                new PointHistory(1L, userId, 100L, TransactionType.CHARGE, 1L),
+                new PointHistory(2L, userId, 100L, TransactionType.CHARGE, 2L),
+                new PointHistory(3L, userId, 100L, TransactionType.CHARGE, 3L)
+            );
+
+            when(pointHistoryRepository.selectByUserId(userId,
+                new PointHistoryQuery(null, null, null, limit + 1)))
+                .thenReturn(pointHistories);
+
+            // when
+            PointHistoryPage page = pointService.getUserPointHistories(userId, null, limit,
+                null, null);
+
+            // then
+            assertThat(page.getHistories())
+                .extracting(PointHistoryDetail::getId)
+                .containsExactly(1L, 2L);
+            assertThat(page.getNextCursor()).isEqualTo(2L);
+        }
+
+        @DisplayName("마지막 페이지면 다음 cursor는 null이다.")
+        @Test
+        void should_ReturnNullCursor_When_LastPage() {
+            // given
+            long userId = 0L;
+            int limit = 2;
+            List<PointHistory> pointHistories = List.of(
+                new PointHistory(3L, userId, 100L, TransactionType.USE, 3L)
+            );
+
+            when(pointHistoryRepository.selectByUserId(userId,
+                new PointHistoryQuery(2L, null, null, limit + 1)))
+                .thenReturn(pointHistories);
+
+            // when
+            PointHistoryPage page = pointService.getUserPointHistories(userId, 2L, limit,
+                null, null);
+
+            // then
+            assertThat(page.getHistories()).hasSize(1);
+            assertThat(page.getNextCursor()).isNull();
+        }
+    }
+
+    @DisplayName("포인트 내역 내보내기 - exportHistories() 테스트")
+    @Nested
+    class ExportHistoriesTest {
+        @DisplayName("한 페이지가 가득 차면 마지막 id 이후로 다음 페이지를 이어서 조회한다.")
+        @Test
+        void should_ReadNextPage_When_PageIsFull() {
+            // given
+            long userId = 0L;
+            int pageSize = 500;
+            List<PointHistory> firstPage = new ArrayList<>();
+            for (long id = 1; id <= pageSize; ++id) {
+                firstPage.add(new PointHistory(id, userId, 100L, TransactionType.CHARGE, id));
+            }
+            List<PointHistory> secondPage = List.of(
+                new PointHistory(pageSize + 1L, userId, 100L, TransactionType.CHARGE, 0L));
+
+            when(pointHistoryRepository.selectByUserId(userId,
+                new PointHistoryQuery(null, null, null, TransactionType.CHARGE, pageSize)))
+                .thenReturn(firstPage);
+            when(pointHistoryRepository.selectByUserId(userId,
+                new PointHistoryQuery((long) pageSize, null, null, TransactionType.CHARGE, pageSize)))
+                .thenReturn(secondPage);
+
+            // when
+            List<PointHistoryDetail> exported = new ArrayList<>();
+            pointService.exportHistories(List.of(userId), TransactionType.CHARGE, null, null,
+                exported::add);
+
+            // then
+            assertThat(exported).hasSize(pageSize + 1);
+            assertThat(exported.get(pageSize).getId()).isEqualTo(pageSize + 1L);
+        }
+    }
+
     @DisplayName("포인트 충전 - charge() 테스트")
     @Nested
     class ChargeTest {
@@ -171,8 +319,7 @@ class PointServiceTest {
 
             doNothing().when(pointValidator).checkAmount(chargeAmount);
 
-            when(lockFactory.getLock(firstChargerId))
-                .thenReturn(new ReentrantLock());
+            givenExecutorRunsTask(firstChargerId);
 
             when(userPointRepository.selectById(firstChargerId))
                 .thenReturn(Optional.empty());
@@ -207,8 +354,7 @@ class PointServiceTest {
 
             doNothing().when(pointValidator).checkAmount(chargeAmount);
 
-            when(lockFactory.getLock(existId))
-                .thenReturn(new ReentrantLock());
+            givenExecutorRunsTask(existId);
 
             when(userPointRepository.selectById(existId))
                 .thenReturn(Optional.of(existUserPoint));
@@ -225,6 +371,58 @@ class PointServiceTest {
             assertThat(chargeResult.getUpdateMillis()).isEqualTo(expectedUserPoint.updateMillis());
         }
 
+        @DisplayName("저장소가 원자적 충전을 지원하면 조회/저장 없이 chargeAtomically로 충전한다.")
+        @Test
+        void should_ChargeAtomically_When_RepositorySupportsAtomicUpdate() {
+            // given
+            long id = 1L;
+            long chargeAmount = 100L;
+            UserPoint chargedUserPoint = new UserPoint(id, chargeAmount, System.currentTimeMillis());
+
+            doNothing().when(pointValidator).checkAmount(chargeAmount);
+
+            givenExecutorRunsTask(id);
+
+            AtomicUserPointRepository atomicRepository = mock(AtomicUserPointRepository.class);
+            when(atomicRepository.chargeAtomically(id, chargeAmount, 100_000L))
+                .thenReturn(chargedUserPoint);
+
+            // when
+            PointDetail chargeResult = pointServiceWith(atomicRepository).charge(id, chargeAmount);
+
+            // then
+            assertThat(chargeResult.getPointAmount()).isEqualTo(chargeAmount);
+            verify(atomicRepository, never()).selectById(id);
+            verify(atomicRepository, never()).insertOrUpdate(any(UserPoint.class));
+        }
+
+        @DisplayName("잔액이 내역으로부터 계산되는 저장소면 잔액 저장 없이 내역 한 건만 저장한다.")
+        @Test
+        void should_AppendHistoryOnly_When_RepositoryDerivedFromHistory() {
+            // given
+            long id = 1L;
+            long chargeAmount = 100L;
+            UserPoint chargedUserPoint = new UserPoint(id, chargeAmount, System.currentTimeMillis());
+
+            doNothing().when(pointValidator).checkAmount(chargeAmount);
+
+            givenExecutorRunsTask(id);
+
+            HistoryDerivedUserPointRepository derivedRepository =
+                mock(HistoryDerivedUserPointRepository.class);
+            when(derivedRepository.selectById(id)).thenReturn(Optional.empty());
+            when(derivedRepository.appendHistory(any(PointHistory.class)))
+                .thenReturn(chargedUserPoint);
+
+            // when
+            PointDetail chargeResult = pointServiceWith(derivedRepository).charge(id, chargeAmount);
+
+            // then
+            assertThat(chargeResult.getPointAmount()).isEqualTo(chargeAmount);
+            verify(derivedRepository, never()).insertOrUpdate(any(UserPoint.class));
+            verify(pointHistoryRepository, never()).insert(any(PointHistory.class));
+        }
+
         @DisplayName("충전을 완료한 뒤에 PointHistory를 저장한다.")
         @Test
         void should_SavePointHistory_When_AfterChargeFinish() {
@@ -235,8 +433,7 @@ class PointServiceTest {
 
             doNothing().when(pointValidator).checkAmount(chargeAmount);
 
-            when(lockFactory.getLock(id))
-                .thenReturn(new ReentrantLock());
+            givenExecutorRunsTask(id);
 
             when(userPointRepository.selectById(id))
                 .thenReturn(Optional.empty());
@@ -255,11 +452,143 @@ class PointServiceTest {
             assertThat(pointHistory.id()).isEqualTo(id);
             assertThat(pointHistory.amount()).isEqualTo(chargeAmount);
         }
+
+        @DisplayName("PointHistory 저장에 실패하면 잔액을 충전 전 값으로 되돌리고 예외를 던진다.")
+        @Test
+        void should_RestoreBalance_When_HistoryInsertFailed() {
+            // given
+            long id = 1L;
+            long chargeAmount = 100L;
+            UserPoint current = new UserPoint(id, 500L, System.currentTimeMillis());
+            UserPoint charged = new UserPoint(id, 600L, System.currentTimeMillis());
+
+            doNothing().when(pointValidator).checkAmount(chargeAmount);
+
+            givenExecutorRunsTask(id);
+
+            when(userPointRepository.selectById(id)).thenReturn(Optional.of(current));
+            when(userPointRepository.insertOrUpdate(any(UserPoint.class))).thenReturn(charged);
+            when(pointHistoryRepository.insert(any(PointHistory.class)))
+                .thenThrow(new IllegalStateException("history table unavailable"));
+
+            // when, then
+            assertThatThrownBy(() -> pointService.charge(id, chargeAmount))
+                .isInstanceOf(IllegalStateException.class);
+
+            ArgumentCaptor<UserPoint> captor = ArgumentCaptor.forClass(UserPoint.class);
+            verify(userPointRepository, times(2)).insertOrUpdate(captor.capture());
+            assertThat(captor.getAllValues())
+                .extracting(UserPoint::point)
+                .containsExactly(600L, 500L);
+        }
+
+        @DisplayName("원자적으로 충전하는 저장소에서 PointHistory 저장에 실패하면 충전한 만큼 다시 차감한다.")
+        @Test
+        void should_ReverseAtomicCharge_When_HistoryInsertFailed() {
+            // given
+            long id = 1L;
+            long chargeAmount = 100L;
+
+            doNothing().when(pointValidator).checkAmount(chargeAmount);
+
+            givenExecutorRunsTask(id);
+
+            AtomicUserPointRepository atomicRepository = mock(AtomicUserPointRepository.class);
+            when(atomicRepository.chargeAtomically(eq(id), eq(chargeAmount), anyLong()))
+                .thenReturn(new UserPoint(id, 600L, System.currentTimeMillis()));
+            when(pointHistoryRepository.insert(any(PointHistory.class)))
+                .thenThrow(new IllegalStateException("history table unavailable"));
+
+            // when, then
+            assertThatThrownBy(() -> pointServiceWith(atomicRepository).charge(id, chargeAmount))
+                .isInstanceOf(IllegalStateException.class);
+            verify(atomicRepository).useAtomically(id, chargeAmount);
+        }
+
+        @DisplayName("같은 Idempotency-Key로 재시도하면 다시 충전하지 않고 처음 결과를 반환한다.")
+        @Test
+        void should_ReturnStoredResult_When_RetriedWithSameIdempotencyKey() {
+            // given
+            long id = 1L;
+            long chargeAmount = 100L;
+            String idempotencyKey = "charge-1";
+            UserPoint charged = new UserPoint(id, chargeAmount, System.currentTimeMillis());
+
+            doNothing().when(pointValidator).checkAmount(chargeAmount);
+
+            givenExecutorRunsTask(id);
+
+            when(userPointRepository.selectById(id)).thenReturn(Optional.empty());
+            when(userPointRepository.insertOrUpdate(any(UserPoint.class))).thenReturn(charged);
+
+            // when
+            PointDetail first = pointService.charge(id, chargeAmount, idempotencyKey);
+            PointDetail retried = pointService.charge(id, chargeAmount, idempotencyKey);
+
+            // then
+            assertThat(retried).isSameAs(first);
+            verify(userPointRepository, times(1)).insertOrUpdate(any(UserPoint.class));
+            verify(pointHistoryRepository, times(1)).insert(any(PointHistory.class));
+            verify(pointMetrics).countIdempotentReplay();
+        }
+
+        @DisplayName("같은 Idempotency-Key로 금액이 다른 요청을 보내면 PointException이 발생한다.")
+        @Test
+        void should_ThrowPointException_When_IdempotencyKeyReusedWithDifferentAmount() {
+            // given
+            long id = 1L;
+            String idempotencyKey = "charge-1";
+            idempotencyStore.save(id, idempotencyKey, PointOperation.charge(100L),
+                PointDetail.of(new UserPoint(id, 100L, System.currentTimeMillis())));
+
+            doNothing().when(pointValidator).checkAmount(200L);
+
+            givenExecutorRunsTask(id);
+
+            // when, then
+            assertThatThrownBy(() -> pointService.charge(id, 200L, idempotencyKey))
+                .isSameAs(PointException.IDEMPOTENCY_KEY_REUSED);
+            verify(userPointRepository, never()).insertOrUpdate(any(UserPoint.class));
+        }
     }
     
     @DisplayName("포인트 사용 - use() 테스트")
     @Nested
     class UseTest {
+        @DisplayName("처리량 제한에 걸리면 유저 락을 잡지 않고 PointException이 발생한다.")
+        @Test
+        void should_ThrowPointException_When_RejectedByAdmissionControl() {
+            // given
+            long id = 1L;
+            long useAmount = 100L;
+
+            doNothing().when(pointValidator).checkAmount(useAmount);
+            doThrow(PointException.TOO_MANY_USER_REQUESTS).when(admissionControl).admit(eq(id), any());
+
+            // when, then
+            assertThatThrownBy(() -> pointService.use(id, useAmount))
+                .isSameAs(PointException.TOO_MANY_USER_REQUESTS);
+            verify(mutationExecutor, never()).execute(anyLong(), any());
+        }
+
+        @DisplayName("combining 모드면 함께 묶여 처리된 결과 중 자기 요청의 실패를 PointException으로 던진다.")
+        @Test
+        void should_ThrowOwnFailure_When_CombiningEnabled() {
+            // given
+            long id = 1L;
+            long useAmount = 100L;
+
+            doNothing().when(pointValidator).checkAmount(useAmount);
+            when(operationCombiner.isEnabled()).thenReturn(true);
+            when(operationCombiner.submit(eq(id), eq(PointOperation.use(useAmount)), any()))
+                .thenReturn(PointOperationResult.failure(PointException.INSUFFICIENT_POINT_BALANCE));
+
+            // when, then
+            assertThatThrownBy(() -> pointService.use(id, useAmount))
+                .isSameAs(PointException.INSUFFICIENT_POINT_BALANCE);
+            verify(mutationExecutor, never()).execute(anyLong(), any());
+        }
+
         @DisplayName("해당하는 id에 대한 UserPoint가 없으면 PointException이 발생한다.")
         @Test
         void should_ThrowPointException_WhenUserPointNotFound() {
@@ -269,8 +598,7 @@ class PointServiceTest {
 
             doNothing().when(pointValidator).checkAmount(amount);
 
-            when(lockFactory.getLock(notExistId))
-                .thenReturn(new ReentrantLock());
+            givenExecutorRunsTask(notExistId);
 
             when(userPointRepository.selectById(notExistId))
                 .thenReturn(Optional.empty());
@@ -280,6 +608,29 @@ class PointServiceTest {
                 .isInstanceOf(PointException.class)
                 .hasMessage(PointErrorCode.NOT_FOUND_USER_POINT.getMessage());
         }
+
+        @DisplayName("포인트 사용에 실패하면 실패한 에러 코드로 지표를 기록한다.")
+        @Test
+        void should_CountFailure_When_UseFailed() {
+            // given
+            long notExistId = -1L;
+            long amount = 100L;
+
+            doNothing().when(pointValidator).checkAmount(amount);
+
+            givenExecutorRunsTask(notExistId);
+
+            when(userPointRepository.selectById(notExistId))
+                .thenReturn(Optional.empty());
+
+            // when
+            assertThatThrownBy(() -> pointService.use(notExistId, amount))
+                .isInstanceOf(PointException.class);
+
+            // then
+            verify(pointMetrics).countFailure(PointException.NOT_FOUND_USER_POINT);
+            verify(pointMetrics, never()).countSuccess();
+        }
         
         @DisplayName("포인트를 사용하면 사용한만큼 차감된 Point로 UserPoint를 업데이트하고, "
             + "PointDetail dto로 변환하여 반환한다.")
@@ -293,8 +644,7 @@ class PointServiceTest {
             UserPoint expectedUserPoint = new UserPoint(id, balanceAmount - useAmount,
                 System.currentTimeMillis());
 
-            when(lockFactory.getLock(id))
-                .thenReturn(new ReentrantLock());
+            givenExecutorRunsTask(id);
 
             when(userPointRepository.selectById(id))
                 .thenReturn(Optional.of(userPoint));
@@ -331,8 +681,7 @@ class PointServiceTest {
             UserPoint expectedUserPoint =
                 new UserPoint(id, balanceAmount - useAmount, System.currentTimeMillis());
 
-            when(lockFactory.getLock(id))
-                .thenReturn(new ReentrantLock());
+            givenExecutorRunsTask(id);
 
             when(userPointRepository.selectById(id))
                 .thenReturn(Optional.of(userPoint));
@@ -352,4 +701,139 @@ class PointServiceTest {
             assertThat(pointHistory.amount()).isEqualTo(useAmount);
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("일괄 충전/사용 - executeBatch() 테스트")
+    @Nested
+    class ExecuteBatchTest {
+        @DisplayName("유저별로 요청 순서대로 적용하고, 실패한 요청은 건별로 결과에 담는다.")
+        @Test
+        void should_ApplyInOrderAndReportFailures_When_ExecuteBatch() {
+            // given
+            long userId = 1L;
+            long notExistUserId = 2L;
+            List<BatchOperation> operations = List.of(
+                new BatchOperation(userId, 100L, TransactionType.CHARGE),
+                new BatchOperation(notExistUserId, 100L, TransactionType.USE),
+                new BatchOperation(userId, 500L, TransactionType.USE),
+                new BatchOperation(userId, 30L, TransactionType.USE)
+            );
+
+            when(batchExecutor.invokeAll(any()))
+                .thenAnswer(invocation -> invocation.<List<Supplier<?>>>getArgument(0).stream()
+                    .map(Supplier::get)
+                    .toList());
+            givenExecutorRunsTask(userId);
+            givenExecutorRunsTask(notExistUserId);
+
+            when(userPointRepository.selectById(userId))
+                .thenReturn(Optional.of(new UserPoint(userId, 50L, System.currentTimeMillis())));
+            when(userPointRepository.selectById(notExistUserId))
+                .thenReturn(Optional.empty());
+
+            // when
+            List<BatchResult> results = pointService.executeBatch(operations);
+
+            // then
+            assertThat(results)
+                .extracting(BatchResult::getIndex, BatchResult::getUserId, BatchResult::isSuccess)
+                .containsExactly(
+                    tuple(0, userId, true),
+                    tuple(1, notExistUserId, false),
+                    tuple(2, userId, false),
+                    tuple(3, userId, true)
+                );
+            assertThat(results.get(0).getPoint().getPointAmount()).isEqualTo(150L);
+            assertThat(results.get(1).getError().code())
+                .isEqualTo(PointErrorCode.NOT_FOUND_USER_POINT.getCode());
+            assertThat(results.get(2).getError().code())
+                .isEqualTo(PointErrorCode.INSUFFICIENT_POINT_BALANCE.getCode());
+            assertThat(results.get(3).getPoint().getPointAmount()).isEqualTo(120L);
+
+            // 유저당 최종 값만 한 번 저장하고, 성공한 요청만 내역을 남긴다.
+            ArgumentCaptor<UserPoint> userPointCaptor = ArgumentCaptor.forClass(UserPoint.class);
+            verify(userPointRepository, times(1)).insertOrUpdate(userPointCaptor.capture());
+            assertThat(userPointCaptor.getValue().point()).isEqualTo(120L);
+            verify(pointHistoryRepository, times(2)).insert(any(PointHistory.class));
+        }
+
+        @DisplayName("한 유저의 묶음이 통째로 실패해도 다른 유저의 결과와 함께 건별 실패로 담는다.")
+        @Test
+        void should_ReportGroupFailurePerItem_When_UserGroupFails() {
+            // given
+            long userId = 1L;
+            long timedOutUserId = 2L;
+            List<BatchOperation> operations = List.of(
+                new BatchOperation(timedOutUserId, 100L, TransactionType.CHARGE),
+                new BatchOperation(userId, 100L, TransactionType.CHARGE),
+                new BatchOperation(timedOutUserId, 50L, TransactionType.USE)
+            );
+
+            when(batchExecutor.invokeAll(any()))
+                .thenAnswer(invocation -> invocation.<List<Supplier<?>>>getArgument(0).stream()
+                    .map(Supplier::get)
+                    .toList());
+            givenExecutorRunsTask(userId);
+            when(mutationExecutor.execute(eq(timedOutUserId), any()))
+                .thenThrow(PointException.LOCK_WAIT_TIMEOUT);
+
+            when(userPointRepository.selectById(userId))
+                .thenReturn(Optional.of(new UserPoint(userId, 50L, System.currentTimeMillis())));
+
+            // when
+            List<BatchResult> results = pointService.executeBatch(operations);
+
+            // then
+            assertThat(results)
+                .extracting(BatchResult::getIndex, BatchResult::getUserId, BatchResult::isSuccess)
+                .containsExactly(
+                    tuple(0, timedOutUserId, false),
+                    tuple(1, userId, true),
+                    tuple(2, timedOutUserId, false)
+                );
+            assertThat(results.get(0).getError().code())
+                .isEqualTo(PointErrorCode.LOCK_WAIT_TIMEOUT.getCode());
+            assertThat(results.get(2).getError().code())
+                .isEqualTo(PointErrorCode.LOCK_WAIT_TIMEOUT.getCode());
+        }
+
+        @DisplayName("유저 묶음은 요청 수만큼 처리량 제한을 거치고, 거절되면 건별 실패로 담는다.")
+        @Test
+        void should_ReportRejectionPerItem_When_UserGroupNotAdmitted() {
+            // given
+            long userId = 1L;
+            long limitedUserId = 2L;
+            List<BatchOperation> operations = List.of(
+                new BatchOperation(limitedUserId, 100L, TransactionType.CHARGE),
+                new BatchOperation(userId, 100L, TransactionType.CHARGE),
+                new BatchOperation(limitedUserId, 50L, TransactionType.USE)
+            );
+
+            when(batchExecutor.invokeAll(any()))
+                .thenAnswer(invocation -> invocation.<List<Supplier<?>>>getArgument(0).stream()
+                    .map(Supplier::get)
+                    .toList());
+            givenExecutorRunsTask(userId);
+            doCallRealMethod().when(admissionControl).admit(eq(userId), eq(1), any());
+            doThrow(PointException.TOO_MANY_USER_REQUESTS)
+                .when(admissionControl).admit(eq(limitedUserId), eq(2), any());
+
+            when(userPointRepository.selectById(userId))
+                .thenReturn(Optional.of(new UserPoint(userId, 50L, System.currentTimeMillis())));
+
+            // when
+            List<BatchResult> results = pointService.executeBatch(operations);
+
+            // then
+            assertThat(results)
+                .extracting(BatchResult::getIndex, BatchResult::getUserId, BatchResult::isSuccess)
+                .containsExactly(
+                    tuple(0, limitedUserId, false),
+                    tuple(1, userId, true),
+                    tuple(2, limitedUserId, false)
+                );
+            assertThat(results.get(0).getError().code())
+                .isEqualTo(PointErrorCode.TOO_MANY_USER_REQUESTS.getCode());
+            verify(mutationExecutor, never()).execute(eq(limitedUserId), any());
+        }
+    }
+}
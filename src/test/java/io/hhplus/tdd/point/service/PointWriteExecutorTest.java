@@ -0,0 +1,156 @@
+package io.hhplus.tdd.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PointWriteExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointWriteExecutor parallelExecutor = new PointWriteExecutor(
+        new WriteProperties(true, 1), new PointMetrics(meterRegistry), false);
+    private final List<String> undone = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        parallelExecutor.shutdown();
+    }
+
+    private double compensationCount() {
+        return meterRegistry.get("point.write.compensation").counter().count();
+    }
+
+    @DisplayName("동시 저장 - write() 테스트")
+    @Nested
+    class ParallelWriteTest {
+        @DisplayName("두 저장을 동시에 실행해 걸린 시간이 두 저장 시간의 합보다 짧다.")
+        @Test
+        void should_TakeMaxLatency_When_BothWritesSucceed() {
+            // given
+            long start = System.nanoTime();
+
+            // when
+            String result = parallelExecutor.write(() -> {
+                    sleep(200);
+                    return "balance";
+                }, () -> sleep(200),
+                saved -> undone.add("balance"), () -> undone.add("history"));
+
+            // then
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertThat(result).isEqualTo("balance");
+            assertThat(elapsedMillis).isLessThan(380L);
+            assertThat(undone).isEmpty();
+        }
+
+        @DisplayName("내역 저장이 실패하면 저장된 잔액을 되돌리고 내역 저장의 예외를 던진다.")
+        @Test
+        void should_UndoBalance_When_HistoryWriteFailed() {
+            // given
+            IllegalStateException failure = new IllegalStateException("history");
+
+            // when, then
+            assertThatThrownBy(() -> parallelExecutor.write(() -> "balance",
+                () -> {
+                    throw failure;
+                },
+                saved -> undone.add(saved), () -> undone.add("history")))
+                .isSameAs(failure);
+            assertThat(undone).containsExactly("balance", "history");
+            assertThat(compensationCount()).isEqualTo(1.0);
+        }
+
+        @DisplayName("잔액 저장이 실패하면 잔액은 되돌리지 않고 내역만 되돌린다.")
+        @Test
+        void should_UndoHistoryOnly_When_BalanceWriteFailed() {
+            // given
+            IllegalStateException failure = new IllegalStateException("balance");
+
+            // when, then
+            assertThatThrownBy(() -> parallelExecutor.<String>write(() -> {
+                    throw failure;
+                }, () -> { },
+                saved -> undone.add("balance"), () -> undone.add("history")))
+                .isSameAs(failure);
+            assertThat(undone).containsExactly("history");
+        }
+    }
+
+    @DisplayName("내역 저장 스레드 포화 - write() 테스트")
+    @Nested
+    class SaturatedWriteTest {
+        @DisplayName("별도 스레드의 내역 저장이 한도에 이르면 호출 스레드에서 내역을 저장한다.")
+        @Test
+        void should_RunHistoryOnCaller_When_HistoryWritersSaturated() throws InterruptedException {
+            // given
+            CountDownLatch historyStarted = new CountDownLatch(1);
+            CountDownLatch releaseHistory = new CountDownLatch(1);
+            CompletableFuture<String> blocked = CompletableFuture.supplyAsync(() ->
+                parallelExecutor.write(() -> "first", () -> {
+                    historyStarted.countDown();
+                    await(releaseHistory);
+                }, saved -> undone.add("first"), () -> undone.add("first")));
+            historyStarted.await();
+
+            // when
+            List<Thread> historyThreads = new ArrayList<>();
+            String result = parallelExecutor.write(() -> "second",
+                () -> historyThreads.add(Thread.currentThread()),
+                saved -> undone.add("second"), () -> undone.add("second"));
+            releaseHistory.countDown();
+
+            // then
+            assertThat(result).isEqualTo("second");
+            assertThat(historyThreads).containsExactly(Thread.currentThread());
+            assertThat(blocked.join()).isEqualTo("first");
+            assertThat(undone).isEmpty();
+        }
+    }
+
+    @DisplayName("순서대로 저장 - writeSequentially() 테스트")
+    @Nested
+    class SequentialWriteTest {
+        @DisplayName("잔액 저장이 실패하면 내역은 저장하지 않고 되돌리지도 않는다.")
+        @Test
+        void should_SkipHistory_When_BalanceWriteFailed() {
+            // given
+            List<String> written = new ArrayList<>();
+
+            // when, then
+            assertThatThrownBy(() -> parallelExecutor.<String>writeSequentially(() -> {
+                    throw new IllegalStateException("balance");
+                }, () -> written.add("history"),
+                saved -> undone.add("balance"), () -> undone.add("history")))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(written).isEmpty();
+            assertThat(undone).isEmpty();
+            assertThat(compensationCount()).isZero();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
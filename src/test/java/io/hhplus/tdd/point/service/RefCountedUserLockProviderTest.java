@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.hhplus.tdd.point.exception.PointException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RefCountedUserLockProviderTest {
+
+    private final RefCountedUserLockProvider lockProvider = new RefCountedUserLockProvider();
+
+    @DisplayName("락 실행 - executeWithLock() 테스트")
+    @Nested
+    class ExecuteWithLockTest {
+        @DisplayName("task 실행이 끝나면 해당 유저의 락은 map에서 제거된다.")
+        @Test
+        void should_RemoveLock_When_TaskFinished() {
+            // when
+            for (long id = 0; id < 1_000; ++id) {
+                lockProvider.executeWithLock(id, () -> null);
+            }
+
+            // then
+            assertThat(lockProvider.size()).isZero();
+        }
+
+        @DisplayName("task에서 예외가 발생해도 락은 map에서 제거된다.")
+        @Test
+        void should_RemoveLock_When_TaskThrowsException() {
+            // when, then
+            assertThatThrownBy(() -> lockProvider.executeWithLock(1L, () -> {
+                throw new IllegalStateException();
+            })).isInstanceOf(IllegalStateException.class);
+
+            assertThat(lockProvider.size()).isZero();
+        }
+
+        @DisplayName("같은 유저에 대한 task는 동시에 실행되지 않는다.")
+        @Test
+        void should_NotRunConcurrently_When_SameUser() throws InterruptedException {
+            // given
+            long id = 1L;
+            int executeCount = 20;
+            long[] counter = {0L}; // 락 없이 증가시키는 값
+            ExecutorService executorService = Executors.newFixedThreadPool(executeCount);
+            CountDownLatch latch = new CountDownLatch(executeCount);
+
+            // when
+            for (int i = 0; i < executeCount; ++i) {
+                executorService.submit(() -> {
+                    try {
+                        for (int j = 0; j < 1_000; ++j) {
+                            lockProvider.executeWithLock(id, () -> counter[0]++);
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await(30, TimeUnit.SECONDS);
+            executorService.shutdown();
+
+            // then
+            assertThat(counter[0]).isEqualTo(executeCount * 1_000L);
+            assertThat(lockProvider.size()).isZero();
+        }
+
+        @DisplayName("waitTimeout 안에 락을 얻지 못하면 task를 실행하지 않고 PointException이 발생한다.")
+        @Test
+        void should_ThrowPointException_When_LockWaitTimedOut() throws InterruptedException {
+            // given
+            long id = 1L;
+            CountDownLatch locked = new CountDownLatch(1);
+            CountDownLatch finish = new CountDownLatch(1);
+            Thread holder = new Thread(() -> lockProvider.executeWithLock(id, () -> {
+                locked.countDown();
+                try {
+                    return finish.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            holder.start();
+            locked.await(10, TimeUnit.SECONDS);
+
+            // when, then
+            assertThatThrownBy(() -> lockProvider.executeWithLock(id, Duration.ofMillis(10),
+                () -> {
+                    throw new IllegalStateException("실행되면 안 된다.");
+                }))
+                .isSameAs(PointException.LOCK_WAIT_TIMEOUT);
+
+            finish.countDown();
+            holder.join();
+            assertThat(lockProvider.size()).isZero();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point.service.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.service.LockProperties;
+import io.hhplus.tdd.point.service.RefCountedUserLockProvider;
+import io.hhplus.tdd.point.service.SelectiveLockFactory;
+import io.hhplus.tdd.point.service.StripedUserLockProvider;
+import io.hhplus.tdd.point.service.UserLockProvider;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 락 제공자별 힙 사용량과 경합 비용 비교
+ * - 결과는 로그로 남기고, 메모리 사용량이 유저 수에 비례하는지 여부만 검증한다.
+ */
+public class UserLockProviderBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UserLockProviderBenchmarkTest.class);
+
+    private static final int DISTINCT_USER_COUNT = 1_000_000;
+
+    @DisplayName("유저 수에 따른 힙 사용량 비교")
+    @Nested
+    class HeapFootprintTest {
+        @DisplayName("SelectiveLockFactory는 유저 수만큼 락이 남지만, 나머지는 유저 수와 무관하다.")
+        @Test
+        void should_KeepBoundedLocks_When_ManyDistinctUsers() {
+            // given
+            SelectiveLockFactory selective = new SelectiveLockFactory();
+            StripedUserLockProvider striped = new StripedUserLockProvider(new LockProperties(1024));
+            RefCountedUserLockProvider refCounted = new RefCountedUserLockProvider();
+
+            // when
+            long selectiveBytes = measureHeap(selective);
+            long stripedBytes = measureHeap(striped);
+            long refCountedBytes = measureHeap(refCounted);
+
+            log.info("heap after {} users - selective: {}KB, striped: {}KB, ref-counted: {}KB",
+                DISTINCT_USER_COUNT, selectiveBytes / 1024, stripedBytes / 1024,
+                refCountedBytes / 1024);
+
+            // then
+            assertThat(selective.size()).isEqualTo(DISTINCT_USER_COUNT);
+            assertThat(striped.stripes()).isEqualTo(1024);
+            assertThat(refCounted.size()).isZero();
+        }
+
+        private long measureHeap(UserLockProvider lockProvider) {
+            MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+            System.gc();
+            long before = memoryMXBean.getHeapMemoryUsage().getUsed();
+
+            for (long id = 0; id < DISTINCT_USER_COUNT; ++id) {
+                lockProvider.executeWithLock(id, () -> null);
+            }
+
+            System.gc();
+            return Math.max(0L, memoryMXBean.getHeapMemoryUsage().getUsed() - before);
+        }
+    }
+
+    @DisplayName("경합 상황에서의 처리 시간 비교")
+    @Nested
+    class ContentionTest {
+        @DisplayName("한 명의 유저(hot user)와 여러 유저에 대해 동시에 락을 잡을 때의 처리 시간을 비교한다.")
+        @Test
+        void should_CompleteAllTasks_When_Contended() throws InterruptedException {
+            int threadCount = 16;
+            int taskCountPerThread = 20_000;
+
+            for (boolean hotUser : new boolean[]{true, false}) {
+                long selectiveNanos = measureContention(new SelectiveLockFactory(),
+                    threadCount, taskCountPerThread, hotUser);
+                long stripedNanos = measureContention(
+                    new StripedUserLockProvider(new LockProperties(1024)),
+                    threadCount, taskCountPerThread, hotUser);
+                long refCountedNanos = measureContention(new RefCountedUserLockProvider(),
+                    threadCount, taskCountPerThread, hotUser);
+
+                log.info("{} - selective: {}ms, striped: {}ms, ref-counted: {}ms",
+                    hotUser ? "hot user" : "many users", selectiveNanos / 1_000_000,
+                    stripedNanos / 1_000_000, refCountedNanos / 1_000_000);
+            }
+        }
+
+        private long measureContention(UserLockProvider lockProvider, int threadCount,
+            int taskCountPerThread, boolean hotUser) throws InterruptedException {
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+            AtomicLong executed = new AtomicLong();
+
+            long start = System.nanoTime();
+            for (int i = 0; i < threadCount; ++i) {
+                long base = (long) i * taskCountPerThread;
+                executorService.submit(() -> {
+                    try {
+                        for (int j = 0; j < taskCountPerThread; ++j) {
+                            long id = hotUser ? 1L : base + j;
+                            lockProvider.executeWithLock(id, executed::incrementAndGet);
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            long elapsed = System.nanoTime() - start;
+            executorService.shutdown();
+
+            assertThat(executed.get()).isEqualTo((long) threadCount * taskCountPerThread);
+            return elapsed;
+        }
+    }
+}
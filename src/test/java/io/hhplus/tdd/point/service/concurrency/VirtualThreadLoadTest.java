@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point.service.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.service.PointService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 플랫폼 스레드 풀(Tomcat 기본 최대 200개)과 virtual thread로 같은 요청 수를 처리할 때의 처리량 비교
+ * - 테이블의 지연은 sleep으로 흉내낸 blocking I/O이므로, 동시에 처리할 수 있는 요청 수가 곧 처리량이 된다.
+ */
+@SpringBootTest
+public class VirtualThreadLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final int REQUEST_COUNT = 1_000;
+
+    @Autowired
+    private PointService pointService;
+
+    @DisplayName("virtual thread 처리량 테스트")
+    @Nested
+    class ThroughputTest {
+        @DisplayName("서로 다른 유저의 충전 요청을 virtual thread로 처리하면 플랫폼 스레드 풀보다 빨리 끝난다.")
+        @Test
+        void should_FinishFaster_When_UseVirtualThreads() throws InterruptedException {
+            // when
+            long platformMillis;
+            try (ExecutorService platform = Executors.newFixedThreadPool(PLATFORM_POOL_SIZE)) {
+                platformMillis = executeCharges(platform, 1_000_000L);
+            }
+
+            long virtualMillis;
+            try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+                virtualMillis = executeCharges(virtual, 2_000_000L);
+            }
+
+            log.info("{} requests - platform({} threads): {}ms ({} req/s), virtual: {}ms ({} req/s)",
+                REQUEST_COUNT, PLATFORM_POOL_SIZE,
+                platformMillis, REQUEST_COUNT * 1000L / Math.max(1L, platformMillis),
+                virtualMillis, REQUEST_COUNT * 1000L / Math.max(1L, virtualMillis));
+
+            // then
+            assertThat(virtualMillis).isLessThan(platformMillis);
+        }
+
+        private long executeCharges(ExecutorService executorService, long baseUserId)
+            throws InterruptedException {
+            CountDownLatch latch = new CountDownLatch(REQUEST_COUNT);
+            AtomicInteger succeeded = new AtomicInteger();
+
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUEST_COUNT; ++i) {
+                long userId = baseUserId + i;
+                executorService.submit(() -> {
+                    try {
+                        pointService.charge(userId, 100L);
+                        succeeded.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await(1, TimeUnit.MINUTES);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertThat(succeeded.get()).isEqualTo(REQUEST_COUNT);
+            return elapsedMillis;
+        }
+    }
+}
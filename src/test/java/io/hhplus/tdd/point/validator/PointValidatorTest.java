@@ -39,4 +39,52 @@ class PointValidatorTest {
                 .hasMessage(PointErrorCode.INVALID_POINT_AMOUNT.getMessage());
         }
     }
-}
\ No newline at end of file
+    @DisplayName("내역 조회 조건 검사 테스트")
+    @Nested
+    class CheckHistoryQueryTest {
+        @DisplayName("limit이 최대 조회 건수를 넘으면 PointException이 발생한다.")
+        @Test
+        void should_ThrowPointException_When_LimitExceedsMax() {
+            // given
+            int limit = PointValidator.MAX_HISTORY_LIMIT + 1;
+
+            // when, then
+            assertThatThrownBy(() -> pointValidator.checkHistoryQuery(limit, null, null))
+                .isInstanceOf(PointException.class)
+                .hasMessage(PointErrorCode.INVALID_HISTORY_QUERY.getMessage());
+        }
+
+        @DisplayName("조회 시작 시각이 끝 시각보다 늦으면 PointException이 발생한다.")
+        @Test
+        void should_ThrowPointException_When_FromIsAfterTo() {
+            // given
+            long from = 2_000L;
+            long to = 1_000L;
+
+            // when, then
+            assertThatThrownBy(() -> pointValidator.checkHistoryQuery(10, from, to))
+                .isInstanceOf(PointException.class)
+                .hasMessage(PointErrorCode.INVALID_HISTORY_QUERY.getMessage());
+        }
+    }
+
+    @DisplayName("Idempotency-Key 검사 테스트")
+    @Nested
+    class CheckIdempotencyKeyTest {
+        @DisplayName("Idempotency-Key가 비어 있거나 최대 길이를 넘으면 PointException이 발생한다.")
+        @Test
+        void should_ThrowPointException_When_KeyIsBlankOrTooLong() {
+            // given
+            String blankKey = " ";
+            String tooLongKey = "k".repeat(PointValidator.MAX_IDEMPOTENCY_KEY_LENGTH + 1);
+
+            // when, then
+            assertThatThrownBy(() -> pointValidator.checkIdempotencyKey(blankKey))
+                .isInstanceOf(PointException.class)
+                .hasMessage(PointErrorCode.INVALID_IDEMPOTENCY_KEY.getMessage());
+            assertThatThrownBy(() -> pointValidator.checkIdempotencyKey(tooLongKey))
+                .isInstanceOf(PointException.class)
+                .hasMessage(PointErrorCode.INVALID_IDEMPOTENCY_KEY.getMessage());
+        }
+    }
+}